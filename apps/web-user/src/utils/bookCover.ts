@@ -1,3 +1,5 @@
+import { resolveBffBaseUrl } from '../api/client'
+
 export type BookCoverSize = 'S' | 'M' | 'L'
 
 function normalizeIsbn13(value?: string | null) {
@@ -78,7 +80,12 @@ export function buildBookCoverUrl(
   size: BookCoverSize = 'L',
 ) {
   if (isValidRemoteUrl(coverUrl)) {
-    return coverUrl!.trim()
+    const trimmed = coverUrl!.trim()
+    // Generated covers are served by the BFF, not the web origin.
+    if (trimmed.startsWith('/covers/')) {
+      return `${resolveBffBaseUrl().replace(/\/+$/, '')}${trimmed}`
+    }
+    return trimmed
   }
 
   const sourceMode = String(import.meta.env.VITE_BOOK_COVER_SOURCE ?? 'generated').toLowerCase()
@@ -0,0 +1,54 @@
+package com.bsl.bff.api;
+
+import com.bsl.bff.client.SearchServiceClient;
+import com.bsl.bff.common.BadRequestException;
+import com.bsl.bff.common.RequestContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Proxies search-service generated covers so the relative cover_url resolves against the BFF. */
+@RestController
+public class CoverController {
+    private static final String[] PASSTHROUGH_HEADERS = {
+        HttpHeaders.CONTENT_TYPE,
+        HttpHeaders.CACHE_CONTROL,
+        HttpHeaders.ETAG
+    };
+
+    private final SearchServiceClient searchServiceClient;
+
+    public CoverController(SearchServiceClient searchServiceClient) {
+        this.searchServiceClient = searchServiceClient;
+    }
+
+    @GetMapping({"/covers/{docId}.svg", "/v1/covers/{docId}.svg"})
+    public ResponseEntity<byte[]> getCover(
+        @PathVariable("docId") String docId,
+        @RequestParam(value = "v", required = false) String version,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (docId == null || docId.trim().isEmpty()) {
+            throw new BadRequestException("docId is required");
+        }
+
+        ResponseEntity<byte[]> downstream = searchServiceClient.fetchCover(
+            docId,
+            version,
+            ifNoneMatch,
+            RequestContextHolder.get()
+        );
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : PASSTHROUGH_HEADERS) {
+            String value = downstream.getHeaders().getFirst(name);
+            if (value != null) {
+                headers.set(name, value);
+            }
+        }
+        return new ResponseEntity<>(downstream.getBody(), headers, downstream.getStatusCode());
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Component
 public class SearchServiceClient {
@@ -80,4 +81,38 @@ public class SearchServiceClient {
             throw new DownstreamException(status, code, "Search service error");
         }
     }
+
+    public ResponseEntity<byte[]> fetchCover(String docId, String version, String ifNoneMatch, RequestContext context) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromHttpUrl(properties.getBaseUrl())
+            .path("/covers/{docId}.svg");
+        if (version != null) {
+            url.queryParam("v", version);
+        }
+        HttpHeaders headers = DownstreamHeaders.from(context);
+        if (ifNoneMatch != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        try {
+            return restTemplate.exchange(
+                url.buildAndExpand(docId).encode().toUri(),
+                HttpMethod.GET,
+                entity,
+                byte[].class
+            );
+        } catch (ResourceAccessException ex) {
+            throw new DownstreamException(HttpStatus.SERVICE_UNAVAILABLE, "search_service_timeout", "Search service timeout");
+        } catch (HttpStatusCodeException ex) {
+            HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+            if (status == null) {
+                status = HttpStatus.SERVICE_UNAVAILABLE;
+            }
+            if (status == HttpStatus.NOT_FOUND) {
+                throw new DownstreamException(HttpStatus.NOT_FOUND, "not_found", "Cover not found");
+            }
+            String code = status.is4xxClientError() ? "search_service_bad_request" : "search_service_error";
+            throw new DownstreamException(status, code, "Search service error");
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.bsl.bff.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.bsl.bff.audit.AuditLogRepository;
+import com.bsl.bff.client.SearchServiceClient;
+import com.bsl.bff.common.ApiExceptionHandler;
+import com.bsl.bff.common.BffRequestContextFilter;
+import com.bsl.bff.security.PiiMasker;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@WebMvcTest(
+    controllers = CoverController.class,
+    excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = OncePerRequestFilter.class)
+)
+@Import({BffRequestContextFilter.class, ApiExceptionHandler.class})
+class CoverControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchServiceClient searchServiceClient;
+
+    @MockBean
+    private AuditLogRepository auditLogRepository;
+
+    @MockBean
+    private PiiMasker piiMasker;
+
+    @Test
+    void proxiesCoverWithCacheHeaders() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, "image/svg+xml");
+        headers.set(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable");
+        headers.set(HttpHeaders.ETAG, "\"abc\"");
+        headers.set("X-Internal", "drop-me");
+        when(searchServiceClient.fetchCover(eq("b1"), eq("abc"), eq(null), any()))
+            .thenReturn(new ResponseEntity<>("<svg/>".getBytes(StandardCharsets.UTF_8), headers, HttpStatus.OK));
+
+        mockMvc.perform(get("/covers/b1.svg").param("v", "abc"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "image/svg+xml"))
+            .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+            .andExpect(header().string("ETag", "\"abc\""))
+            .andExpect(header().doesNotExist("X-Internal"))
+            .andExpect(content().string("<svg/>"));
+    }
+
+    @Test
+    void relaysNotModifiedForMatchingEtag() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ETAG, "\"abc\"");
+        when(searchServiceClient.fetchCover(eq("b1"), eq("abc"), eq("W/\"abc\""), any()))
+            .thenReturn(new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED));
+
+        mockMvc.perform(get("/v1/covers/b1.svg").param("v", "abc").header("If-None-Match", "W/\"abc\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"abc\""));
+    }
+}
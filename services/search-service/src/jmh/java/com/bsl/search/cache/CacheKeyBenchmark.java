@@ -0,0 +1,74 @@
+package com.bsl.search.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * SERP cache-key hashing for a filtered request: the previous JSON + SHA-256
+ * path over a {@code HashMap} against {@link CacheKeyBuilder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheKeyBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Map<String, Object> serpFields;
+
+    @Setup
+    public void setUp() {
+        serpFields = new HashMap<>();
+        serpFields.put("q", "해리 포터와 마법사의 돌");
+        serpFields.put("lexical", true);
+        serpFields.put("vector", true);
+        serpFields.put("lexical_top_k", 200);
+        serpFields.put("vector_top_k", 200);
+        serpFields.put("rrf_k", 60);
+        serpFields.put("rerank", true);
+        serpFields.put("rerank_top_k", 50);
+        serpFields.put("from", 0);
+        serpFields.put("size", 20);
+        serpFields.put("boost", Map.of("title_ko", 3.0, "authors.name_ko", 2.0));
+        serpFields.put("operator", "and");
+        serpFields.put("filters", List.of(Map.of("terms", Map.of("kdc_code", List.of("813", "843")))));
+        serpFields.put("mode", "hybrid");
+        serpFields.put("experiment", "control");
+    }
+
+    @Benchmark
+    public Object hashJson() throws JsonProcessingException {
+        return CacheKeyUtil.sha256(objectMapper.writeValueAsString(serpFields));
+    }
+
+    @Benchmark
+    public Object canonical() {
+        return CacheKeyBuilder.create()
+            .field("q", "해리 포터와 마법사의 돌")
+            .field("lexical", true)
+            .field("vector", true)
+            .field("lexical_top_k", 200)
+            .field("vector_top_k", 200)
+            .field("rrf_k", 60)
+            .field("rerank", true)
+            .field("rerank_top_k", 50)
+            .field("from", 0)
+            .field("size", 20)
+            .field("boost", serpFields.get("boost"))
+            .field("operator", "and")
+            .field("filters", serpFields.get("filters"))
+            .field("mode", "hybrid")
+            .field("experiment", "control")
+            .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.bsl.search.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Offline OpenSearch responses under {@code src/jmh/resources/fixtures}. They
+ * follow the {@code books_doc} mapping and the {@code CANDIDATE} source
+ * projection, with records taken from {@code data/nlk/raw/book_sample.json}.
+ */
+public final class Fixtures {
+    public static final String LEXICAL_SEARCH = "fixtures/opensearch/lexical_search_response.json";
+    public static final String MGET_CANDIDATE = "fixtures/opensearch/mget_candidate_response.json";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private Fixtures() {
+    }
+
+    public static byte[] bytes(String name) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("missing fixture " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static JsonNode json(String name) {
+        try {
+            return OBJECT_MAPPER.readTree(bytes(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** {@code _source} of every found doc in the mget fixture, keyed by doc id. */
+    public static Map<String, JsonNode> candidateSources() {
+        Map<String, JsonNode> sources = new LinkedHashMap<>();
+        for (JsonNode doc : json(MGET_CANDIDATE).path("docs")) {
+            JsonNode source = doc.path("_source");
+            sources.put(source.path("doc_id").asText(), source);
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,184 @@
+package com.bsl.search.merge;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Map-and-full-sort fusion (the previous {@code rankMap} + {@code RrfFusion}
+ * path) against {@link FusionEngine}. Both read what a search reads: every
+ * candidate id for the source fetch and the first page of candidates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FusionBenchmark {
+    private static final int RRF_K = 60;
+    private static final int RERANK_TOP_K = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"50", "200", "1000"})
+    public int candidates;
+
+    private List<String> lexDocIds;
+    private List<String> vecDocIds;
+    private Map<String, Double> lexScores;
+    private Map<String, Double> vecScores;
+    private Map<String, Integer> lexRanks;
+    private Map<String, Integer> vecRanks;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(13);
+        lexDocIds = new ArrayList<>(candidates);
+        vecDocIds = new ArrayList<>(candidates);
+        lexScores = new LinkedHashMap<>();
+        vecScores = new LinkedHashMap<>();
+        for (int i = 0; i < candidates; i++) {
+            String lex = "b" + random.nextInt(candidates * 2);
+            String vec = "b" + random.nextInt(candidates * 2);
+            lexDocIds.add(lex);
+            vecDocIds.add(vec);
+            lexScores.putIfAbsent(lex, 20.0 - i * 0.01);
+            vecScores.putIfAbsent(vec, 0.9 - i * 0.0001);
+        }
+        lexRanks = LegacyFusion.rankMap(lexDocIds);
+        vecRanks = LegacyFusion.rankMap(vecDocIds);
+    }
+
+    @Benchmark
+    public Object mapSort() {
+        List<RrfFusion.Candidate> fused = LegacyFusion.fuse(
+            LegacyFusion.rankMap(lexDocIds),
+            LegacyFusion.rankMap(vecDocIds),
+            RRF_K,
+            lexScores,
+            vecScores
+        );
+        List<String> docIds = new ArrayList<>(fused.size());
+        for (RrfFusion.Candidate candidate : fused) {
+            docIds.add(candidate.getDocId());
+        }
+        double sum = docIds.size();
+        for (int i = 0; i < Math.min(PAGE_SIZE, fused.size()); i++) {
+            sum += fused.get(i).getScore();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object engine() {
+        FusedCandidates fused = FusionEngine.fuse(
+            lexDocIds,
+            vecDocIds,
+            RRF_K,
+            1.0,
+            1.0,
+            lexScores,
+            vecScores,
+            RERANK_TOP_K
+        );
+        double sum = fused.docIds().size();
+        for (int i = 0; i < Math.min(PAGE_SIZE, fused.size()); i++) {
+            sum += fused.get(i).getScore();
+        }
+        return sum;
+    }
+
+    /** {@link RrfFusion} over prebuilt rank maps, as the ranking callers use it. */
+    @Benchmark
+    public Object rrfFusion() {
+        List<RrfFusion.Candidate> fused = RrfFusion.fuse(lexRanks, vecRanks, RRF_K, lexScores, vecScores);
+        double sum = fused.size();
+        for (int i = 0; i < Math.min(PAGE_SIZE, fused.size()); i++) {
+            sum += fused.get(i).getScore();
+        }
+        return sum;
+    }
+
+    /** The pre-engine implementation, kept here as the baseline. */
+    private static final class LegacyFusion {
+        private static Map<String, Integer> rankMap(List<String> docIds) {
+            Map<String, Integer> ranks = new HashMap<>();
+            for (int i = 0; i < docIds.size(); i++) {
+                String docId = docIds.get(i);
+                if (!ranks.containsKey(docId)) {
+                    ranks.put(docId, i + 1);
+                }
+            }
+            return ranks;
+        }
+
+        private static List<RrfFusion.Candidate> fuse(
+            Map<String, Integer> lexRanks,
+            Map<String, Integer> vecRanks,
+            int k,
+            Map<String, Double> lexScores,
+            Map<String, Double> vecScores
+        ) {
+            Map<String, Mutable> candidates = new HashMap<>();
+            for (Map.Entry<String, Integer> entry : lexRanks.entrySet()) {
+                Mutable candidate = candidates.computeIfAbsent(entry.getKey(), Mutable::new);
+                candidate.lexRank = entry.getValue();
+                candidate.score += 1.0 / (k + entry.getValue());
+                candidate.bm25Score = lexScores.get(entry.getKey());
+            }
+            for (Map.Entry<String, Integer> entry : vecRanks.entrySet()) {
+                Mutable candidate = candidates.computeIfAbsent(entry.getKey(), Mutable::new);
+                candidate.vecRank = entry.getValue();
+                candidate.score += 1.0 / (k + entry.getValue());
+                candidate.vecScore = vecScores.get(entry.getKey());
+            }
+            List<Mutable> mutable = new ArrayList<>(candidates.values());
+            mutable.sort(Comparator.comparingDouble(Mutable::getScore).reversed().thenComparing(Mutable::getDocId));
+            List<RrfFusion.Candidate> fused = new ArrayList<>(mutable.size());
+            for (int i = 0; i < mutable.size(); i++) {
+                Mutable candidate = mutable.get(i);
+                fused.add(new RrfFusion.Candidate(
+                    candidate.docId,
+                    candidate.score,
+                    candidate.lexRank,
+                    candidate.vecRank,
+                    i + 1,
+                    candidate.bm25Score,
+                    candidate.vecScore
+                ));
+            }
+            return fused;
+        }
+
+        private static final class Mutable {
+            private final String docId;
+            private double score;
+            private Integer lexRank;
+            private Integer vecRank;
+            private Double bm25Score;
+            private Double vecScore;
+
+            private Mutable(String docId) {
+                this.docId = docId;
+            }
+
+            private String getDocId() {
+                return docId;
+            }
+
+            private double getScore() {
+                return score;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bsl.search.opensearch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Query-body construction and serialization as sent to OpenSearch: the
+ * lexical multi_match DSL and a 384-dim kNN body. No request leaves the JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenSearchQueryBuildBenchmark {
+    private static final int TOP_K = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OpenSearchGateway gateway;
+    private float[] vector;
+    private List<Map<String, Object>> filters;
+
+    @Setup
+    public void setUp() {
+        gateway = new OpenSearchGateway(new RestTemplate(), objectMapper, new OpenSearchProperties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
+        Random random = new Random(5);
+        vector = new float[384];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        filters = List.of(Map.of("terms", Map.of("kdc_code", List.of("813", "843"))));
+    }
+
+    @Benchmark
+    public Object lexicalBody() throws JsonProcessingException {
+        OpenSearchSearchRequest request = gateway.buildLexicalRequest(
+            "해리 포터와 마법사의 돌",
+            TOP_K,
+            Map.of("title_ko", 3.0),
+            null,
+            null,
+            filters,
+            null,
+            false
+        );
+        return objectMapper.writeValueAsBytes(request.getBody());
+    }
+
+    @Benchmark
+    public Object vectorBody() throws JsonProcessingException {
+        OpenSearchSearchRequest request = gateway.buildVectorRequest(vector, TOP_K, filters, false);
+        return objectMapper.writeValueAsBytes(request.getBody());
+    }
+}
@@ -0,0 +1,104 @@
+package com.bsl.search.opensearch;
+
+import com.bsl.search.jmh.Fixtures;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Tree-based parsing (String body, readTree, two walks) against the streaming
+ * reader over the recorded 100-hit search and mget fixtures. Run with
+ * {@code ./gradlew :services:search-service:jmh} and compare
+ * {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenSearchResponseParseBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] searchResponse;
+    private byte[] mgetResponse;
+
+    @Setup
+    public void setUp() {
+        searchResponse = Fixtures.bytes(Fixtures.LEXICAL_SEARCH);
+        mgetResponse = Fixtures.bytes(Fixtures.MGET_CANDIDATE);
+    }
+
+    @Benchmark
+    public Object searchTree() throws IOException {
+        JsonNode response = objectMapper.readTree(new String(searchResponse, StandardCharsets.UTF_8));
+        List<String> docIds = new ArrayList<>();
+        for (JsonNode hit : response.path("hits").path("hits")) {
+            String docId = hit.path("_source").path("doc_id").asText(null);
+            if (docId == null || docId.isEmpty()) {
+                docId = hit.path("_id").asText(null);
+            }
+            if (docId != null) {
+                docIds.add(docId);
+            }
+        }
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (JsonNode hit : response.path("hits").path("hits")) {
+            String docId = hit.path("_source").path("doc_id").asText(null);
+            if (docId == null || docId.isEmpty()) {
+                docId = hit.path("_id").asText(null);
+            }
+            JsonNode scoreNode = hit.get("_score");
+            if (docId != null && scoreNode != null && scoreNode.isNumber()) {
+                scores.put(docId, scoreNode.asDouble());
+            }
+        }
+        return scores.size() + docIds.size();
+    }
+
+    @Benchmark
+    public Object searchStreaming() throws IOException {
+        try (JsonParser parser = objectMapper.createParser(new ByteArrayInputStream(searchResponse))) {
+            return OpenSearchResponseParser.parseSearchHits(parser);
+        }
+    }
+
+    @Benchmark
+    public Object mgetTree() throws IOException {
+        JsonNode response = objectMapper.readTree(new String(mgetResponse, StandardCharsets.UTF_8));
+        Map<String, JsonNode> sources = new LinkedHashMap<>();
+        for (JsonNode docNode : response.path("docs")) {
+            if (!docNode.path("found").asBoolean(false)) {
+                continue;
+            }
+            JsonNode source = docNode.path("_source");
+            String docId = source.path("doc_id").asText(null);
+            if (docId == null || docId.isEmpty()) {
+                docId = docNode.path("_id").asText(null);
+            }
+            if (docId != null) {
+                sources.put(docId, source);
+            }
+        }
+        return sources;
+    }
+
+    @Benchmark
+    public Object mgetStreaming() throws IOException {
+        try (JsonParser parser = objectMapper.createParser(new ByteArrayInputStream(mgetResponse))) {
+            return OpenSearchResponseParser.parseMgetSources(parser);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bsl.search.service;
+
+import com.bsl.search.api.dto.BookHit;
+import com.bsl.search.cover.CoverImageService;
+import com.bsl.search.cover.CoverProperties;
+import com.bsl.search.jmh.Fixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Hit mapping over the recorded mget fixture: {@code _source} to
+ * {@link BookHit.Source} for a full candidate set (every fixture doc gets a
+ * generated cover URL), and serving that cover from the memoized renderer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HitMappingBenchmark {
+
+    private HybridSearchService service;
+    private CoverImageService coverImageService;
+    private List<Map.Entry<String, JsonNode>> sources;
+
+    @Setup
+    public void setUp() {
+        // Mapping only touches the cover service, so no other collaborators are wired.
+        coverImageService = new CoverImageService(new CoverProperties(), new SimpleMeterRegistry());
+        service = new HybridSearchService(
+            null, null, null, null, null, null, null, null, null, null,
+            null, null, null, null, null, null, null, null, null, null,
+            null, null, coverImageService, null
+        );
+        sources = new ArrayList<>(Fixtures.candidateSources().entrySet());
+    }
+
+    @Benchmark
+    public Object mapSources() {
+        List<BookHit.Source> mapped = new ArrayList<>(sources.size());
+        for (Map.Entry<String, JsonNode> entry : sources) {
+            mapped.add(service.mapSource(entry.getValue(), entry.getKey()));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public Object renderCover() {
+        Map.Entry<String, JsonNode> entry = sources.get(0);
+        JsonNode source = entry.getValue();
+        return coverImageService.render(
+            entry.getKey(),
+            source.path("title_ko").asText(null),
+            source.path("identifiers").path("isbn13").asText(null)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.bsl.search.service.grouping;
+
+import com.bsl.search.api.dto.BookHit;
+import com.bsl.search.jmh.Fixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** {@link MaterialGroupingService#apply} over the hits of the recorded mget fixture. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MaterialGroupingBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private MaterialGroupingService service;
+    private List<BookHit> hits;
+    private String queryText;
+
+    @Setup
+    public void setUp() {
+        MaterialGroupingProperties properties = new MaterialGroupingProperties();
+        properties.setEnabled(true);
+        service = new MaterialGroupingService(properties);
+
+        hits = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : Fixtures.candidateSources().entrySet()) {
+            JsonNode source = entry.getValue();
+            BookHit.Source mapped = new BookHit.Source();
+            mapped.setTitleKo(source.path("title_ko").asText(null));
+            mapped.setPublisherName(source.path("publisher_name").asText(null));
+            if (source.path("issued_year").isNumber()) {
+                mapped.setIssuedYear(source.path("issued_year").asInt());
+            }
+            if (source.path("volume").isNumber()) {
+                mapped.setVolume(source.path("volume").asInt());
+            }
+            BookHit hit = new BookHit();
+            hit.setDocId(entry.getKey());
+            hit.setScore(1.0 / (hits.size() + 1));
+            hit.setRank(hits.size() + 1);
+            hit.setSource(mapped);
+            hits.add(hit);
+        }
+        queryText = hits.get(0).getSource().getTitleKo();
+    }
+
+    @Benchmark
+    public Object apply() {
+        return service.apply(queryText, hits, PAGE_SIZE);
+    }
+}
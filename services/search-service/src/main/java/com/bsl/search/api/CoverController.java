@@ -0,0 +1,115 @@
+package com.bsl.search.api;
+
+import com.bsl.search.api.dto.BookHit;
+import com.bsl.search.api.dto.ErrorResponse;
+import com.bsl.search.cover.CoverImageService;
+import com.bsl.search.opensearch.OpenSearchUnavailableException;
+import com.bsl.search.service.BookDetailResult;
+import com.bsl.search.service.HybridSearchService;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class CoverController {
+    private static final MediaType SVG = MediaType.parseMediaType("image/svg+xml");
+
+    private final HybridSearchService searchService;
+    private final CoverImageService coverImageService;
+
+    public CoverController(HybridSearchService searchService, CoverImageService coverImageService) {
+        this.searchService = searchService;
+        this.coverImageService = coverImageService;
+    }
+
+    @GetMapping("/covers/{docId}.svg")
+    public ResponseEntity<?> getCover(
+        @PathVariable("docId") String docId,
+        @RequestParam(value = "v", required = false) String version,
+        @RequestHeader(value = "x-trace-id", required = false) String traceIdHeader,
+        @RequestHeader(value = "x-request-id", required = false) String requestIdHeader,
+        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        String traceId = normalizeOrGenerate(traceIdHeader);
+        String requestId = normalizeOrGenerate(requestIdHeader);
+
+        try {
+            BookDetailResult result = searchService.getBookById(docId, traceId, requestId);
+            if (result == null || result.getResponse() == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    new ErrorResponse("not_found", "Book not found", traceId, requestId)
+                );
+            }
+            BookHit.Source source = result.getResponse().getSource();
+            CoverImageService.GeneratedCover cover = coverImageService.render(
+                docId,
+                source == null ? null : source.getTitleKo(),
+                source == null ? null : source.getIsbn13()
+            );
+            // Only a URL naming the current version may be cached forever; a stale or bare URL revalidates.
+            CacheControl cacheControl = cover.getVersion().equals(version)
+                ? CacheControl.maxAge(coverImageService.getCacheControlMaxAgeSeconds(), TimeUnit.SECONDS)
+                    .cachePublic()
+                    .immutable()
+                : CacheControl.noCache().cachePublic();
+
+            if (matchesIfNoneMatch(ifNoneMatch, cover.getVersion())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cover.getEtag())
+                    .cacheControl(cacheControl)
+                    .build();
+            }
+            return ResponseEntity.ok()
+                .eTag(cover.getEtag())
+                .cacheControl(cacheControl)
+                .contentType(SVG)
+                .body(cover.getSvg());
+        } catch (OpenSearchUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                new ErrorResponse("opensearch_unavailable", "OpenSearch is unavailable", traceId, requestId)
+            );
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                new ErrorResponse("internal_error", "Unexpected error", traceId, requestId)
+            );
+        }
+    }
+
+    /** Weak comparison over a comma-separated {@code If-None-Match} list, as RFC 9110 requires for GET. */
+    static boolean matchesIfNoneMatch(String ifNoneMatch, String version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            if (tag.equals(version)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String normalizeOrGenerate(String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            return value;
+        }
+        return UUID.randomUUID().toString();
+    }
+}
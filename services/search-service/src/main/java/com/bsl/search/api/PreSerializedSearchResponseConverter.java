@@ -0,0 +1,71 @@
+package com.bsl.search.api;
+
+import com.bsl.search.api.dto.PreSerializedSearchResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes SERP cache hits straight to the response stream: the per-request fields
+ * are generated first and the cached JSON body is appended as raw bytes.
+ */
+@Component
+public class PreSerializedSearchResponseConverter extends AbstractHttpMessageConverter<PreSerializedSearchResponse> {
+    private final ObjectMapper objectMapper;
+
+    public PreSerializedSearchResponseConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreSerializedSearchResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreSerializedSearchResponse readInternal(
+        Class<? extends PreSerializedSearchResponse> clazz,
+        HttpInputMessage inputMessage
+    ) {
+        throw new HttpMessageNotReadableException("Pre-serialized responses are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PreSerializedSearchResponse response, HttpOutputMessage outputMessage)
+        throws IOException {
+        OutputStream out = outputMessage.getBody();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject();
+            generator.writeStringField("trace_id", response.getTraceId());
+            generator.writeStringField("request_id", response.getRequestId());
+            generator.writeNumberField("took_ms", response.getTookMs());
+            generator.writeFieldName("debug");
+            objectMapper.writeValue(generator, response.getDebug());
+            generator.flush();
+        }
+        byte[] body = response.getSerializedBody();
+        if (body.length > 2) {
+            out.write(',');
+            out.write(body, 1, body.length - 1);
+        } else {
+            out.write('}');
+        }
+        out.flush();
+    }
+}
@@ -5,6 +5,7 @@ import com.bsl.search.api.dto.QueryContext;
 import com.bsl.search.api.dto.QueryContextV1_1;
 import com.bsl.search.api.dto.SearchRequest;
 import com.bsl.search.api.dto.SearchResponse;
+import com.bsl.search.execution.SearchOverloadedException;
 import com.bsl.search.opensearch.OpenSearchUnavailableException;
 import com.bsl.search.service.BookDetailResult;
 import com.bsl.search.service.HybridSearchService;
@@ -14,6 +15,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -62,6 +64,10 @@ public class SearchController {
             return ResponseEntity.badRequest().body(
                 new ErrorResponse("bad_request", e.getMessage(), traceId, requestId)
             );
+        } catch (SearchOverloadedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("search_overloaded", "Search is overloaded", traceId, requestId));
         } catch (OpenSearchUnavailableException e) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
                 new ErrorResponse("opensearch_unavailable", "OpenSearch is unavailable", traceId, requestId)
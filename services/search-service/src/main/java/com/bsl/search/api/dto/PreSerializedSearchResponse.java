@@ -0,0 +1,65 @@
+package com.bsl.search.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Search response served from the SERP cache. {@code serializedBody} already holds
+ * the JSON object for every field except trace_id, request_id, took_ms and debug,
+ * which are spliced in when the response is written. Hits are only decoded if a
+ * caller asks for them.
+ */
+public class PreSerializedSearchResponse extends SearchResponse {
+    private static final TypeReference<List<BookHit>> HITS_TYPE = new TypeReference<>() {
+    };
+
+    private final byte[] serializedBody;
+    private final ObjectMapper objectMapper;
+    private volatile boolean hitsDecoded;
+
+    public PreSerializedSearchResponse(byte[] serializedBody, ObjectMapper objectMapper) {
+        this.serializedBody = serializedBody;
+        this.objectMapper = objectMapper;
+    }
+
+    @JsonIgnore
+    public byte[] getSerializedBody() {
+        return serializedBody;
+    }
+
+    @Override
+    public List<BookHit> getHits() {
+        if (!hitsDecoded) {
+            synchronized (this) {
+                if (!hitsDecoded) {
+                    super.setHits(decodeHits());
+                    hitsDecoded = true;
+                }
+            }
+        }
+        return super.getHits();
+    }
+
+    @Override
+    public void setHits(List<BookHit> hits) {
+        super.setHits(hits);
+        hitsDecoded = true;
+    }
+
+    private List<BookHit> decodeHits() {
+        try {
+            JsonNode hits = objectMapper.readTree(serializedBody).get("hits");
+            if (hits == null || hits.isNull()) {
+                return null;
+            }
+            return objectMapper.convertValue(hits, HITS_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode cached hits", e);
+        }
+    }
+}
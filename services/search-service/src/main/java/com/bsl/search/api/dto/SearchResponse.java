@@ -96,6 +96,20 @@ public class SearchResponse {
         this.experimentBucket = experimentBucket;
     }
 
+    /**
+     * The request-independent result: every field except trace/request ids,
+     * took_ms and debug.
+     */
+    public SearchResponse copyResult() {
+        SearchResponse copied = new SearchResponse();
+        copied.setRankingApplied(isRankingApplied());
+        copied.setStrategy(getStrategy());
+        copied.setTotal(getTotal());
+        copied.setHits(getHits());
+        copied.setExperimentBucket(getExperimentBucket());
+        return copied;
+    }
+
     public static class Debug {
         @JsonProperty("applied_fallback_id")
         private String appliedFallbackId;
@@ -427,6 +441,8 @@ public class SearchResponse {
 
         private String key;
 
+        private boolean stale;
+
         public boolean isHit() {
             return hit;
         }
@@ -458,5 +474,13 @@ public class SearchResponse {
         public void setKey(String key) {
             this.key = key;
         }
+
+        public boolean isStale() {
+            return stale;
+        }
+
+        public void setStale(boolean stale) {
+            this.stale = stale;
+        }
     }
 }
@@ -0,0 +1,455 @@
+package com.bsl.search.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * Weight-bounded TTL cache with W-TinyLFU admission.
+ *
+ * <p>New entries land in a small LRU window. When the window overflows, its
+ * oldest entry competes with the main region's eviction victim and is only
+ * admitted if the frequency sketch has seen it more often, so one-off keys
+ * cannot flush hot ones. The main region is a segmented LRU (probation +
+ * protected). Expired entries are reclaimed through a timer wheel.
+ *
+ * <p>Reads are lock-free against the backing map; policy bookkeeping for reads
+ * is skipped when the lock is contended, the same lossy trade-off Caffeine's
+ * read buffers make.
+ */
+public class AdmissionCache<V> {
+    private static final double WINDOW_RATIO = 0.01d;
+    private static final double PROTECTED_RATIO = 0.80d;
+    private static final int WHEEL_BUCKETS = 512;
+    private static final long WHEEL_TICK_MS = 128L;
+
+    private enum Region {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private final String name;
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final long protectedMaxWeight;
+    private final CacheWeigher<V> weigher;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, Node<V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch = new FrequencySketch();
+    private final AccessQueue<V> window = new AccessQueue<>();
+    private final AccessQueue<V> probation = new AccessQueue<>();
+    private final AccessQueue<V> protectedQueue = new AccessQueue<>();
+    private final Node<V>[] wheel;
+
+    private long windowWeight;
+    private long protectedWeight;
+    private final AtomicLong totalWeight = new AtomicLong();
+    private long lastTick;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter rejections;
+
+    public AdmissionCache(String name, long maxWeightBytes, CacheWeigher<V> weigher, MeterRegistry meterRegistry) {
+        this(name, maxWeightBytes, weigher, meterRegistry, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    AdmissionCache(
+        String name,
+        long maxWeightBytes,
+        CacheWeigher<V> weigher,
+        MeterRegistry meterRegistry,
+        LongSupplier clock
+    ) {
+        this.name = name;
+        this.maxWeight = Math.max(1L, maxWeightBytes);
+        this.windowMaxWeight = Math.max(1L, (long) (maxWeight * WINDOW_RATIO));
+        this.protectedMaxWeight = (long) ((maxWeight - windowMaxWeight) * PROTECTED_RATIO);
+        this.weigher = weigher;
+        this.clock = clock;
+        this.wheel = new Node[WHEEL_BUCKETS];
+        for (int i = 0; i < WHEEL_BUCKETS; i++) {
+            Node<V> sentinel = new Node<>(null);
+            sentinel.wheelPrev = sentinel;
+            sentinel.wheelNext = sentinel;
+            wheel[i] = sentinel;
+        }
+        this.lastTick = clock.getAsLong() / WHEEL_TICK_MS;
+
+        this.hits = meterRegistry.counter("sr_cache_requests_total", "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter("sr_cache_requests_total", "cache", name, "result", "miss");
+        this.sizeEvictions = meterRegistry.counter("sr_cache_evictions_total", "cache", name, "cause", "size");
+        this.expiredEvictions = meterRegistry.counter("sr_cache_evictions_total", "cache", name, "cause", "expired");
+        this.rejections = meterRegistry.counter("sr_cache_evictions_total", "cache", name, "cause", "rejected");
+        Gauge.builder("sr_cache_weight_bytes", totalWeight, AtomicLong::get)
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("sr_cache_max_weight_bytes", this, cache -> cache.maxWeight)
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("sr_cache_entries", data, ConcurrentHashMap::size)
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("sr_cache_hit_ratio", this, AdmissionCache::hitRatio)
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Optional<CacheEntry<V>> get(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        long now = clock.getAsLong();
+        Node<V> node = data.get(key);
+        CacheEntry<V> entry = node == null ? null : node.entry;
+        if (entry == null || now > entry.getExpiresAt()) {
+            misses.increment();
+            if (lock.tryLock()) {
+                try {
+                    sketch.increment(key);
+                    if (node != null && data.get(key) == node && now > node.entry.getExpiresAt()) {
+                        remove(node);
+                        expiredEvictions.increment();
+                    }
+                    expire(now);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return Optional.empty();
+        }
+        hits.increment();
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(key);
+                if (data.get(key) == node) {
+                    onAccess(node);
+                }
+                expire(now);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return Optional.of(entry);
+    }
+
+    public void put(String key, V value, long ttlMs) {
+        long now = clock.getAsLong();
+        put(key, value, now, now + ttlMs);
+    }
+
+    /** Stores a value created elsewhere (e.g. read from a shared tier), keeping its original timestamps. */
+    public void put(String key, V value, long createdAt, long expiresAt) {
+        long now = clock.getAsLong();
+        if (key == null || value == null || expiresAt <= now) {
+            return;
+        }
+        long weight = Math.max(1L, weigher.weigh(key, value));
+        CacheEntry<V> entry = new CacheEntry<>(value, createdAt, expiresAt);
+        lock.lock();
+        try {
+            sketch.increment(key);
+            Node<V> existing = data.get(key);
+            if (weight > maxWeight) {
+                if (existing != null) {
+                    remove(existing);
+                }
+                rejections.increment();
+                return;
+            }
+            if (existing != null) {
+                long delta = weight - existing.weight;
+                existing.entry = entry;
+                existing.weight = weight;
+                totalWeight.addAndGet(delta);
+                if (existing.region == Region.WINDOW) {
+                    windowWeight += delta;
+                } else if (existing.region == Region.PROTECTED) {
+                    protectedWeight += delta;
+                }
+                unschedule(existing);
+                schedule(existing);
+                onAccess(existing);
+            } else {
+                Node<V> node = new Node<>(key);
+                node.entry = entry;
+                node.weight = weight;
+                node.region = Region.WINDOW;
+                data.put(key, node);
+                window.addLast(node);
+                windowWeight += weight;
+                totalWeight.addAndGet(weight);
+                schedule(node);
+                sketch.ensureCapacity(data.size());
+            }
+            expire(now);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean invalidate(String key) {
+        if (key == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            Node<V> node = data.get(key);
+            if (node == null) {
+                return false;
+            }
+            remove(node);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes every entry whose value matches; a full scan, meant for rare bulk invalidations. */
+    public int invalidateIf(BiPredicate<String, V> predicate) {
+        int removed = 0;
+        lock.lock();
+        try {
+            for (Node<V> node : data.values()) {
+                if (predicate.test(node.key, node.entry.getValue())) {
+                    remove(node);
+                    removed++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return removed;
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            for (Node<V> node : data.values()) {
+                remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long weightedSize() {
+        return totalWeight.get();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public int estimatedSize() {
+        return data.size();
+    }
+
+    private double hitRatio() {
+        double hitCount = hits.count();
+        double total = hitCount + misses.count();
+        return total == 0 ? 0.0d : hitCount / total;
+    }
+
+    private void onAccess(Node<V> node) {
+        switch (node.region) {
+            case WINDOW -> window.moveToBack(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.region = Region.PROTECTED;
+                protectedQueue.addLast(node);
+                protectedWeight += node.weight;
+                while (protectedWeight > protectedMaxWeight) {
+                    Node<V> demoted = protectedQueue.peekFirst();
+                    if (demoted == null || demoted == node) {
+                        break;
+                    }
+                    protectedQueue.remove(demoted);
+                    protectedWeight -= demoted.weight;
+                    demoted.region = Region.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case PROTECTED -> protectedQueue.moveToBack(node);
+        }
+    }
+
+    private void evict() {
+        while (windowWeight > windowMaxWeight) {
+            Node<V> candidate = window.peekFirst();
+            if (candidate == null) {
+                break;
+            }
+            window.remove(candidate);
+            windowWeight -= candidate.weight;
+            candidate.region = Region.PROBATION;
+            probation.addLast(candidate);
+            admit(candidate);
+        }
+        while (totalWeight.get() > maxWeight) {
+            Node<V> victim = firstOf(probation, protectedQueue, window);
+            if (victim == null) {
+                break;
+            }
+            remove(victim);
+            sizeEvictions.increment();
+        }
+    }
+
+    private void admit(Node<V> candidate) {
+        while (totalWeight.get() > maxWeight) {
+            Node<V> victim = probation.peekFirst();
+            if (victim == candidate) {
+                victim = protectedQueue.peekFirst();
+            }
+            if (victim == null) {
+                return;
+            }
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                remove(victim);
+                sizeEvictions.increment();
+            } else {
+                remove(candidate);
+                sizeEvictions.increment();
+                return;
+            }
+        }
+    }
+
+    private Node<V> firstOf(AccessQueue<V> first, AccessQueue<V> second, AccessQueue<V> third) {
+        Node<V> node = first.peekFirst();
+        if (node == null) {
+            node = second.peekFirst();
+        }
+        if (node == null) {
+            node = third.peekFirst();
+        }
+        return node;
+    }
+
+    private void remove(Node<V> node) {
+        if (!data.remove(node.key, node)) {
+            return;
+        }
+        switch (node.region) {
+            case WINDOW -> {
+                window.remove(node);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> {
+                protectedQueue.remove(node);
+                protectedWeight -= node.weight;
+            }
+        }
+        unschedule(node);
+        totalWeight.addAndGet(-node.weight);
+    }
+
+    private void expire(long now) {
+        long currentTick = now / WHEEL_TICK_MS;
+        if (currentTick < lastTick) {
+            return;
+        }
+        long ticks = Math.min(currentTick - lastTick + 1, WHEEL_BUCKETS);
+        for (long i = 0; i < ticks; i++) {
+            Node<V> sentinel = wheel[(int) ((lastTick + i) & (WHEEL_BUCKETS - 1))];
+            Node<V> node = sentinel.wheelNext;
+            while (node != sentinel) {
+                Node<V> next = node.wheelNext;
+                if (now > node.entry.getExpiresAt()) {
+                    remove(node);
+                    expiredEvictions.increment();
+                }
+                node = next;
+            }
+        }
+        lastTick = currentTick;
+    }
+
+    private void schedule(Node<V> node) {
+        long tick = node.entry.getExpiresAt() / WHEEL_TICK_MS;
+        Node<V> sentinel = wheel[(int) (tick & (WHEEL_BUCKETS - 1))];
+        node.wheelPrev = sentinel.wheelPrev;
+        node.wheelNext = sentinel;
+        sentinel.wheelPrev.wheelNext = node;
+        sentinel.wheelPrev = node;
+    }
+
+    private void unschedule(Node<V> node) {
+        if (node.wheelPrev == null) {
+            return;
+        }
+        node.wheelPrev.wheelNext = node.wheelNext;
+        node.wheelNext.wheelPrev = node.wheelPrev;
+        node.wheelPrev = null;
+        node.wheelNext = null;
+    }
+
+    private static final class Node<V> {
+        private final String key;
+        private volatile CacheEntry<V> entry;
+        private long weight;
+        private Region region;
+        private Node<V> prev;
+        private Node<V> next;
+        private Node<V> wheelPrev;
+        private Node<V> wheelNext;
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class AccessQueue<V> {
+        private final Node<V> head = new Node<>(null);
+
+        private AccessQueue() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private Node<V> peekFirst() {
+            return head.next == head ? null : head.next;
+        }
+
+        private void addLast(Node<V> node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+
+        private void remove(Node<V> node) {
+            if (node.prev == null) {
+                return;
+            }
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+
+        private void moveToBack(Node<V> node) {
+            remove(node);
+            addLast(node);
+        }
+    }
+}
@@ -8,7 +8,7 @@ import org.springframework.stereotype.Component;
 public class BookCacheProperties {
     private boolean enabled = true;
     private long ttlMs = 60000;
-    private int maxEntries = 2000;
+    private long maxWeightBytes = 16L * 1024 * 1024;
     private String keyPrefix = "book:";
     private int cacheControlMaxAgeSeconds = 60;
 
@@ -28,12 +28,12 @@ public class BookCacheProperties {
         this.ttlMs = ttlMs;
     }
 
-    public int getMaxEntries() {
-        return maxEntries;
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
     }
 
-    public void setMaxEntries(int maxEntries) {
-        this.maxEntries = maxEntries;
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
     }
 
     public String getKeyPrefix() {
@@ -3,6 +3,7 @@ package com.bsl.search.cache;
 import com.bsl.search.api.dto.BookDetailResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
 
@@ -10,12 +11,26 @@ import org.springframework.stereotype.Service;
 public class BookDetailCacheService {
     private final BookCacheProperties properties;
     private final ObjectMapper objectMapper;
-    private final TtlCache<BookDetailResponse> cache;
-
-    public BookDetailCacheService(BookCacheProperties properties, ObjectMapper objectMapper) {
+    private final DocTombstones tombstones;
+    private final MeterRegistry meterRegistry;
+    private final AdmissionCache<BookDetailResponse> cache;
+
+    public BookDetailCacheService(
+        BookCacheProperties properties,
+        ObjectMapper objectMapper,
+        DocTombstones tombstones,
+        MeterRegistry meterRegistry
+    ) {
         this.properties = properties;
         this.objectMapper = objectMapper;
-        this.cache = new TtlCache<>(properties.getMaxEntries());
+        this.tombstones = tombstones;
+        this.meterRegistry = meterRegistry;
+        this.cache = new AdmissionCache<>(
+            "book_detail",
+            properties.getMaxWeightBytes(),
+            CacheWeights.json(objectMapper),
+            meterRegistry
+        );
     }
 
     public boolean isEnabled() {
@@ -37,9 +52,20 @@ public class BookDetailCacheService {
         if (!properties.isEnabled() || docId == null || docId.isBlank() || response == null) {
             return;
         }
+        if (tombstones.contains(docId)) {
+            meterRegistry.counter("sr_cache_guarded_writes_total", "cache", "book_detail").increment();
+            return;
+        }
         cache.put(keyFor(docId), response, properties.getTtlMs());
     }
 
+    public boolean invalidate(String docId) {
+        if (docId == null || docId.isBlank()) {
+            return false;
+        }
+        return cache.invalidate(keyFor(docId));
+    }
+
     public int getCacheControlMaxAgeSeconds() {
         return properties.getCacheControlMaxAgeSeconds();
     }
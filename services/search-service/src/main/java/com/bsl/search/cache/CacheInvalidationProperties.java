@@ -0,0 +1,57 @@
+package com.bsl.search.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "search.cache.invalidation")
+public class CacheInvalidationProperties {
+    private boolean enabled = false;
+    private List<String> topics = new ArrayList<>(List.of("os.sync.material.v1"));
+    private String groupId = "search-cache-invalidation";
+    private String sharedGroupId = "search-cache-invalidation";
+    private long writeGuardMs = 30000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getTopics() {
+        return topics;
+    }
+
+    public void setTopics(List<String> topics) {
+        this.topics = topics;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(String groupId) {
+        this.groupId = groupId;
+    }
+
+    /** Group all instances share when the Redis SERP tier fans invalidations out over pub/sub. */
+    public String getSharedGroupId() {
+        return sharedGroupId;
+    }
+
+    public void setSharedGroupId(String sharedGroupId) {
+        this.sharedGroupId = sharedGroupId;
+    }
+
+    public long getWriteGuardMs() {
+        return writeGuardMs;
+    }
+
+    public void setWriteGuardMs(long writeGuardMs) {
+        this.writeGuardMs = writeGuardMs;
+    }
+}
@@ -0,0 +1,94 @@
+package com.bsl.search.cache;
+
+import com.bsl.search.retrieval.VectorResultCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+/**
+ * Evicts everything cached about a set of changed docs: their sources and
+ * detail responses, and every SERP, candidate list and vector result that
+ * lists them. Cached empty results are all dropped, since the changed docs
+ * may now match them. The ids are tombstoned first, so a search already in
+ * flight cannot write the old version back. With the shared SERP tier on, its
+ * entries are deleted too and the other replicas are told to run
+ * {@link #invalidateLocal}.
+ */
+@Service
+public class CacheInvalidationService {
+    private final DocTombstones tombstones;
+    private final DocSourceCacheService docSourceCacheService;
+    private final BookDetailCacheService bookDetailCacheService;
+    private final SerpCacheService serpCacheService;
+    private final SerpL2Cache serpL2Cache;
+    private final CandidateCacheService candidateCacheService;
+    private final NegativeResultCacheService negativeResultCacheService;
+    private final VectorResultCacheService vectorResultCacheService;
+    private final MeterRegistry meterRegistry;
+
+    public CacheInvalidationService(
+        DocTombstones tombstones,
+        DocSourceCacheService docSourceCacheService,
+        BookDetailCacheService bookDetailCacheService,
+        SerpCacheService serpCacheService,
+        SerpL2Cache serpL2Cache,
+        CandidateCacheService candidateCacheService,
+        NegativeResultCacheService negativeResultCacheService,
+        VectorResultCacheService vectorResultCacheService,
+        MeterRegistry meterRegistry
+    ) {
+        this.tombstones = tombstones;
+        this.docSourceCacheService = docSourceCacheService;
+        this.bookDetailCacheService = bookDetailCacheService;
+        this.serpCacheService = serpCacheService;
+        this.serpL2Cache = serpL2Cache;
+        this.candidateCacheService = candidateCacheService;
+        this.negativeResultCacheService = negativeResultCacheService;
+        this.vectorResultCacheService = vectorResultCacheService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void invalidateDocs(Collection<String> docIds) {
+        Set<String> ids = invalidateLocal(docIds);
+        if (!ids.isEmpty()) {
+            record("serp_l2", serpL2Cache.invalidateDocs(ids));
+        }
+    }
+
+    /** Evicts this instance's caches only; returns the ids that were applied. */
+    public Set<String> invalidateLocal(Collection<String> docIds) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String docId : docIds) {
+            if (docId != null && !docId.isBlank()) {
+                ids.add(docId);
+            }
+        }
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        tombstones.record(ids);
+
+        int sources = 0;
+        int books = 0;
+        for (String docId : ids) {
+            sources += docSourceCacheService.invalidate(docId);
+            if (bookDetailCacheService.invalidate(docId)) {
+                books++;
+            }
+        }
+        record("doc_source", sources);
+        record("book_detail", books);
+        record("serp", serpCacheService.invalidateDocs(ids));
+        record("candidates", candidateCacheService.invalidateDocs(ids));
+        record("negative", negativeResultCacheService.invalidateAll());
+        record("vector_result", vectorResultCacheService.invalidateDocs(ids));
+        meterRegistry.counter("sr_cache_invalidated_docs_total").increment(ids.size());
+        return ids;
+    }
+
+    private void record(String cache, int evicted) {
+        meterRegistry.counter("sr_cache_invalidated_entries_total", "cache", cache).increment(evicted);
+    }
+}
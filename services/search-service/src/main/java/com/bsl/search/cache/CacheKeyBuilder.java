@@ -0,0 +1,158 @@
+package com.bsl.search.cache;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Canonical cache key: named fields are streamed, in call order, into a
+ * 128-bit MurmurHash3 and rendered as 32 hex chars. Values are tagged and
+ * length-prefixed, integral numbers hash as longs, and map entries are visited
+ * in key order, so equal plans always produce the same key regardless of map
+ * implementation. Callers must add optional fields under the same conditions
+ * every time.
+ */
+public final class CacheKeyBuilder {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Comparator<Map.Entry<?, ?>> BY_KEY =
+        Comparator.comparing(entry -> String.valueOf(entry.getKey()));
+
+    private static final byte FIELD = 1;
+    private static final byte NULL = 2;
+    private static final byte FALSE = 3;
+    private static final byte TRUE = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte STRING = 7;
+    private static final byte LIST = 8;
+    private static final byte MAP = 9;
+    private static final byte FLOATS = 10;
+    private static final byte END = 11;
+
+    private final Murmur3Hasher hasher = new Murmur3Hasher();
+    private boolean built;
+
+    private CacheKeyBuilder() {
+    }
+
+    public static CacheKeyBuilder create() {
+        return new CacheKeyBuilder();
+    }
+
+    public CacheKeyBuilder field(String name, Object value) {
+        beginField(name);
+        putValue(value);
+        return this;
+    }
+
+    public CacheKeyBuilder field(String name, int value) {
+        return field(name, (long) value);
+    }
+
+    public CacheKeyBuilder field(String name, long value) {
+        beginField(name);
+        hasher.putByte(LONG);
+        hasher.putLong(value);
+        return this;
+    }
+
+    public CacheKeyBuilder field(String name, boolean value) {
+        beginField(name);
+        hasher.putByte(value ? TRUE : FALSE);
+        return this;
+    }
+
+    /** Finishes the key as 32 lowercase hex chars; the builder cannot be reused. */
+    public String build() {
+        if (built) {
+            throw new IllegalStateException("cache key already built");
+        }
+        built = true;
+        hasher.finish();
+        char[] hex = new char[32];
+        writeHex(hasher.first(), hex, 0);
+        writeHex(hasher.second(), hex, 16);
+        return new String(hex);
+    }
+
+    private void beginField(String name) {
+        if (built) {
+            throw new IllegalStateException("cache key already built");
+        }
+        hasher.putByte(FIELD);
+        putString(name);
+    }
+
+    private void putValue(Object value) {
+        if (value == null) {
+            hasher.putByte(NULL);
+        } else if (value instanceof CharSequence text) {
+            putString(text);
+        } else if (value instanceof Boolean bool) {
+            hasher.putByte(bool ? TRUE : FALSE);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            hasher.putByte(LONG);
+            hasher.putLong(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            hasher.putByte(DOUBLE);
+            hasher.putLong(Double.doubleToLongBits(number.doubleValue()));
+        } else if (value instanceof Enum<?> constant) {
+            putString(constant.name());
+        } else if (value instanceof Map<?, ?> map) {
+            putMap(map);
+        } else if (value instanceof Iterable<?> items) {
+            hasher.putByte(LIST);
+            Iterator<?> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                putValue(iterator.next());
+            }
+            hasher.putByte(END);
+        } else if (value instanceof Object[] items) {
+            hasher.putByte(LIST);
+            for (Object item : items) {
+                putValue(item);
+            }
+            hasher.putByte(END);
+        } else if (value instanceof float[] vector) {
+            hasher.putByte(FLOATS);
+            hasher.putInt(vector.length);
+            for (float component : vector) {
+                hasher.putInt(Float.floatToIntBits(component));
+            }
+        } else {
+            putString(value.toString());
+        }
+    }
+
+    private void putMap(Map<?, ?> map) {
+        hasher.putByte(MAP);
+        hasher.putInt(map.size());
+        if (map.size() <= 1) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                putValue(entry.getKey());
+                putValue(entry.getValue());
+            }
+            return;
+        }
+        Map.Entry<?, ?>[] entries = map.entrySet().toArray(new Map.Entry<?, ?>[0]);
+        Arrays.sort(entries, BY_KEY);
+        for (Map.Entry<?, ?> entry : entries) {
+            putValue(entry.getKey());
+            putValue(entry.getValue());
+        }
+    }
+
+    private void putString(CharSequence value) {
+        hasher.putByte(STRING);
+        hasher.putInt(value.length());
+        hasher.putChars(value);
+    }
+
+    private static void writeHex(long value, char[] out, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
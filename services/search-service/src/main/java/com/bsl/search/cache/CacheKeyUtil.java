@@ -1,7 +1,5 @@
 package com.bsl.search.cache;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -10,15 +8,6 @@ public final class CacheKeyUtil {
     private CacheKeyUtil() {
     }
 
-    public static String hashJson(ObjectMapper mapper, Object value) {
-        try {
-            String json = mapper.writeValueAsString(value);
-            return sha256(json);
-        } catch (JsonProcessingException e) {
-            return null;
-        }
-    }
-
     public static String sha256(String value) {
         if (value == null) {
             return null;
@@ -0,0 +1,9 @@
+package com.bsl.search.cache;
+
+/**
+ * Approximate retained size, in bytes, of a cached value.
+ */
+@FunctionalInterface
+public interface CacheWeigher<V> {
+    long weigh(String key, V value);
+}
@@ -0,0 +1,81 @@
+package com.bsl.search.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+
+public final class CacheWeights {
+    public static final long ENTRY_OVERHEAD_BYTES = 96L;
+    private static final long STRING_OVERHEAD_BYTES = 40L;
+    private static final long FALLBACK_VALUE_BYTES = 4096L;
+    private static final long NODE_OVERHEAD_BYTES = 24L;
+    private static final long CONTAINER_OVERHEAD_BYTES = 64L;
+
+    private CacheWeights() {
+    }
+
+    public static long string(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        return STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+
+    public static long strings(List<String> values) {
+        if (values == null) {
+            return 0L;
+        }
+        long weight = 16L + 8L * values.size();
+        for (String value : values) {
+            weight += string(value);
+        }
+        return weight;
+    }
+
+    /**
+     * Weighs a value by its serialized JSON size. Only meant for cache puts, which
+     * run once per miss; the serialized form tracks the retained graph closely
+     * enough for budgeting.
+     */
+    public static <V> CacheWeigher<V> json(ObjectMapper objectMapper) {
+        return (key, value) -> {
+            long valueWeight;
+            try {
+                valueWeight = objectMapper.writeValueAsBytes(value).length;
+            } catch (JsonProcessingException e) {
+                valueWeight = FALLBACK_VALUE_BYTES;
+            }
+            return ENTRY_OVERHEAD_BYTES + string(key) + valueWeight;
+        };
+    }
+
+    /**
+     * Walks a Jackson tree and sums an estimate of its retained size without
+     * serializing it.
+     */
+    public static long jsonNode(JsonNode node) {
+        if (node == null) {
+            return 0L;
+        }
+        if (node.isObject()) {
+            long weight = CONTAINER_OVERHEAD_BYTES;
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                weight += NODE_OVERHEAD_BYTES + string(field.getKey()) + jsonNode(field.getValue());
+            }
+            return weight;
+        }
+        if (node.isArray()) {
+            long weight = CONTAINER_OVERHEAD_BYTES;
+            for (JsonNode child : node) {
+                weight += 8L + jsonNode(child);
+            }
+            return weight;
+        }
+        if (node.isTextual()) {
+            return NODE_OVERHEAD_BYTES + string(node.textValue());
+        }
+        return NODE_OVERHEAD_BYTES;
+    }
+}
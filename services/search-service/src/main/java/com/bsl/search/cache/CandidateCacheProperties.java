@@ -0,0 +1,46 @@
+package com.bsl.search.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "search.cache.candidates")
+public class CandidateCacheProperties {
+    private boolean enabled = true;
+    /** Long enough for a user to reach page 2; doc changes are dropped by invalidation, not expiry. */
+    private long ttlMs = 300_000L;
+    private long maxWeightBytes = 16L * 1024 * 1024;
+    private String keyPrefix = "cand:";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+}
@@ -0,0 +1,176 @@
+package com.bsl.search.cache;
+
+import com.bsl.search.merge.RrfFusion;
+import com.bsl.search.ranking.dto.RerankResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fused and reranked candidate list of a query, keyed without paging, so the
+ * next pages of a search are a slice instead of a new retrieval. The first
+ * {@code rankedDepth} fused positions are in rerank order; a page past them
+ * reranks the next window and {@link #extend extends} the entry in place.
+ */
+@Service
+public class CandidateCacheService {
+    private static final long CANDIDATE_WEIGHT_BYTES = 64L;
+    private static final long RANKED_HIT_WEIGHT_BYTES = 48L;
+
+    private final CandidateCacheProperties properties;
+    private final DocTombstones tombstones;
+    private final MeterRegistry meterRegistry;
+    private final AdmissionCache<Entry> cache;
+
+    public CandidateCacheService(
+        CandidateCacheProperties properties,
+        DocTombstones tombstones,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.tombstones = tombstones;
+        this.meterRegistry = meterRegistry;
+        this.cache = new AdmissionCache<>("candidates", properties.getMaxWeightBytes(), CandidateCacheService::weigh, meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public String buildKey(CacheKeyBuilder key) {
+        if (key == null) {
+            return null;
+        }
+        return properties.getKeyPrefix() + key.build();
+    }
+
+    public Optional<Entry> get(String key) {
+        if (!properties.isEnabled() || key == null) {
+            return Optional.empty();
+        }
+        return cache.get(key).map(entry -> entry.getValue());
+    }
+
+    /**
+     * Stores a fused list; {@code ranked} is the rerank order of its first
+     * {@code rankedDepth} positions, or {@code null} when it was not reranked.
+     */
+    public void put(
+        String key,
+        List<RrfFusion.Candidate> fused,
+        List<RerankResponse.Hit> ranked,
+        int rankedDepth,
+        String strategy
+    ) {
+        if (!properties.isEnabled() || key == null || fused == null || fused.isEmpty()) {
+            return;
+        }
+        List<String> docIds = new ArrayList<>(fused.size());
+        for (RrfFusion.Candidate candidate : fused) {
+            docIds.add(candidate.getDocId());
+        }
+        if (tombstones.containsAny(docIds)) {
+            meterRegistry.counter("sr_cache_guarded_writes_total", "cache", "candidates").increment();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = new Entry(
+            fused,
+            docIds,
+            ranked == null ? null : List.copyOf(ranked),
+            ranked == null ? 0 : rankedDepth,
+            strategy,
+            now + properties.getTtlMs()
+        );
+        cache.put(key, entry, now, entry.expiresAt);
+    }
+
+    /**
+     * Replaces {@code entry} with one reranked to {@code rankedDepth}; the
+     * entry keeps its original expiry.
+     */
+    public Entry extend(String key, Entry entry, List<RerankResponse.Hit> ranked, int rankedDepth) {
+        Entry extended = new Entry(
+            entry.fused,
+            entry.docIds,
+            List.copyOf(ranked),
+            rankedDepth,
+            entry.strategy,
+            entry.expiresAt
+        );
+        if (properties.isEnabled() && key != null && !tombstones.containsAny(entry.docIds)) {
+            cache.put(key, extended, System.currentTimeMillis(), entry.expiresAt);
+            meterRegistry.counter("sr_candidate_cache_extensions_total").increment();
+        }
+        return extended;
+    }
+
+    /** Drops every cached list containing one of {@code docIds}; returns how many were dropped. */
+    public int invalidateDocs(Set<String> docIds) {
+        if (docIds == null || docIds.isEmpty()) {
+            return 0;
+        }
+        return cache.invalidateIf((key, entry) -> {
+            for (String docId : entry.docIds) {
+                if (docIds.contains(docId)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private static long weigh(String key, Entry entry) {
+        long ranked = entry.ranked == null ? 0L : entry.ranked.size() * RANKED_HIT_WEIGHT_BYTES;
+        return CacheWeights.ENTRY_OVERHEAD_BYTES
+            + CacheWeights.string(key)
+            + CacheWeights.strings(entry.docIds)
+            + entry.docIds.size() * CANDIDATE_WEIGHT_BYTES
+            + ranked;
+    }
+
+    public static class Entry {
+        private final List<RrfFusion.Candidate> fused;
+        private final List<String> docIds;
+        private final List<RerankResponse.Hit> ranked;
+        private final int rankedDepth;
+        private final String strategy;
+        private final long expiresAt;
+
+        private Entry(
+            List<RrfFusion.Candidate> fused,
+            List<String> docIds,
+            List<RerankResponse.Hit> ranked,
+            int rankedDepth,
+            String strategy,
+            long expiresAt
+        ) {
+            this.fused = fused;
+            this.docIds = docIds;
+            this.ranked = ranked;
+            this.rankedDepth = rankedDepth;
+            this.strategy = strategy;
+            this.expiresAt = expiresAt;
+        }
+
+        public List<RrfFusion.Candidate> getFused() {
+            return fused;
+        }
+
+        /** Rerank order of the first {@link #getRankedDepth} fused positions; {@code null} when not reranked. */
+        public List<RerankResponse.Hit> getRanked() {
+            return ranked;
+        }
+
+        public int getRankedDepth() {
+            return rankedDepth;
+        }
+
+        public String getStrategy() {
+            return strategy;
+        }
+    }
+}
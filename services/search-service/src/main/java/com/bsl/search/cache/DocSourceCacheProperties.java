@@ -0,0 +1,45 @@
+package com.bsl.search.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "search.cache.doc-source")
+public class DocSourceCacheProperties {
+    private boolean enabled = true;
+    private long ttlMs = 60000;
+    private long maxWeightBytes = 64L * 1024 * 1024;
+    private long tombstoneRetentionMs = 10000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    public long getTombstoneRetentionMs() {
+        return tombstoneRetentionMs;
+    }
+
+    public void setTombstoneRetentionMs(long tombstoneRetentionMs) {
+        this.tombstoneRetentionMs = tombstoneRetentionMs;
+    }
+}
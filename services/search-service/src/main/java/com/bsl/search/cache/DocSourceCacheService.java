@@ -0,0 +1,210 @@
+package com.bsl.search.cache;
+
+import com.bsl.search.opensearch.SourceProjection;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+
+/**
+ * Doc-id keyed cache of OpenSearch {@code _source} documents sitting in front of
+ * {@code _mget}. Only the ids that miss are fetched. Entries are keyed by
+ * {@link SourceProjection} as well, since a projected source cannot serve a
+ * profile that needs other fields.
+ *
+ * <p>Invalidation is versioned so that an {@code _mget} already in flight when a
+ * document is invalidated cannot write the old source back: per-doc tombstones
+ * record when a doc was invalidated, and {@link #invalidateAll()} bumps a
+ * generation that every entry is stamped with. Docs in the shared
+ * {@link DocTombstones} window are not stored at all, since the index may not
+ * have caught up with the change yet.
+ */
+@Service
+public class DocSourceCacheService {
+    private final DocSourceCacheProperties properties;
+    private final DocTombstones docTombstones;
+    private final MeterRegistry meterRegistry;
+    private final AdmissionCache<VersionedSource> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<String, Long> tombstones = new ConcurrentHashMap<>();
+
+    public DocSourceCacheService(
+        DocSourceCacheProperties properties,
+        DocTombstones docTombstones,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.docTombstones = docTombstones;
+        this.meterRegistry = meterRegistry;
+        this.cache = new AdmissionCache<>(
+            "doc_source",
+            properties.getMaxWeightBytes(),
+            DocSourceCacheService::weigh,
+            meterRegistry
+        );
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Returns {@code projection} sources for {@code docIds} in request order,
+     * calling {@code loader} once with the ids that are not cached. Loader
+     * failures propagate.
+     */
+    public Map<String, JsonNode> getSources(
+        List<String> docIds,
+        SourceProjection projection,
+        Function<List<String>, Map<String, JsonNode>> loader
+    ) {
+        if (docIds == null || docIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (!properties.isEnabled()) {
+            Map<String, JsonNode> loaded = loader.apply(docIds);
+            return loaded == null ? Collections.emptyMap() : loaded;
+        }
+
+        long currentGeneration = generation.get();
+        Map<String, JsonNode> cached = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String docId : docIds) {
+            if (docId == null || cached.containsKey(docId)) {
+                continue;
+            }
+            Optional<CacheEntry<VersionedSource>> entry = cache.get(cacheKey(projection, docId));
+            if (entry.isPresent() && entry.get().getValue().generation == currentGeneration) {
+                cached.put(docId, entry.get().getValue().source);
+            } else {
+                missing.add(docId);
+            }
+        }
+        recordLookup(cached.size(), missing.size());
+        if (missing.isEmpty()) {
+            return cached;
+        }
+
+        long loadStartedAt = System.nanoTime();
+        Map<String, JsonNode> loaded = loader.apply(missing);
+        if (loaded == null) {
+            loaded = Collections.emptyMap();
+        }
+        store(projection, loaded, currentGeneration, loadStartedAt);
+
+        Map<String, JsonNode> merged = new LinkedHashMap<>();
+        for (String docId : docIds) {
+            if (docId == null || merged.containsKey(docId)) {
+                continue;
+            }
+            JsonNode source = cached.get(docId);
+            if (source == null) {
+                source = loaded.get(docId);
+            }
+            if (source != null) {
+                merged.put(docId, source);
+            }
+        }
+        return merged;
+    }
+
+    /** Returns how many projections of {@code docId} were cached. */
+    public int invalidate(String docId) {
+        if (docId == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        tombstones.put(docId, now);
+        int removed = 0;
+        for (SourceProjection projection : SourceProjection.all()) {
+            if (cache.invalidate(cacheKey(projection, docId))) {
+                removed++;
+            }
+        }
+        pruneTombstones(now);
+        return removed;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private void store(
+        SourceProjection projection,
+        Map<String, JsonNode> loaded,
+        long loadGeneration,
+        long loadStartedAt
+    ) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        for (Map.Entry<String, JsonNode> entry : loaded.entrySet()) {
+            if (invalidatedSince(entry.getKey(), loadStartedAt)) {
+                continue;
+            }
+            if (docTombstones.contains(entry.getKey())) {
+                meterRegistry.counter("sr_cache_guarded_writes_total", "cache", "doc_source").increment();
+                continue;
+            }
+            if (entry.getValue() == null || entry.getValue().isMissingNode()) {
+                continue;
+            }
+            String key = cacheKey(projection, entry.getKey());
+            cache.put(key, new VersionedSource(entry.getValue(), loadGeneration), properties.getTtlMs());
+            // invalidate() tombstones before it evicts: if it ran between the check and the put, one of
+            // its evict or this re-check removes the entry.
+            if (invalidatedSince(entry.getKey(), loadStartedAt)) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    private boolean invalidatedSince(String docId, long loadStartedAt) {
+        Long invalidatedAt = tombstones.get(docId);
+        return invalidatedAt != null && invalidatedAt - loadStartedAt >= 0;
+    }
+
+    private static String cacheKey(SourceProjection projection, String docId) {
+        return projection.getName() + ":" + docId;
+    }
+
+    private void pruneTombstones(long now) {
+        long retentionNanos = Math.max(0L, properties.getTombstoneRetentionMs()) * 1_000_000L;
+        tombstones.values().removeIf(invalidatedAt -> now - invalidatedAt > retentionNanos);
+    }
+
+    private void recordLookup(int hits, int misses) {
+        String outcome;
+        if (misses == 0) {
+            outcome = "hit";
+        } else if (hits == 0) {
+            outcome = "miss";
+        } else {
+            outcome = "partial";
+        }
+        meterRegistry.counter("sr_doc_source_lookup_total", "outcome", outcome).increment();
+    }
+
+    private static long weigh(String key, VersionedSource value) {
+        return CacheWeights.ENTRY_OVERHEAD_BYTES + CacheWeights.string(key) + CacheWeights.jsonNode(value.source);
+    }
+
+    private static final class VersionedSource {
+        private final JsonNode source;
+        private final long generation;
+
+        private VersionedSource(JsonNode source, long generation) {
+            this.source = source;
+            this.generation = generation;
+        }
+    }
+}
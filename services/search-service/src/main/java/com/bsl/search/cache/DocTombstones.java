@@ -0,0 +1,52 @@
+package com.bsl.search.cache;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Doc ids invalidated within the last {@code writeGuardMs}. Caches whose values
+ * mention several docs (SERPs, vector results) cannot tell when a value was
+ * computed, so they refuse to store one that mentions a recent tombstone: it
+ * may come from a search that started before the change, or from an index the
+ * change has not reached yet.
+ */
+@Component
+public class DocTombstones {
+    private final long retentionMs;
+    private final ConcurrentHashMap<String, Long> tombstones = new ConcurrentHashMap<>();
+
+    public DocTombstones(CacheInvalidationProperties properties) {
+        this.retentionMs = Math.max(0L, properties.getWriteGuardMs());
+    }
+
+    public void record(Collection<String> docIds) {
+        long now = System.currentTimeMillis();
+        for (String docId : docIds) {
+            if (docId != null) {
+                tombstones.put(docId, now);
+            }
+        }
+        tombstones.values().removeIf(invalidatedAt -> now - invalidatedAt > retentionMs);
+    }
+
+    public boolean contains(String docId) {
+        if (docId == null || tombstones.isEmpty()) {
+            return false;
+        }
+        Long invalidatedAt = tombstones.get(docId);
+        return invalidatedAt != null && System.currentTimeMillis() - invalidatedAt <= retentionMs;
+    }
+
+    public boolean containsAny(Collection<String> docIds) {
+        if (docIds == null || tombstones.isEmpty()) {
+            return false;
+        }
+        for (String docId : docIds) {
+            if (contains(docId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
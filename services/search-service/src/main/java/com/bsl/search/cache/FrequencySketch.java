@@ -0,0 +1,98 @@
+package com.bsl.search.cache;
+
+/**
+ * 4-bit count-min sketch used to estimate how often a key has been requested
+ * recently. Counters are halved once the sample period is reached so that the
+ * estimate ages out keys that were only popular in the past. Not thread-safe;
+ * callers guard it with the owning cache's lock.
+ */
+final class FrequencySketch {
+    private static final long[] SEED = {
+        0xc3a5c85c97cb3127L,
+        0xb492b66fbe98f273L,
+        0x9ae16a3b2f90404fL,
+        0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MIN_CAPACITY = 64;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int additions;
+
+    FrequencySketch() {
+        ensureCapacity(MIN_CAPACITY);
+    }
+
+    void ensureCapacity(long expectedEntries) {
+        int maximum = (int) Math.min(Math.max(expectedEntries, MIN_CAPACITY), 1 << 28);
+        if (table != null && table.length >= maximum) {
+            return;
+        }
+        table = new long[ceilingPowerOfTwo(maximum)];
+        tableMask = table.length - 1;
+        sampleSize = 10 * maximum;
+        additions = 0;
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int oddCounters = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCounters += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions = (additions >>> 1) - (oddCounters >>> 2);
+    }
+
+    private int indexOf(int hash, int depth) {
+        long value = (hash + SEED[depth]) * SEED[depth];
+        value += value >>> 32;
+        return ((int) value) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+}
@@ -0,0 +1,83 @@
+package com.bsl.search.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes the outbox relay's {@code material.upsert_requested} /
+ * {@code material.delete_requested} events and evicts the affected docs. Each
+ * instance has its own consumer group (every instance holds its own caches) and
+ * starts from the latest offset; one poll is invalidated as a batch so SERPs are
+ * scanned once per poll, not once per event. With the shared SERP tier on, all
+ * instances share one group instead: the instance that gets an event clears
+ * Redis once and the others hear about it over pub/sub.
+ */
+@Component
+public class MaterialInvalidationListener {
+    private static final Logger log = LoggerFactory.getLogger(MaterialInvalidationListener.class);
+    static final String EVENT_UPSERT = "material.upsert_requested";
+    static final String EVENT_DELETE = "material.delete_requested";
+
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationService invalidationService;
+    private final MeterRegistry meterRegistry;
+
+    public MaterialInvalidationListener(
+        ObjectMapper objectMapper,
+        CacheInvalidationService invalidationService,
+        MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.invalidationService = invalidationService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @KafkaListener(
+        id = "search-cache-invalidation",
+        topics = "#{@cacheInvalidationProperties.topics}",
+        groupId = "#{@serpCacheProperties.l2.enabled"
+            + " ? @cacheInvalidationProperties.sharedGroupId : @cacheInvalidationProperties.groupId}",
+        autoStartup = "#{@cacheInvalidationProperties.enabled}",
+        batch = "true",
+        properties = {"auto.offset.reset=latest"}
+    )
+    public void consume(List<String> messages) {
+        List<String> docIds = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            String docId = docIdOf(message);
+            if (docId != null) {
+                docIds.add(docId);
+            }
+        }
+        invalidationService.invalidateDocs(docIds);
+    }
+
+    String docIdOf(String message) {
+        if (message == null || message.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(message);
+            String eventType = root.path("event_type").asText("");
+            if (!EVENT_UPSERT.equals(eventType) && !EVENT_DELETE.equals(eventType)) {
+                return null;
+            }
+            meterRegistry.counter("sr_cache_invalidation_events_total", "event_type", eventType).increment();
+            String materialId = root.path("payload").path("material_id").asText("");
+            if (materialId.isBlank()) {
+                materialId = root.path("aggregate_id").asText("");
+            }
+            return materialId.isBlank() ? null : materialId.trim();
+        } catch (Exception ex) {
+            log.warn("Failed to parse material event: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
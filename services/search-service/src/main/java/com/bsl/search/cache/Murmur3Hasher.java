@@ -0,0 +1,136 @@
+package com.bsl.search.cache;
+
+/**
+ * Streaming MurmurHash3 x64 128-bit (seed 0). Input is consumed as
+ * little-endian bytes; full 16-byte blocks are mixed as they fill, so no
+ * buffer is kept besides two pending words.
+ */
+final class Murmur3Hasher {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1;
+    private long h2;
+    private long pendingLow;
+    private long pendingHigh;
+    private int pendingBytes;
+    private long length;
+
+    void putByte(int value) {
+        long bits = value & 0xFFL;
+        if (pendingBytes < 8) {
+            pendingLow |= bits << (pendingBytes << 3);
+        } else {
+            pendingHigh |= bits << ((pendingBytes - 8) << 3);
+        }
+        length++;
+        if (++pendingBytes == 16) {
+            flush();
+        }
+    }
+
+    void putLong(long value) {
+        if (pendingBytes == 0) {
+            pendingLow = value;
+            pendingBytes = 8;
+            length += 8;
+            return;
+        }
+        if (pendingBytes == 8) {
+            pendingHigh = value;
+            length += 8;
+            flush();
+            return;
+        }
+        for (int i = 0; i < 8; i++) {
+            putByte((int) (value >>> (i << 3)));
+        }
+    }
+
+    void putInt(int value) {
+        for (int i = 0; i < 4; i++) {
+            putByte(value >>> (i << 3));
+        }
+    }
+
+    /** UTF-16 code units, four per word. */
+    void putChars(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            putLong(value.charAt(i)
+                | (long) value.charAt(i + 1) << 16
+                | (long) value.charAt(i + 2) << 32
+                | (long) value.charAt(i + 3) << 48);
+        }
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            putByte(c);
+            putByte(c >>> 8);
+        }
+    }
+
+    /** Finishes the hash into {@link #first()} / {@link #second()}; no input may follow. */
+    void finish() {
+        long k1 = pendingLow;
+        long k2 = pendingHigh;
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+    }
+
+    long first() {
+        return h1;
+    }
+
+    long second() {
+        return h2;
+    }
+
+    private void flush() {
+        long k1 = pendingLow;
+        long k2 = pendingHigh;
+        pendingLow = 0L;
+        pendingHigh = 0L;
+        pendingBytes = 0;
+
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bsl.search.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Plans that found nothing even after fallbacks and enhance, keyed without
+ * paging, so a repeated junk query is answered with an empty page from one
+ * lookup. Entries carry no doc ids; any doc change clears the whole cache.
+ */
+@Service
+public class NegativeResultCacheService {
+    private final NegativeResultCacheProperties properties;
+    private final AdmissionCache<Entry> cache;
+
+    public NegativeResultCacheService(NegativeResultCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = new AdmissionCache<>(
+            "negative",
+            properties.getMaxWeightBytes(),
+            (key, entry) -> CacheWeights.ENTRY_OVERHEAD_BYTES + CacheWeights.string(key) + CacheWeights.string(entry.getStrategy()),
+            meterRegistry
+        );
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public String buildKey(CacheKeyBuilder key) {
+        if (key == null) {
+            return null;
+        }
+        return properties.getKeyPrefix() + key.build();
+    }
+
+    public Optional<Entry> get(String key) {
+        if (!properties.isEnabled() || key == null) {
+            return Optional.empty();
+        }
+        return cache.get(key).map(entry -> entry.getValue());
+    }
+
+    public void put(String key, String strategy) {
+        if (!properties.isEnabled() || key == null) {
+            return;
+        }
+        cache.put(key, new Entry(strategy), properties.getTtlMs());
+    }
+
+    /** Drops every entry; returns how many were dropped. */
+    public int invalidateAll() {
+        return cache.invalidateIf((key, entry) -> true);
+    }
+
+    public static class Entry {
+        private final String strategy;
+
+        public Entry(String strategy) {
+            this.strategy = strategy;
+        }
+
+        public String getStrategy() {
+            return strategy;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.bsl.search.cache;
+
+import java.util.List;
+
+/**
+ * SERP cache value: the response JSON without trace/request/took/debug, plus the
+ * few scalar fields callers need without parsing it back.
+ */
+public class SerializedSerp {
+    private final byte[] body;
+    private final boolean rankingApplied;
+    private final String strategy;
+    private final Integer total;
+    private final String experimentBucket;
+    private final List<String> docIds;
+
+    public SerializedSerp(
+        byte[] body,
+        boolean rankingApplied,
+        String strategy,
+        Integer total,
+        String experimentBucket,
+        List<String> docIds
+    ) {
+        this.body = body;
+        this.rankingApplied = rankingApplied;
+        this.strategy = strategy;
+        this.total = total;
+        this.experimentBucket = experimentBucket;
+        this.docIds = docIds == null ? List.of() : docIds;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public boolean isRankingApplied() {
+        return rankingApplied;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public String getExperimentBucket() {
+        return experimentBucket;
+    }
+
+    public List<String> getDocIds() {
+        return docIds;
+    }
+}
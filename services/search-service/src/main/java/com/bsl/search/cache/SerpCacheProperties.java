@@ -8,8 +8,13 @@ import org.springframework.stereotype.Component;
 public class SerpCacheProperties {
     private boolean enabled = true;
     private long ttlMs = 2000;
-    private int maxEntries = 500;
+    private long maxWeightBytes = 32L * 1024 * 1024;
     private String keyPrefix = "serp:";
+    private long staleWhileRevalidateMs = 0;
+    private int refreshThreads = 2;
+    private boolean singleFlightEnabled = true;
+    private long singleFlightWaitMs = 1000;
+    private L2 l2 = new L2();
 
     public boolean isEnabled() {
         return enabled;
@@ -27,12 +32,12 @@ public class SerpCacheProperties {
         this.ttlMs = ttlMs;
     }
 
-    public int getMaxEntries() {
-        return maxEntries;
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
     }
 
-    public void setMaxEntries(int maxEntries) {
-        this.maxEntries = maxEntries;
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
     }
 
     public String getKeyPrefix() {
@@ -42,4 +47,93 @@ public class SerpCacheProperties {
     public void setKeyPrefix(String keyPrefix) {
         this.keyPrefix = keyPrefix;
     }
+
+    public long getStaleWhileRevalidateMs() {
+        return staleWhileRevalidateMs;
+    }
+
+    public void setStaleWhileRevalidateMs(long staleWhileRevalidateMs) {
+        this.staleWhileRevalidateMs = staleWhileRevalidateMs;
+    }
+
+    public int getRefreshThreads() {
+        return refreshThreads;
+    }
+
+    public void setRefreshThreads(int refreshThreads) {
+        this.refreshThreads = refreshThreads;
+    }
+
+    public boolean isSingleFlightEnabled() {
+        return singleFlightEnabled;
+    }
+
+    public void setSingleFlightEnabled(boolean singleFlightEnabled) {
+        this.singleFlightEnabled = singleFlightEnabled;
+    }
+
+    public long getSingleFlightWaitMs() {
+        return singleFlightWaitMs;
+    }
+
+    public void setSingleFlightWaitMs(long singleFlightWaitMs) {
+        this.singleFlightWaitMs = singleFlightWaitMs;
+    }
+
+    public L2 getL2() {
+        return l2;
+    }
+
+    public void setL2(L2 l2) {
+        this.l2 = l2;
+    }
+
+    /** Shared Redis tier under the in-process cache. */
+    public static class L2 {
+        private boolean enabled = false;
+        private String keyPrefix = "bsl:search:serp:";
+        private long maxTtlMs = 600000;
+        private String invalidationChannel = "bsl:search:serp:invalidate";
+        private int writeQueueCapacity = 256;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public long getMaxTtlMs() {
+            return maxTtlMs;
+        }
+
+        public void setMaxTtlMs(long maxTtlMs) {
+            this.maxTtlMs = maxTtlMs;
+        }
+
+        public String getInvalidationChannel() {
+            return invalidationChannel;
+        }
+
+        public void setInvalidationChannel(String invalidationChannel) {
+            this.invalidationChannel = invalidationChannel;
+        }
+
+        public int getWriteQueueCapacity() {
+            return writeQueueCapacity;
+        }
+
+        public void setWriteQueueCapacity(int writeQueueCapacity) {
+            this.writeQueueCapacity = writeQueueCapacity;
+        }
+    }
 }
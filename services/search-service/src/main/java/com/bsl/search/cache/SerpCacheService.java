@@ -1,117 +1,289 @@
 package com.bsl.search.cache;
 
+import com.bsl.search.api.dto.BookHit;
+import com.bsl.search.api.dto.PreSerializedSearchResponse;
 import com.bsl.search.api.dto.SearchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.HashMap;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SerpCacheService {
+    private static final Logger log = LoggerFactory.getLogger(SerpCacheService.class);
+    private static final int REFRESH_QUEUE_CAPACITY = 64;
+    /** Spliced in per response by {@code PreSerializedSearchResponseConverter}. */
+    private static final List<String> PER_REQUEST_FIELDS = List.of("trace_id", "request_id", "took_ms", "debug");
+
     private final SerpCacheProperties properties;
     private final ObjectMapper objectMapper;
-    private final TtlCache<SearchResponse> cache;
+    private final DocTombstones tombstones;
+    private final SerpL2Cache l2;
+    private final MeterRegistry meterRegistry;
+    private final AdmissionCache<SerializedSerp> cache;
+    private final SingleFlight<SearchResponse> singleFlight = new SingleFlight<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refreshExecutor;
 
-    public SerpCacheService(SerpCacheProperties properties, ObjectMapper objectMapper) {
+    public SerpCacheService(
+        SerpCacheProperties properties,
+        ObjectMapper objectMapper,
+        DocTombstones tombstones,
+        SerpL2Cache l2,
+        MeterRegistry meterRegistry
+    ) {
         this.properties = properties;
         this.objectMapper = objectMapper;
-        this.cache = new TtlCache<>(properties.getMaxEntries());
+        this.tombstones = tombstones;
+        this.l2 = l2;
+        this.meterRegistry = meterRegistry;
+        this.cache = new AdmissionCache<>(
+            "serp",
+            properties.getMaxWeightBytes(),
+            SerpCacheService::weigh,
+            meterRegistry
+        );
+        int refreshThreads = Math.max(1, properties.getRefreshThreads());
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(
+            refreshThreads,
+            refreshThreads,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "serp-refresh-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
     }
 
     public boolean isEnabled() {
         return properties.isEnabled();
     }
 
+    public boolean isStaleWhileRevalidateEnabled() {
+        return properties.getStaleWhileRevalidateMs() > 0;
+    }
+
     public Optional<CachedResponse> get(String key) {
         if (!properties.isEnabled() || key == null) {
             return Optional.empty();
         }
-        return cache.get(key).map(entry -> new CachedResponse(entry.getValue(), entry.getCreatedAt(), entry.getExpiresAt()));
+        long now = System.currentTimeMillis();
+        Optional<CacheEntry<SerializedSerp>> local = cache.get(key);
+        if (local.isPresent()) {
+            return Optional.of(cachedResponse(local.get().getValue(), local.get().getCreatedAt(), now));
+        }
+        if (!l2.isEnabled()) {
+            return Optional.empty();
+        }
+        return l2.get(key).flatMap(shared -> {
+            long expiresAt = shared.getCreatedAt() + properties.getTtlMs() + Math.max(0L, properties.getStaleWhileRevalidateMs());
+            if (now > expiresAt) {
+                return Optional.empty();
+            }
+            if (tombstones.containsAny(shared.getPayload().getDocIds())) {
+                // Written before an invalidation reached Redis: neither serve nor refill it.
+                meterRegistry.counter("sr_cache_guarded_writes_total", "cache", "serp").increment();
+                return Optional.empty();
+            }
+            cache.put(key, shared.getPayload(), shared.getCreatedAt(), expiresAt);
+            return Optional.of(cachedResponse(shared.getPayload(), shared.getCreatedAt(), now));
+        });
+    }
+
+    private CachedResponse cachedResponse(SerializedSerp payload, long createdAt, long now) {
+        long freshUntil = createdAt + properties.getTtlMs();
+        return new CachedResponse(payload, createdAt, freshUntil, now > freshUntil);
     }
 
     public void put(String key, SearchResponse response) {
         if (!properties.isEnabled() || key == null || response == null) {
             return;
         }
-        cache.put(key, response, properties.getTtlMs());
+        SerializedSerp serialized = serialize(response);
+        if (serialized == null) {
+            return;
+        }
+        if (tombstones.containsAny(serialized.getDocIds())) {
+            meterRegistry.counter("sr_cache_guarded_writes_total", "cache", "serp").increment();
+            return;
+        }
+        long graceMs = Math.max(0L, properties.getStaleWhileRevalidateMs());
+        long now = System.currentTimeMillis();
+        cache.put(key, serialized, now, now + properties.getTtlMs() + graceMs);
+        l2.put(key, serialized, now, properties.getTtlMs() + graceMs);
     }
 
-    public long getTtlMs() {
-        return properties.getTtlMs();
+    /** Drops every SERP that lists one of {@code docIds}; returns how many were dropped. */
+    public int invalidateDocs(Set<String> docIds) {
+        if (docIds == null || docIds.isEmpty()) {
+            return 0;
+        }
+        return cache.invalidateIf((key, serp) -> {
+            for (String docId : serp.getDocIds()) {
+                if (docIds.contains(docId)) {
+                    return true;
+                }
+            }
+            return false;
+        });
     }
 
-    public String buildKey(Map<String, Object> fields) {
-        if (fields == null || fields.isEmpty()) {
+    /**
+     * Builds a response around the cached bytes; the caller fills in trace/request
+     * ids, took_ms and debug.
+     */
+    public PreSerializedSearchResponse toResponse(CachedResponse cached) {
+        SerializedSerp payload = cached.getPayload();
+        PreSerializedSearchResponse response = new PreSerializedSearchResponse(payload.getBody(), objectMapper);
+        response.setRankingApplied(payload.isRankingApplied());
+        response.setStrategy(payload.getStrategy());
+        response.setTotal(payload.getTotal());
+        response.setExperimentBucket(payload.getExperimentBucket());
+        return response;
+    }
+
+    private SerializedSerp serialize(SearchResponse response) {
+        SearchResponse result = response.copyResult();
+        try {
+            ObjectNode body = objectMapper.valueToTree(result);
+            body.remove(PER_REQUEST_FIELDS);
+            return new SerializedSerp(
+                objectMapper.writeValueAsBytes(body),
+                result.isRankingApplied(),
+                result.getStrategy(),
+                result.getTotal(),
+                result.getExperimentBucket(),
+                docIdsOf(result.getHits())
+            );
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.debug("serp cache serialization failed", e);
             return null;
         }
-        String hash = CacheKeyUtil.hashJson(objectMapper, fields);
-        if (hash == null) {
-            return null;
+    }
+
+    private static List<String> docIdsOf(List<BookHit> hits) {
+        if (hits == null || hits.isEmpty()) {
+            return List.of();
         }
-        return properties.getKeyPrefix() + hash;
-    }
-
-    public Map<String, Object> baseKeyFields(
-        String queryText,
-        boolean lexicalEnabled,
-        boolean vectorEnabled,
-        int lexicalTopK,
-        int vectorTopK,
-        int rrfK,
-        boolean rerankEnabled,
-        int rerankTopK,
-        int from,
-        int size,
-        Map<String, Double> boost,
-        String operator,
-        String minimumShouldMatch,
-        List<Map<String, Object>> filters,
-        List<String> fieldsOverride
-    ) {
-        Map<String, Object> fields = new HashMap<>();
-        fields.put("q", queryText);
-        fields.put("lexical", lexicalEnabled);
-        fields.put("vector", vectorEnabled);
-        fields.put("lexical_top_k", lexicalTopK);
-        fields.put("vector_top_k", vectorTopK);
-        fields.put("rrf_k", rrfK);
-        fields.put("rerank", rerankEnabled);
-        fields.put("rerank_top_k", rerankTopK);
-        fields.put("from", from);
-        fields.put("size", size);
-        if (boost != null && !boost.isEmpty()) {
-            fields.put("boost", boost);
+        List<String> docIds = new ArrayList<>(hits.size());
+        for (BookHit hit : hits) {
+            if (hit != null && hit.getDocId() != null) {
+                docIds.add(hit.getDocId());
+            }
         }
-        if (operator != null) {
-            fields.put("operator", operator);
+        return docIds;
+    }
+
+    private static long weigh(String key, SerializedSerp value) {
+        return CacheWeights.ENTRY_OVERHEAD_BYTES
+            + CacheWeights.string(key)
+            + 16L + value.getBody().length
+            + CacheWeights.strings(value.getDocIds());
+    }
+
+    /**
+     * Schedules one background rebuild of a stale entry. Returns false when a
+     * refresh for the key is already running or the refresh queue is full.
+     */
+    public boolean refreshAsync(String key, Runnable refresh) {
+        if (key == null || refresh == null || !refreshing.add(key)) {
+            return false;
         }
-        if (minimumShouldMatch != null) {
-            fields.put("minimum_should_match", minimumShouldMatch);
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh.run();
+                    meterRegistry.counter("sr_serp_cache_refresh_total", "result", "ok").increment();
+                } catch (RuntimeException e) {
+                    meterRegistry.counter("sr_serp_cache_refresh_total", "result", "error").increment();
+                    log.debug("serp cache refresh failed key={}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            meterRegistry.counter("sr_serp_cache_refresh_total", "result", "rejected").increment();
+            return false;
         }
-        if (filters != null && !filters.isEmpty()) {
-            fields.put("filters", filters);
+    }
+
+    /**
+     * Runs the loader once per key across concurrent callers. Callers that joined
+     * an in-flight computation receive {@code followerView} of the leader's response.
+     */
+    public SearchResponse computeCoalesced(
+        String key,
+        Supplier<SearchResponse> loader,
+        UnaryOperator<SearchResponse> followerView
+    ) {
+        if (!properties.isEnabled() || !properties.isSingleFlightEnabled() || key == null) {
+            return loader.get();
         }
-        if (fieldsOverride != null && !fieldsOverride.isEmpty()) {
-            fields.put("fields", fieldsOverride);
+        return singleFlight.execute(key, properties.getSingleFlightWaitMs(), loader, shared -> {
+            meterRegistry.counter("sr_serp_cache_coalesced_total").increment();
+            return followerView.apply(shared);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public long getTtlMs() {
+        return properties.getTtlMs();
+    }
+
+    public String buildKey(CacheKeyBuilder key) {
+        if (key == null) {
+            return null;
         }
-        return fields;
+        return properties.getKeyPrefix() + key.build();
     }
 
     public static class CachedResponse {
-        private final SearchResponse response;
+        private final SerializedSerp payload;
         private final long createdAt;
         private final long expiresAt;
+        private final boolean stale;
+
+        public CachedResponse(SerializedSerp payload, long createdAt, long expiresAt) {
+            this(payload, createdAt, expiresAt, false);
+        }
 
-        public CachedResponse(SearchResponse response, long createdAt, long expiresAt) {
-            this.response = response;
+        public CachedResponse(SerializedSerp payload, long createdAt, long expiresAt, boolean stale) {
+            this.payload = payload;
             this.createdAt = createdAt;
             this.expiresAt = expiresAt;
+            this.stale = stale;
         }
 
-        public SearchResponse getResponse() {
-            return response;
+        public SerializedSerp getPayload() {
+            return payload;
         }
 
         public long getCreatedAt() {
@@ -121,5 +293,9 @@ public class SerpCacheService {
         public long getExpiresAt() {
             return expiresAt;
         }
+
+        public boolean isStale() {
+            return stale;
+        }
     }
 }
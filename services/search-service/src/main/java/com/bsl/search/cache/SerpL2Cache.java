@@ -0,0 +1,323 @@
+package com.bsl.search.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared Redis tier under the in-process SERP cache, so replicas share hits
+ * and a fresh pod is not cold. Values are a compact binary encoding of
+ * {@link SerializedSerp}. Writes are pipelined (the value plus a per-doc key
+ * set used for invalidation) and run on one background thread; a full write
+ * queue drops the write, and so does a doc tombstoned while the write was
+ * queued. Redis errors count as misses.
+ *
+ * <p>{@link #invalidateDocs} deletes every shared SERP listing the docs and
+ * publishes the ids so other replicas evict their in-process copies.
+ */
+@Component
+public class SerpL2Cache {
+    private static final Logger log = LoggerFactory.getLogger(SerpL2Cache.class);
+    private static final byte FORMAT_VERSION = 1;
+    private static final String CACHE_NAME = "serp_l2";
+
+    private final SerpCacheProperties.L2 properties;
+    private final DocTombstones tombstones;
+    private final ObjectProvider<StringRedisTemplate> redisProvider;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor writeExecutor;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public SerpL2Cache(
+        SerpCacheProperties properties,
+        DocTombstones tombstones,
+        ObjectProvider<StringRedisTemplate> redisProvider,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties.getL2();
+        this.tombstones = tombstones;
+        this.redisProvider = redisProvider;
+        this.meterRegistry = meterRegistry;
+        this.writeExecutor = new ThreadPoolExecutor(
+            1,
+            1,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, this.properties.getWriteQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "serp-l2-write");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.writeExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    private SerpL2Cache() {
+        this.properties = new SerpCacheProperties.L2();
+        this.tombstones = null;
+        this.redisProvider = null;
+        this.meterRegistry = null;
+        this.writeExecutor = null;
+    }
+
+    /** A tier that is never consulted. */
+    public static SerpL2Cache disabled() {
+        return new SerpL2Cache();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && redisProvider != null;
+    }
+
+    String getInstanceId() {
+        return instanceId;
+    }
+
+    public Optional<Entry> get(String key) {
+        StringRedisTemplate redis = redis();
+        if (redis == null || key == null) {
+            return Optional.empty();
+        }
+        byte[] redisKey = bytes(properties.getKeyPrefix() + key);
+        try {
+            byte[] value = redis.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(redisKey));
+            if (value == null) {
+                request("miss");
+                return Optional.empty();
+            }
+            Entry entry = decode(value);
+            request(entry == null ? "miss" : "hit");
+            return Optional.ofNullable(entry);
+        } catch (RuntimeException e) {
+            request("error");
+            log.debug("serp l2 read failed key={}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** Queues a pipelined write; the TTL is capped at {@code maxTtlMs}. */
+    public void put(String key, SerializedSerp serp, long createdAt, long ttlMs) {
+        StringRedisTemplate redis = redis();
+        if (redis == null || key == null || serp == null) {
+            return;
+        }
+        long effectiveTtlMs = Math.min(ttlMs, properties.getMaxTtlMs());
+        if (effectiveTtlMs <= 0) {
+            return;
+        }
+        String redisKey = properties.getKeyPrefix() + key;
+        try {
+            writeExecutor.execute(() -> write(redis, redisKey, encode(serp, createdAt), serp.getDocIds(), effectiveTtlMs));
+        } catch (RejectedExecutionException e) {
+            write("dropped");
+        }
+    }
+
+    /**
+     * Deletes every shared SERP listing one of {@code docIds} and tells the
+     * other replicas to drop their in-process copies. Returns how many shared
+     * entries were deleted.
+     */
+    public int invalidateDocs(Collection<String> docIds) {
+        StringRedisTemplate redis = redis();
+        if (redis == null || docIds == null || docIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            List<Object> members = redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (String docId : docIds) {
+                    connection.setCommands().sMembers(bytes(docKey(docId)));
+                }
+                return null;
+            });
+            Set<String> serpKeys = new LinkedHashSet<>();
+            for (Object member : members) {
+                if (member instanceof Collection<?> keys) {
+                    for (Object serpKey : keys) {
+                        serpKeys.add(String.valueOf(serpKey));
+                    }
+                }
+            }
+            List<String> deletes = new ArrayList<>(serpKeys);
+            for (String docId : docIds) {
+                deletes.add(docKey(docId));
+            }
+            redis.delete(deletes);
+            redis.convertAndSend(properties.getInvalidationChannel(), instanceId + "|" + String.join(",", docIds));
+            return serpKeys.size();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("sr_cache_l2_errors_total", "cache", CACHE_NAME, "op", "invalidate").increment();
+            log.debug("serp l2 invalidation failed: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writeExecutor != null) {
+            writeExecutor.shutdownNow();
+        }
+    }
+
+    private void write(StringRedisTemplate redis, String redisKey, byte[] value, List<String> docIds, long ttlMs) {
+        if (value == null) {
+            return;
+        }
+        if (tombstones.containsAny(docIds)) {
+            meterRegistry.counter("sr_cache_guarded_writes_total", "cache", CACHE_NAME).increment();
+            return;
+        }
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().set(
+                    bytes(redisKey),
+                    value,
+                    Expiration.milliseconds(ttlMs),
+                    RedisStringCommands.SetOption.upsert()
+                );
+                for (String docId : docIds) {
+                    byte[] docKey = bytes(docKey(docId));
+                    connection.setCommands().sAdd(docKey, bytes(redisKey));
+                    connection.keyCommands().pExpire(docKey, ttlMs);
+                }
+                return null;
+            });
+            write("ok");
+        } catch (RuntimeException e) {
+            write("error");
+            log.debug("serp l2 write failed key={}: {}", redisKey, e.getMessage());
+        }
+    }
+
+    private StringRedisTemplate redis() {
+        if (!isEnabled()) {
+            return null;
+        }
+        return redisProvider.getIfAvailable();
+    }
+
+    private String docKey(String docId) {
+        return properties.getKeyPrefix() + "doc:" + docId;
+    }
+
+    private void request(String result) {
+        meterRegistry.counter("sr_cache_requests_total", "cache", CACHE_NAME, "result", result).increment();
+    }
+
+    private void write(String result) {
+        meterRegistry.counter("sr_cache_l2_writes_total", "cache", CACHE_NAME, "result", result).increment();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] encode(SerializedSerp serp, long createdAt) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(serp.getBody().length + 128);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(createdAt);
+            out.writeBoolean(serp.isRankingApplied());
+            writeNullable(out, serp.getStrategy());
+            out.writeBoolean(serp.getTotal() != null);
+            out.writeInt(serp.getTotal() == null ? 0 : serp.getTotal());
+            writeNullable(out, serp.getExperimentBucket());
+            out.writeInt(serp.getDocIds().size());
+            for (String docId : serp.getDocIds()) {
+                out.writeUTF(docId);
+            }
+            out.writeInt(serp.getBody().length);
+            out.write(serp.getBody());
+        } catch (IOException e) {
+            return null;
+        }
+        return buffer.toByteArray();
+    }
+
+    static Entry decode(byte[] value) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            long createdAt = in.readLong();
+            boolean rankingApplied = in.readBoolean();
+            String strategy = readNullable(in);
+            boolean hasTotal = in.readBoolean();
+            int total = in.readInt();
+            String experimentBucket = readNullable(in);
+            int docCount = in.readInt();
+            List<String> docIds = new ArrayList<>(docCount);
+            for (int i = 0; i < docCount; i++) {
+                docIds.add(in.readUTF());
+            }
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            SerializedSerp serp = new SerializedSerp(
+                body,
+                rankingApplied,
+                strategy,
+                hasTotal ? total : null,
+                experimentBucket,
+                docIds
+            );
+            return new Entry(serp, createdAt);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public static class Entry {
+        private final SerializedSerp payload;
+        private final long createdAt;
+
+        public Entry(SerializedSerp payload, long createdAt) {
+            this.payload = payload;
+            this.createdAt = createdAt;
+        }
+
+        public SerializedSerp getPayload() {
+            return payload;
+        }
+
+        public long getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
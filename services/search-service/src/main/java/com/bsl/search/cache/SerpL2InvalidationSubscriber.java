@@ -0,0 +1,69 @@
+package com.bsl.search.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies doc invalidations published by other replicas through
+ * {@link SerpL2Cache#invalidateDocs} to this instance's caches. Messages are
+ * {@code <instanceId>|<docId>,<docId>...}; our own messages are skipped.
+ */
+@Component
+public class SerpL2InvalidationSubscriber implements MessageListener {
+    private final SerpCacheProperties properties;
+    private final ObjectProvider<RedisConnectionFactory> connectionFactoryProvider;
+    private final SerpL2Cache serpL2Cache;
+    private final CacheInvalidationService invalidationService;
+    private RedisMessageListenerContainer container;
+
+    public SerpL2InvalidationSubscriber(
+        SerpCacheProperties properties,
+        ObjectProvider<RedisConnectionFactory> connectionFactoryProvider,
+        SerpL2Cache serpL2Cache,
+        CacheInvalidationService invalidationService
+    ) {
+        this.properties = properties;
+        this.connectionFactoryProvider = connectionFactoryProvider;
+        this.serpL2Cache = serpL2Cache;
+        this.invalidationService = invalidationService;
+    }
+
+    @PostConstruct
+    public void start() {
+        RedisConnectionFactory connectionFactory = connectionFactoryProvider.getIfAvailable();
+        if (!serpL2Cache.isEnabled() || connectionFactory == null) {
+            return;
+        }
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this, new ChannelTopic(properties.getL2().getInvalidationChannel()));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0 || body.substring(0, separator).equals(serpL2Cache.getInstanceId())) {
+            return;
+        }
+        invalidationService.invalidateLocal(Arrays.asList(body.substring(separator + 1).split(",")));
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+}
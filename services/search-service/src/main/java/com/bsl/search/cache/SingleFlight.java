@@ -0,0 +1,63 @@
+package com.bsl.search.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collapses concurrent computations of the same key onto one in-flight call.
+ * Followers wait a bounded time for the leader and then compute on their own,
+ * so a stuck leader never holds them past their budget.
+ */
+public class SingleFlight<V> {
+    private final ConcurrentHashMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(String key, long followerWaitMs, Supplier<V> loader, UnaryOperator<V> followerView) {
+        if (key == null) {
+            return loader.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            V shared = await(leader, followerWaitMs);
+            return shared != null ? followerView.apply(shared) : loader.get();
+        }
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> leader, long waitMs) {
+        try {
+            if (waitMs > 0) {
+                return leader.get(waitMs, TimeUnit.MILLISECONDS);
+            }
+            return leader.get();
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.bsl.search.cover;
+
+import com.bsl.search.cache.AdmissionCache;
+import com.bsl.search.cache.CacheKeyBuilder;
+import com.bsl.search.cache.CacheWeights;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import org.springframework.stereotype.Service;
+
+/**
+ * Generated SVG covers for books without a cover image. Hits carry a short
+ * {@code /covers/{docId}.svg?v=...} URL; the version is a hash of everything
+ * the image is drawn from, so the endpoint can serve it with a strong ETag and
+ * a long max-age. Rendered images are memoized by that version.
+ */
+@Service
+public class CoverImageService {
+    /** Bump when the SVG template changes so clients drop cached images. */
+    private static final int TEMPLATE_VERSION = 1;
+
+    private static final String[][] TONES = {
+        {"#2f3d66", "#5a7bb8"},
+        {"#3f4f4a", "#6d8f7e"},
+        {"#5a3f2f", "#a47f62"},
+        {"#2f4f5a", "#5f96ad"},
+        {"#4c3d62", "#7f6ab8"},
+        {"#2f4b5f", "#5f7fa6"},
+    };
+
+    private final CoverProperties properties;
+    private final AdmissionCache<GeneratedCover> cache;
+
+    public CoverImageService(CoverProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = new AdmissionCache<>(
+            "generated_cover",
+            properties.getMaxWeightBytes(),
+            (key, cover) -> CacheWeights.ENTRY_OVERHEAD_BYTES + CacheWeights.string(key) + 16L + cover.getSvg().length,
+            meterRegistry
+        );
+    }
+
+    /** Short URL of the generated cover for a hit; nothing is rendered here. */
+    public String coverUrl(String docId, String title, String isbn13) {
+        String base = properties.getBaseUrl();
+        if (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        String id = firstNonBlank(docId, "BSL");
+        return base + "/" + URLEncoder.encode(id, StandardCharsets.UTF_8).replace("+", "%20")
+            + ".svg?v=" + version(id, title, isbn13);
+    }
+
+    public GeneratedCover render(String docId, String title, String isbn13) {
+        String version = version(firstNonBlank(docId, "BSL"), title, isbn13);
+        return cache.get(version).map(entry -> entry.getValue()).orElseGet(() -> {
+            GeneratedCover cover = new GeneratedCover(
+                buildSvg(docId, title, isbn13).getBytes(StandardCharsets.UTF_8),
+                version
+            );
+            cache.put(version, cover, properties.getTtlMs());
+            return cover;
+        });
+    }
+
+    public int getCacheControlMaxAgeSeconds() {
+        return properties.getCacheControlMaxAgeSeconds();
+    }
+
+    private static String version(String docId, String title, String isbn13) {
+        return CacheKeyBuilder.create()
+            .field("template", TEMPLATE_VERSION)
+            .field("doc_id", docId)
+            .field("title", title)
+            .field("isbn13", isbn13)
+            .build()
+            .substring(0, 16);
+    }
+
+    static String buildSvg(String docId, String title, String isbn13) {
+        String seed = firstNonBlank(docId, isbn13, title, "bsl-book-cover");
+        String[] tone = TONES[Math.abs(seed.hashCode()) % TONES.length];
+
+        String resolvedTitle = sanitizeCoverText(firstNonBlank(title, docId, "제목 없음"), 40);
+        String shortId = sanitizeCoverText(firstNonBlank(docId, "BSL"), 12);
+        String line1 = escapeXml(cutTitleLine(resolvedTitle, 0, 12));
+        String line2 = escapeXml(cutTitleLine(resolvedTitle, 12, 24));
+        String line3 = escapeXml(cutTitleLine(resolvedTitle, 24, 36));
+        String idLabel = escapeXml(shortId);
+
+        return "<svg xmlns='http://www.w3.org/2000/svg' width='360' height='520' viewBox='0 0 360 520'>"
+            + "<defs><linearGradient id='g' x1='0' y1='0' x2='1' y2='1'>"
+            + "<stop offset='0%' stop-color='" + tone[0] + "'/>"
+            + "<stop offset='100%' stop-color='" + tone[1] + "'/>"
+            + "</linearGradient></defs>"
+            + "<rect width='360' height='520' fill='url(#g)'/>"
+            + "<rect x='26' y='26' width='308' height='468' rx='22' fill='rgba(255,255,255,0.08)'/>"
+            + "<text x='38' y='82' fill='rgba(255,255,255,0.9)' font-size='20' font-weight='700'>BSL BOOKS</text>"
+            + "<text x='38' y='206' fill='#ffffff' font-size='40' font-weight='700'>" + line1 + "</text>"
+            + "<text x='38' y='256' fill='#ffffff' font-size='40' font-weight='700'>" + line2 + "</text>"
+            + "<text x='38' y='306' fill='#ffffff' font-size='40' font-weight='700'>" + line3 + "</text>"
+            + "<text x='38' y='472' fill='rgba(255,255,255,0.86)' font-size='18' font-weight='600'>" + idLabel + "</text>"
+            + "</svg>";
+    }
+
+    private static String cutTitleLine(String title, int start, int end) {
+        if (title == null || title.isBlank() || start >= title.length()) {
+            return "";
+        }
+        int safeEnd = Math.min(end, title.length());
+        return title.substring(start, safeEnd);
+    }
+
+    private static String sanitizeCoverText(String value, int maxLen) {
+        if (value == null) {
+            return "";
+        }
+        String compact = value.replaceAll("\\s+", " ").trim();
+        if (compact.isBlank()) {
+            return "";
+        }
+        if (compact.length() <= maxLen) {
+            return compact;
+        }
+        return compact.substring(0, maxLen);
+    }
+
+    private static String escapeXml(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        return value
+            .replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;")
+            .replace("'", "&apos;");
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public static class GeneratedCover {
+        private final byte[] svg;
+        private final String version;
+
+        public GeneratedCover(byte[] svg, String version) {
+            this.svg = svg;
+            this.version = version;
+        }
+
+        public byte[] getSvg() {
+            return svg;
+        }
+
+        /** The {@code ?v=} value of the cover URL. */
+        public String getVersion() {
+            return version;
+        }
+
+        public String getEtag() {
+            return "\"" + version + "\"";
+        }
+    }
+}
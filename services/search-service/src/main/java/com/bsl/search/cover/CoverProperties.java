@@ -0,0 +1,45 @@
+package com.bsl.search.cover;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "search.covers")
+public class CoverProperties {
+    private String baseUrl = "/covers";
+    private long ttlMs = 3_600_000L;
+    private long maxWeightBytes = 8L * 1024 * 1024;
+    private int cacheControlMaxAgeSeconds = 31_536_000;
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    public int getCacheControlMaxAgeSeconds() {
+        return cacheControlMaxAgeSeconds;
+    }
+
+    public void setCacheControlMaxAgeSeconds(int cacheControlMaxAgeSeconds) {
+        this.cacheControlMaxAgeSeconds = cacheControlMaxAgeSeconds;
+    }
+}
@@ -0,0 +1,60 @@
+package com.bsl.search.embed;
+
+/**
+ * Cache representation of a query embedding: the float vector as-is, or
+ * symmetric per-vector int8 codes ({@code value ~= code * scale}). int8 keeps a
+ * quarter of the bytes at well under 1% relative error per component for
+ * normalized vectors, which is far below what moves a kNN top-K.
+ */
+final class CachedEmbedding {
+    private static final long ARRAY_HEADER_BYTES = 16L;
+    private static final long OBJECT_BYTES = 24L;
+
+    private final float[] floats;
+    private final byte[] codes;
+    private final float scale;
+
+    private CachedEmbedding(float[] floats, byte[] codes, float scale) {
+        this.floats = floats;
+        this.codes = codes;
+        this.scale = scale;
+    }
+
+    static CachedEmbedding of(float[] vector, EmbeddingQuantization quantization) {
+        if (quantization == EmbeddingQuantization.INT8) {
+            return quantize(vector);
+        }
+        return new CachedEmbedding(vector.clone(), null, 0f);
+    }
+
+    /** Returns a fresh array; callers may not share the cached one. */
+    float[] toFloats() {
+        if (floats != null) {
+            return floats.clone();
+        }
+        float[] vector = new float[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            vector[i] = codes[i] * scale;
+        }
+        return vector;
+    }
+
+    long weightBytes() {
+        long payload = floats != null ? 4L * floats.length : codes.length;
+        return OBJECT_BYTES + ARRAY_HEADER_BYTES + payload;
+    }
+
+    private static CachedEmbedding quantize(float[] vector) {
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float scale = maxAbs == 0f ? 1f : maxAbs / 127f;
+        byte[] codes = new byte[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            int code = Math.round(vector[i] / scale);
+            codes[i] = (byte) Math.max(-127, Math.min(127, code));
+        }
+        return new CachedEmbedding(null, codes, scale);
+    }
+}
@@ -0,0 +1,230 @@
+package com.bsl.search.embed;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent embedding requests into one {@code /v1/embed} call. A
+ * dispatcher thread collects texts until the batch is full or the wait window
+ * closes, then hands the batch to a small sender pool; each caller blocks on
+ * its own future for at most its own budget. Identical texts in a batch are
+ * sent once. When every sender is busy and the hand-off queue is full the batch
+ * fails fast with {@code embed_rejected} instead of stalling the dispatcher.
+ */
+@Component
+public class EmbeddingBatcher {
+    private final EmbeddingGateway embeddingGateway;
+    private final EmbeddingProperties properties;
+    private final LinkedBlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSize;
+    private final Timer batchWait;
+    private final ThreadPoolExecutor sender;
+    private final Thread dispatcher;
+
+    public EmbeddingBatcher(EmbeddingGateway embeddingGateway, EmbeddingProperties properties, MeterRegistry meterRegistry) {
+        this.embeddingGateway = embeddingGateway;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("sr_embed_batch_size")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.batchWait = Timer.builder("sr_embed_batch_wait_ms")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        if (!isEnabled()) {
+            this.sender = null;
+            this.dispatcher = null;
+            return;
+        }
+        int senders = Math.max(1, properties.getBatch().getMaxInFlight());
+        AtomicInteger threadIds = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(
+            senders,
+            senders,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(senders),
+            runnable -> {
+                Thread thread = new Thread(runnable, "embed-batch-send-" + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.sender.allowCoreThreadTimeOut(true);
+        this.dispatcher = new Thread(this::dispatchLoop, "embed-batch-dispatch");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    public boolean isEnabled() {
+        return properties.getBatch().isEnabled();
+    }
+
+    public float[] embed(String text, Integer timeBudgetMs, String traceId, String requestId) {
+        if (text == null || text.isBlank()) {
+            throw new EmbeddingUnavailableException("embed_empty_text");
+        }
+        if (!isEnabled()) {
+            return embeddingGateway.embed(text, timeBudgetMs, traceId, requestId);
+        }
+        int budgetMs = timeBudgetMs == null ? properties.getTimeoutMs() : timeBudgetMs;
+        Pending pending = new Pending(text, budgetMs, traceId, requestId);
+        queue.offer(pending);
+        try {
+            return pending.future.get(budgetMs + (long) properties.getBatch().getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            pending.future.cancel(false);
+            throw new EmbeddingUnavailableException("embed_timeout", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmbeddingUnavailableException("embed_interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof EmbeddingUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw new EmbeddingUnavailableException("embed_unavailable", e.getCause());
+        }
+    }
+
+    private void dispatchLoop() {
+        int maxBatchSize = Math.max(1, properties.getBatch().getMaxBatchSize());
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getBatch().getMaxWaitMs()));
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Pending first = queue.take();
+                List<Pending> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long windowEnd = first.enqueuedNanos + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = windowEnd - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                long dispatchedAt = System.nanoTime();
+                for (Pending pending : batch) {
+                    batchWait.record(dispatchedAt - pending.enqueuedNanos, TimeUnit.NANOSECONDS);
+                }
+                batchSize.record(batch.size());
+                try {
+                    sender.execute(() -> send(batch));
+                } catch (RejectedExecutionException e) {
+                    EmbeddingUnavailableException rejected = new EmbeddingUnavailableException("embed_rejected", e);
+                    for (Pending pending : batch) {
+                        pending.future.completeExceptionally(rejected);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        Map<String, List<Pending>> byText = new LinkedHashMap<>();
+        long now = System.nanoTime();
+        long budgetNanos = 0L;
+        for (Pending pending : batch) {
+            if (pending.future.isDone()) {
+                continue;
+            }
+            byText.computeIfAbsent(pending.text, key -> new ArrayList<>(1)).add(pending);
+            budgetNanos = Math.max(budgetNanos, pending.deadlineNanos - now);
+        }
+        if (byText.isEmpty()) {
+            return;
+        }
+        if (budgetNanos <= 0) {
+            failAll(byText, new EmbeddingUnavailableException("embed_timeout"));
+            return;
+        }
+        LinkedHashSet<String> traceIds = new LinkedHashSet<>();
+        LinkedHashSet<String> requestIds = new LinkedHashSet<>();
+        for (List<Pending> pendings : byText.values()) {
+            for (Pending pending : pendings) {
+                addId(traceIds, pending.traceId);
+                addId(requestIds, pending.requestId);
+            }
+        }
+        List<String> texts = new ArrayList<>(byText.keySet());
+        int budgetMs = (int) Math.max(1L, TimeUnit.NANOSECONDS.toMillis(budgetNanos));
+        try {
+            List<float[]> vectors = embeddingGateway.embedBatch(
+                texts,
+                budgetMs,
+                List.copyOf(traceIds),
+                List.copyOf(requestIds)
+            );
+            for (int i = 0; i < texts.size(); i++) {
+                for (Pending pending : byText.get(texts.get(i))) {
+                    pending.future.complete(vectors.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            failAll(byText, e);
+        }
+    }
+
+    private static void addId(LinkedHashSet<String> ids, String id) {
+        if (id != null && !id.isBlank()) {
+            ids.add(id);
+        }
+    }
+
+    private static void failAll(Map<String, List<Pending>> byText, RuntimeException error) {
+        for (List<Pending> pendings : byText.values()) {
+            for (Pending pending : pendings) {
+                pending.future.completeExceptionally(error);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        if (sender != null) {
+            sender.shutdownNow();
+        }
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(new EmbeddingUnavailableException("embed_unavailable"));
+        }
+    }
+
+    private static final class Pending {
+        private final String text;
+        private final String traceId;
+        private final String requestId;
+        private final long enqueuedNanos;
+        private final long deadlineNanos;
+        private final CompletableFuture<float[]> future = new CompletableFuture<>();
+
+        private Pending(String text, int budgetMs, String traceId, String requestId) {
+            this.text = text;
+            this.traceId = traceId;
+            this.requestId = requestId;
+            this.enqueuedNanos = System.nanoTime();
+            this.deadlineNanos = enqueuedNanos + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        }
+    }
+}
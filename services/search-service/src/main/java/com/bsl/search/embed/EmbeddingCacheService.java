@@ -1,8 +1,9 @@
 package com.bsl.search.embed;
 
-import com.bsl.search.cache.CacheKeyUtil;
-import com.bsl.search.cache.TtlCache;
-import java.util.List;
+import com.bsl.search.cache.AdmissionCache;
+import com.bsl.search.cache.CacheKeyBuilder;
+import com.bsl.search.cache.CacheWeights;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Locale;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
@@ -10,29 +11,34 @@ import org.springframework.stereotype.Service;
 @Service
 public class EmbeddingCacheService {
     private final EmbeddingProperties properties;
-    private final TtlCache<List<Double>> cache;
+    private final AdmissionCache<CachedEmbedding> cache;
 
-    public EmbeddingCacheService(EmbeddingProperties properties) {
+    public EmbeddingCacheService(EmbeddingProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
-        int maxEntries = properties.getCache() == null ? 2000 : properties.getCache().getMaxEntries();
-        this.cache = new TtlCache<>(maxEntries);
+        long maxWeightBytes = properties.getCache() == null
+            ? 32L * 1024 * 1024
+            : properties.getCache().getMaxWeightBytes();
+        this.cache = new AdmissionCache<>("embedding", maxWeightBytes, EmbeddingCacheService::weigh, meterRegistry);
     }
 
-    public Optional<List<Double>> get(String text) {
+    public Optional<float[]> get(String text) {
         String key = buildKey(text);
         if (key == null) {
             return Optional.empty();
         }
-        return cache.get(key).map(entry -> entry.getValue());
+        return cache.get(key).map(entry -> entry.getValue().toFloats());
     }
 
-    public void put(String text, List<Double> vector) {
+    public void put(String text, float[] vector) {
         String key = buildKey(text);
-        if (key == null || vector == null || vector.isEmpty()) {
+        if (key == null || vector == null || vector.length == 0) {
             return;
         }
         long ttlMs = properties.getCache() == null ? 0L : properties.getCache().getTtlMs();
-        cache.put(key, vector, ttlMs);
+        EmbeddingQuantization quantization = properties.getCache() == null
+            ? EmbeddingQuantization.NONE
+            : properties.getCache().getQuantization();
+        cache.put(key, CachedEmbedding.of(vector, quantization), ttlMs);
     }
 
     public boolean isEnabled() {
@@ -50,6 +56,10 @@ public class EmbeddingCacheService {
         return value;
     }
 
+    private static long weigh(String key, CachedEmbedding vector) {
+        return CacheWeights.ENTRY_OVERHEAD_BYTES + CacheWeights.string(key) + vector.weightBytes();
+    }
+
     private String buildKey(String text) {
         if (!isEnabled() || text == null) {
             return null;
@@ -65,7 +75,7 @@ public class EmbeddingCacheService {
         String model = properties.getModel() == null ? "" : properties.getModel();
         String mode = properties.getMode() == null ? "" : properties.getMode().name();
         String normFlag = properties.getCache() != null && properties.getCache().isNormalize() ? "norm1" : "norm0";
-        String hash = CacheKeyUtil.sha256(normalized);
+        String hash = CacheKeyBuilder.create().field("q", normalized).build();
         return "embed:" + mode + ":" + model + ":" + normFlag + ":" + hash;
     }
 }
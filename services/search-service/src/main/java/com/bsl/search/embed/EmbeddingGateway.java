@@ -27,30 +27,51 @@ public class EmbeddingGateway {
         this.properties = properties;
     }
 
-    public List<Double> embed(String text, Integer timeBudgetMs) {
+    public float[] embed(String text, Integer timeBudgetMs) {
         return embed(text, timeBudgetMs, null, null);
     }
 
-    public List<Double> embed(String text, Integer timeBudgetMs, String traceId, String requestId) {
+    public float[] embed(String text, Integer timeBudgetMs, String traceId, String requestId) {
         if (text == null || text.isBlank()) {
             throw new EmbeddingUnavailableException("embed_empty_text");
         }
+        return embedBatch(List.of(text), timeBudgetMs, traceId, requestId).get(0);
+    }
+
+    /**
+     * Embeds several texts in one {@code /v1/embed} call. Vectors come back in
+     * the order of {@code texts}.
+     */
+    public List<float[]> embedBatch(List<String> texts, Integer timeBudgetMs, String traceId, String requestId) {
+        return embedBatch(texts, timeBudgetMs, idList(traceId), idList(requestId));
+    }
+
+    /**
+     * Batched form carrying every caller's ids: the first goes out as
+     * {@code x-trace-id}/{@code x-request-id}, the full lists as
+     * {@code x-batch-trace-ids}/{@code x-batch-request-ids} when more than one.
+     */
+    public List<float[]> embedBatch(
+        List<String> texts,
+        Integer timeBudgetMs,
+        List<String> traceIds,
+        List<String> requestIds
+    ) {
+        if (texts == null || texts.isEmpty()) {
+            throw new EmbeddingUnavailableException("embed_empty_text");
+        }
         if (properties.getBaseUrl() == null || properties.getBaseUrl().isBlank()) {
             throw new EmbeddingUnavailableException("embed_base_url_missing");
         }
         EmbeddingRequest request = new EmbeddingRequest();
         request.setModel(properties.getModel());
-        request.setTexts(List.of(text));
+        request.setTexts(List.copyOf(texts));
         request.setNormalize(true);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        if (traceId != null && !traceId.isBlank()) {
-            headers.add("x-trace-id", traceId);
-        }
-        if (requestId != null && !requestId.isBlank()) {
-            headers.add("x-request-id", requestId);
-        }
+        addIdHeaders(headers, "x-trace-id", "x-batch-trace-ids", traceIds);
+        addIdHeaders(headers, "x-request-id", "x-batch-request-ids", requestIds);
         HttpEntity<EmbeddingRequest> entity = new HttpEntity<>(request, headers);
 
         int retries = Math.max(0, properties.getRetryCount());
@@ -67,11 +88,16 @@ public class EmbeddingGateway {
                 if (body == null || body.getVectors() == null || body.getVectors().isEmpty()) {
                     throw new EmbeddingUnavailableException("embed_empty_response");
                 }
-                List<Double> vector = body.getVectors().get(0);
-                if (vector == null || vector.isEmpty()) {
-                    throw new EmbeddingUnavailableException("embed_empty_vector");
+                List<float[]> vectors = body.getVectors();
+                if (vectors.size() != texts.size()) {
+                    throw new EmbeddingUnavailableException("embed_vector_count_mismatch");
                 }
-                return vector;
+                for (float[] vector : vectors) {
+                    if (vector == null || vector.length == 0) {
+                        throw new EmbeddingUnavailableException("embed_empty_vector");
+                    }
+                }
+                return vectors;
             } catch (ResourceAccessException e) {
                 if (attempt >= retries) {
                     String reason = "embed_unavailable";
@@ -90,6 +116,20 @@ public class EmbeddingGateway {
         throw new EmbeddingUnavailableException("embed_unavailable");
     }
 
+    private static List<String> idList(String id) {
+        return id == null || id.isBlank() ? List.of() : List.of(id);
+    }
+
+    private static void addIdHeaders(HttpHeaders headers, String single, String batch, List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        headers.add(single, ids.get(0));
+        if (ids.size() > 1) {
+            headers.add(batch, String.join(",", ids));
+        }
+    }
+
     private String buildUrl(String path) {
         String base = properties.getBaseUrl();
         if (base.endsWith("/")) {
@@ -142,7 +182,7 @@ public class EmbeddingGateway {
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class EmbeddingResponse {
         private String model;
-        private List<List<Double>> vectors;
+        private List<float[]> vectors;
 
         public String getModel() {
             return model;
@@ -152,11 +192,11 @@ public class EmbeddingGateway {
             this.model = model;
         }
 
-        public List<List<Double>> getVectors() {
+        public List<float[]> getVectors() {
             return vectors;
         }
 
-        public void setVectors(List<List<Double>> vectors) {
+        public void setVectors(List<float[]> vectors) {
             this.vectors = vectors;
         }
     }
@@ -10,6 +10,7 @@ public class EmbeddingProperties {
     private int timeoutMs = 200;
     private int retryCount = 0;
     private Cache cache = new Cache();
+    private Batch batch = new Batch();
 
     public EmbeddingMode getMode() {
         return mode;
@@ -59,12 +60,21 @@ public class EmbeddingProperties {
         this.cache = cache;
     }
 
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
     public static class Cache {
         private boolean enabled = false;
         private long ttlMs = 60000;
-        private int maxEntries = 2000;
+        private long maxWeightBytes = 32L * 1024 * 1024;
         private int maxTextLength = 200;
         private boolean normalize = true;
+        private EmbeddingQuantization quantization = EmbeddingQuantization.NONE;
 
         public boolean isEnabled() {
             return enabled;
@@ -82,12 +92,12 @@ public class EmbeddingProperties {
             this.ttlMs = ttlMs;
         }
 
-        public int getMaxEntries() {
-            return maxEntries;
+        public long getMaxWeightBytes() {
+            return maxWeightBytes;
         }
 
-        public void setMaxEntries(int maxEntries) {
-            this.maxEntries = maxEntries;
+        public void setMaxWeightBytes(long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
         }
 
         public int getMaxTextLength() {
@@ -105,5 +115,52 @@ public class EmbeddingProperties {
         public void setNormalize(boolean normalize) {
             this.normalize = normalize;
         }
+
+        public EmbeddingQuantization getQuantization() {
+            return quantization;
+        }
+
+        public void setQuantization(EmbeddingQuantization quantization) {
+            this.quantization = quantization;
+        }
+    }
+
+    public static class Batch {
+        private boolean enabled = false;
+        private int maxBatchSize = 16;
+        private int maxWaitMs = 2;
+        private int maxInFlight = 4;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public int getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        public void setMaxWaitMs(int maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
     }
 }
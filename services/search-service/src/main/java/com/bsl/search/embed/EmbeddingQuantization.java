@@ -0,0 +1,6 @@
+package com.bsl.search.embed;
+
+public enum EmbeddingQuantization {
+    NONE,
+    INT8
+}
@@ -1,6 +1,5 @@
 package com.bsl.search.embed;
 
-import java.util.List;
 import org.springframework.stereotype.Component;
 import com.bsl.search.resilience.CircuitBreaker;
 import com.bsl.search.resilience.SearchResilienceRegistry;
@@ -9,6 +8,7 @@ import com.bsl.search.resilience.SearchResilienceRegistry;
 public class EmbeddingService implements EmbeddingProvider {
     private final EmbeddingProperties properties;
     private final EmbeddingGateway embeddingGateway;
+    private final EmbeddingBatcher embeddingBatcher;
     private final ToyEmbedder toyEmbedder;
     private final EmbeddingCacheService cacheService;
     private final SearchResilienceRegistry resilienceRegistry;
@@ -16,24 +16,26 @@ public class EmbeddingService implements EmbeddingProvider {
     public EmbeddingService(
         EmbeddingProperties properties,
         EmbeddingGateway embeddingGateway,
+        EmbeddingBatcher embeddingBatcher,
         ToyEmbedder toyEmbedder,
         EmbeddingCacheService cacheService,
         SearchResilienceRegistry resilienceRegistry
     ) {
         this.properties = properties;
         this.embeddingGateway = embeddingGateway;
+        this.embeddingBatcher = embeddingBatcher;
         this.toyEmbedder = toyEmbedder;
         this.cacheService = cacheService;
         this.resilienceRegistry = resilienceRegistry;
     }
 
     @Override
-    public List<Double> embed(String text, Integer timeBudgetMs) {
+    public float[] embed(String text, Integer timeBudgetMs) {
         return embed(text, timeBudgetMs, null, null);
     }
 
     @Override
-    public List<Double> embed(String text, Integer timeBudgetMs, String traceId, String requestId) {
+    public float[] embed(String text, Integer timeBudgetMs, String traceId, String requestId) {
         if (cacheService.isEnabled()) {
             return cacheService.get(text)
                 .orElseGet(() -> fetchAndCache(text, timeBudgetMs, traceId, requestId));
@@ -41,21 +43,24 @@ public class EmbeddingService implements EmbeddingProvider {
         return fetch(text, timeBudgetMs, traceId, requestId);
     }
 
-    private List<Double> fetchAndCache(String text, Integer timeBudgetMs, String traceId, String requestId) {
-        List<Double> vector = fetch(text, timeBudgetMs, traceId, requestId);
+    private float[] fetchAndCache(String text, Integer timeBudgetMs, String traceId, String requestId) {
+        float[] vector = fetch(text, timeBudgetMs, traceId, requestId);
         cacheService.put(text, vector);
         return vector;
     }
 
-    private List<Double> fetch(String text, Integer timeBudgetMs, String traceId, String requestId) {
+    private float[] fetch(String text, Integer timeBudgetMs, String traceId, String requestId) {
         if (properties.getMode() == EmbeddingMode.HTTP) {
             CircuitBreaker breaker = resilienceRegistry.getEmbedBreaker();
             if (!breaker.allowRequest()) {
                 throw new EmbeddingUnavailableException("embed_circuit_open");
             }
+            long started = System.nanoTime();
             try {
-                List<Double> vector = embeddingGateway.embed(text, timeBudgetMs, traceId, requestId);
-                breaker.recordSuccess();
+                float[] vector = embeddingBatcher.isEnabled()
+                    ? embeddingBatcher.embed(text, timeBudgetMs, traceId, requestId)
+                    : embeddingGateway.embed(text, timeBudgetMs, traceId, requestId);
+                breaker.recordSuccess((System.nanoTime() - started) / 1_000_000L);
                 return vector;
             } catch (EmbeddingUnavailableException ex) {
                 breaker.recordFailure();
@@ -4,8 +4,6 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 import org.springframework.stereotype.Component;
 
@@ -13,7 +11,7 @@ import org.springframework.stereotype.Component;
 public class ToyEmbedder {
     public static final int DIMENSION = 384;
 
-    public List<Double> embed(String text) {
+    public float[] embed(String text) {
         long seed = stableSeed(text);
         Random random = new Random(seed);
         double[] values = new double[DIMENSION];
@@ -27,9 +25,9 @@ public class ToyEmbedder {
         if (norm == 0.0) {
             norm = 1.0;
         }
-        List<Double> vector = new ArrayList<>(DIMENSION);
-        for (double value : values) {
-            vector.add(value / norm);
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) (values[i] / norm);
         }
         return vector;
     }
@@ -0,0 +1,93 @@
+package com.bsl.search.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides, before any retrieval work is queued, whether a search runs in full,
+ * runs lexical-only, or is shed. Shedding happens when too many searches are
+ * already executing or the retrieval queue is nearly full; lexical-only kicks
+ * in earlier to halve the retrieval tasks and skip rerank. Requests answered
+ * from the SERP cache never reach this point.
+ */
+@Component
+public class AdmissionController {
+    public enum Decision {
+        FULL,
+        LEXICAL_ONLY,
+        SHED
+    }
+
+    private final SearchExecutionProperties.Admission properties;
+    private final Bulkhead retrieval;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter full;
+    private final Counter lexicalOnly;
+    private final Counter shed;
+
+    public AdmissionController(
+        SearchExecutionProperties properties,
+        SearchBulkheads bulkheads,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties.getAdmission();
+        this.retrieval = bulkheads.getRetrieval();
+        this.full = Counter.builder("sr_admission_total").tag("decision", "full").register(meterRegistry);
+        this.lexicalOnly = Counter.builder("sr_admission_total").tag("decision", "lexical_only").register(meterRegistry);
+        this.shed = Counter.builder("sr_admission_total").tag("decision", "shed").register(meterRegistry);
+        Gauge.builder("sr_search_in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /** Admits a search; the permit must be closed when the search finishes. */
+    public Permit admit() {
+        int current = inFlight.incrementAndGet();
+        Decision decision = decide(current);
+        if (decision == Decision.SHED) {
+            inFlight.decrementAndGet();
+            shed.increment();
+            return new Permit(decision, null);
+        }
+        (decision == Decision.FULL ? full : lexicalOnly).increment();
+        return new Permit(decision, inFlight);
+    }
+
+    private Decision decide(int current) {
+        if (!properties.isEnabled()) {
+            return Decision.FULL;
+        }
+        double saturation = retrieval.saturation();
+        if ((properties.getMaxInFlight() > 0 && current > properties.getMaxInFlight())
+            || saturation >= properties.getShedQueueRatio()) {
+            return Decision.SHED;
+        }
+        if (saturation >= properties.getLexicalOnlyQueueRatio()) {
+            return Decision.LEXICAL_ONLY;
+        }
+        return Decision.FULL;
+    }
+
+    public static final class Permit implements AutoCloseable {
+        private final Decision decision;
+        private AtomicInteger inFlight;
+
+        private Permit(Decision decision, AtomicInteger inFlight) {
+            this.decision = decision;
+            this.inFlight = inFlight;
+        }
+
+        public Decision getDecision() {
+            return decision;
+        }
+
+        @Override
+        public void close() {
+            if (inFlight != null) {
+                inFlight.decrementAndGet();
+                inFlight = null;
+            }
+        }
+    }
+}
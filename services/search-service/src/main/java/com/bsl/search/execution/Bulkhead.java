@@ -0,0 +1,86 @@
+package com.bsl.search.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-size pool with a bounded queue for one kind of search work. A full
+ * queue rejects with {@link RejectedExecutionException} instead of growing, so
+ * callers can degrade rather than wait past their budget. Queue depth, active
+ * threads, queue wait and rejections are exported per pool.
+ */
+public class Bulkhead implements Executor {
+    private final String name;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public Bulkhead(String name, SearchExecutionProperties.Pool pool, MeterRegistry meterRegistry) {
+        this.name = name;
+        int threads = Math.max(1, pool.getThreads());
+        this.queueCapacity = Math.max(0, pool.getQueueCapacity());
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "search-" + name + "-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+        this.waitTimer = Timer.builder("sr_executor_wait_ms").tag("pool", name).register(meterRegistry);
+        this.rejected = Counter.builder("sr_executor_rejected_total").tag("pool", name).register(meterRegistry);
+        Gauge.builder("sr_executor_queue_depth", executor, target -> target.getQueue().size())
+            .tag("pool", name)
+            .register(meterRegistry);
+        Gauge.builder("sr_executor_active_threads", executor, ThreadPoolExecutor::getActiveCount)
+            .tag("pool", name)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submitted = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Queued tasks over queue capacity; 1.0 once every thread is busy when the queue is zero-length. */
+    public double saturation() {
+        if (queueCapacity == 0) {
+            return executor.getActiveCount() >= executor.getMaximumPoolSize() ? 1.0d : 0.0d;
+        }
+        return executor.getQueue().size() / (double) queueCapacity;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,184 @@
+package com.bsl.search.execution;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Ties outbound HTTP calls to the stage future that issued them. A stage task
+ * started through {@link #supplyAsync} runs with its cancellation bound to the
+ * worker thread; gateways wrap each exchange in {@link #begin()} and request
+ * factories {@link #attach(Runnable) attach} an abort hook for the live request.
+ * Cancelling the returned future aborts every call still in flight (closing
+ * its connection) and skips the task if it has not started yet.
+ */
+public final class CallCancellation {
+    private static final ThreadLocal<CallCancellation> BOUND = new ThreadLocal<>();
+    private static final ThreadLocal<Call> CURRENT_CALL = new ThreadLocal<>();
+
+    private final Set<Call> inFlight = new LinkedHashSet<>();
+    private boolean cancelled;
+
+    private CallCancellation() {
+    }
+
+    /**
+     * Like {@link CompletableFuture#supplyAsync(Supplier, Executor)}, but
+     * {@code cancel} on the result aborts the task's in-flight calls and reports
+     * how many there were to {@code onOrphaned}. Executor rejections propagate.
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> task, Executor executor, IntConsumer onOrphaned) {
+        CallCancellation cancellation = new CallCancellation();
+        StageFuture<T> future = new StageFuture<>(cancellation, onOrphaned);
+        executor.execute(() -> {
+            if (cancellation.isCancelled()) {
+                return;
+            }
+            CallCancellation previous = BOUND.get();
+            BOUND.set(cancellation);
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                if (previous == null) {
+                    BOUND.remove();
+                } else {
+                    BOUND.set(previous);
+                }
+            }
+        });
+        return future;
+    }
+
+    /** Marks the start of one outbound call on this thread; a no-op outside a cancellable stage. */
+    public static Call begin() {
+        CallCancellation cancellation = BOUND.get();
+        if (cancellation == null) {
+            return Call.NONE;
+        }
+        Call call = new Call(cancellation, CURRENT_CALL.get());
+        cancellation.add(call);
+        CURRENT_CALL.set(call);
+        return call;
+    }
+
+    /** Registers how to abort the request of the current call; runs it at once if already cancelled. */
+    public static void attach(Runnable abort) {
+        Call call = CURRENT_CALL.get();
+        if (call != null) {
+            call.attach(abort);
+        }
+    }
+
+    private synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    private synchronized void add(Call call) {
+        if (cancelled) {
+            call.abort();
+        }
+        inFlight.add(call);
+    }
+
+    private synchronized void remove(Call call) {
+        inFlight.remove(call);
+    }
+
+    private int cancel() {
+        List<Call> calls;
+        synchronized (this) {
+            if (cancelled) {
+                return 0;
+            }
+            cancelled = true;
+            calls = new ArrayList<>(inFlight);
+        }
+        for (Call call : calls) {
+            call.abort();
+        }
+        return calls.size();
+    }
+
+    public static final class Call implements AutoCloseable {
+        private static final Call NONE = new Call(null, null);
+
+        private final CallCancellation owner;
+        private final Call previous;
+        private Runnable abortHook;
+        private boolean aborted;
+
+        private Call(CallCancellation owner, Call previous) {
+            this.owner = owner;
+            this.previous = previous;
+        }
+
+        private void attach(Runnable abort) {
+            boolean abortNow;
+            synchronized (this) {
+                abortHook = abort;
+                abortNow = aborted;
+            }
+            if (abortNow) {
+                abort.run();
+            }
+        }
+
+        /** Whether this call was aborted because its stage was cancelled. */
+        public synchronized boolean isAborted() {
+            return aborted;
+        }
+
+        private void abort() {
+            Runnable hook;
+            synchronized (this) {
+                aborted = true;
+                hook = abortHook;
+            }
+            if (hook != null) {
+                hook.run();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (owner == null) {
+                return;
+            }
+            owner.remove(this);
+            if (previous == null) {
+                CURRENT_CALL.remove();
+            } else {
+                CURRENT_CALL.set(previous);
+            }
+        }
+    }
+
+    private static final class StageFuture<T> extends CompletableFuture<T> {
+        private final CallCancellation cancellation;
+        private final IntConsumer onOrphaned;
+
+        private StageFuture(CallCancellation cancellation, IntConsumer onOrphaned) {
+            this.cancellation = cancellation;
+            this.onOrphaned = onOrphaned;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            int orphaned = cancellation.cancel();
+            if (orphaned > 0 && onOrphaned != null) {
+                onOrphaned.accept(orphaned);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.bsl.search.execution;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * {@link SimpleClientHttpRequestFactory} whose connections can be dropped by a
+ * cancelled stage (see {@link CallCancellation}) instead of running until the
+ * read timeout.
+ */
+public class CancellableSimpleRequestFactory extends SimpleClientHttpRequestFactory {
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        CallCancellation.attach(connection::disconnect);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bsl.search.execution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Separate pools for retrieval, rerank and enhance calls, so one slow dependency cannot starve the others.
+ * The hedge pool runs hedged OpenSearch attempts on behalf of retrieval threads, and the embed pool
+ * computes query embeddings while an {@code _msearch} is being assembled.
+ */
+public class SearchBulkheads {
+    private final Bulkhead retrieval;
+    private final Bulkhead rerank;
+    private final Bulkhead enhance;
+    private final Bulkhead hedge;
+    private final Bulkhead embed;
+
+    public SearchBulkheads(SearchExecutionProperties properties, MeterRegistry meterRegistry) {
+        this.retrieval = new Bulkhead("retrieval", properties.getRetrieval(), meterRegistry);
+        this.rerank = new Bulkhead("rerank", properties.getRerank(), meterRegistry);
+        this.enhance = new Bulkhead("enhance", properties.getEnhance(), meterRegistry);
+        this.hedge = new Bulkhead("hedge", properties.getHedge(), meterRegistry);
+        this.embed = new Bulkhead("embed", properties.getEmbed(), meterRegistry);
+    }
+
+    public Bulkhead getRetrieval() {
+        return retrieval;
+    }
+
+    public Bulkhead getRerank() {
+        return rerank;
+    }
+
+    public Bulkhead getEnhance() {
+        return enhance;
+    }
+
+    public Bulkhead getHedge() {
+        return hedge;
+    }
+
+    public Bulkhead getEmbed() {
+        return embed;
+    }
+
+    public void shutdown() {
+        retrieval.shutdown();
+        rerank.shutdown();
+        enhance.shutdown();
+        hedge.shutdown();
+        embed.shutdown();
+    }
+}
@@ -1,16 +1,16 @@
 package com.bsl.search.execution;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(SearchExecutionProperties.class)
 public class SearchExecutionConfig {
 
     @Bean(destroyMethod = "shutdown")
-    public ExecutorService searchExecutor(@Value("${search.execution.pool-size:6}") int poolSize) {
-        return Executors.newFixedThreadPool(Math.max(2, poolSize));
+    public SearchBulkheads searchBulkheads(SearchExecutionProperties properties, MeterRegistry meterRegistry) {
+        return new SearchBulkheads(properties, meterRegistry);
     }
 }
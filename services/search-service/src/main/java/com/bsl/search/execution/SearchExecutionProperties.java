@@ -0,0 +1,129 @@
+package com.bsl.search.execution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "search.execution")
+public class SearchExecutionProperties {
+    private Pool retrieval = new Pool(6, 32);
+    private Pool rerank = new Pool(4, 16);
+    private Pool enhance = new Pool(2, 8);
+    private Pool hedge = new Pool(8, 16);
+    private Pool embed = new Pool(4, 16);
+    private Admission admission = new Admission();
+
+    public Pool getRetrieval() {
+        return retrieval;
+    }
+
+    public void setRetrieval(Pool retrieval) {
+        this.retrieval = retrieval;
+    }
+
+    public Pool getRerank() {
+        return rerank;
+    }
+
+    public void setRerank(Pool rerank) {
+        this.rerank = rerank;
+    }
+
+    public Pool getEnhance() {
+        return enhance;
+    }
+
+    public void setEnhance(Pool enhance) {
+        this.enhance = enhance;
+    }
+
+    public Pool getHedge() {
+        return hedge;
+    }
+
+    public void setHedge(Pool hedge) {
+        this.hedge = hedge;
+    }
+
+    public Pool getEmbed() {
+        return embed;
+    }
+
+    public void setEmbed(Pool embed) {
+        this.embed = embed;
+    }
+
+    public Admission getAdmission() {
+        return admission;
+    }
+
+    public void setAdmission(Admission admission) {
+        this.admission = admission;
+    }
+
+    public static class Pool {
+        private int threads;
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        public Pool(int threads, int queueCapacity) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    public static class Admission {
+        private boolean enabled = true;
+        private int maxInFlight = 64;
+        private double lexicalOnlyQueueRatio = 0.5d;
+        private double shedQueueRatio = 0.9d;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public double getLexicalOnlyQueueRatio() {
+            return lexicalOnlyQueueRatio;
+        }
+
+        public void setLexicalOnlyQueueRatio(double lexicalOnlyQueueRatio) {
+            this.lexicalOnlyQueueRatio = lexicalOnlyQueueRatio;
+        }
+
+        public double getShedQueueRatio() {
+            return shedQueueRatio;
+        }
+
+        public void setShedQueueRatio(double shedQueueRatio) {
+            this.shedQueueRatio = shedQueueRatio;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.bsl.search.execution;
+
+public class SearchOverloadedException extends RuntimeException {
+    public SearchOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,295 @@
+package com.bsl.search.merge;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Fusion output as a read-only list of {@link RrfFusion.Candidate}s in fused
+ * order. {@link #size()} is the full candidate count; positions below the
+ * selected head are sorted when first read, and candidates are created on
+ * access.
+ */
+public final class FusedCandidates extends AbstractList<RrfFusion.Candidate> implements RandomAccess {
+    private final String[] docIds;
+    private final double[] scores;
+    private final int[] lexRanks;
+    private final int[] vecRanks;
+    private final Map<String, Double> lexScores;
+    private final Map<String, Double> vecScores;
+    private final int size;
+    private final int[] order;
+    private final RrfFusion.Candidate[] materialized;
+    private int sorted;
+
+    private FusedCandidates(Builder builder, int topK) {
+        this.docIds = builder.docIds;
+        this.scores = builder.scores;
+        this.lexRanks = builder.lexRanks;
+        this.vecRanks = builder.vecRanks;
+        this.lexScores = builder.lexScores;
+        this.vecScores = builder.vecScores;
+        this.size = builder.size;
+        this.order = new int[size];
+        this.materialized = new RrfFusion.Candidate[size];
+        int head = Math.max(0, Math.min(topK, size));
+        if (head == size) {
+            sortAll();
+        } else {
+            selectHead(head);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized RrfFusion.Candidate get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (index >= sorted) {
+            sortTail();
+        }
+        RrfFusion.Candidate candidate = materialized[index];
+        if (candidate == null) {
+            int node = order[index];
+            String docId = docIds[node];
+            candidate = new RrfFusion.Candidate(
+                docId,
+                scores[node],
+                lexRanks[node] == 0 ? null : lexRanks[node],
+                vecRanks[node] == 0 ? null : vecRanks[node],
+                index + 1,
+                lexRanks[node] == 0 || lexScores == null ? null : lexScores.get(docId),
+                vecRanks[node] == 0 || vecScores == null ? null : vecScores.get(docId)
+            );
+            materialized[index] = candidate;
+        }
+        return candidate;
+    }
+
+    /**
+     * All candidate doc ids without forcing the tail sort: the sorted head in
+     * fused order, then the rest in retrieval order.
+     */
+    public synchronized List<String> docIds() {
+        List<String> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(docIds[order[i]]);
+        }
+        return ids;
+    }
+
+    private void sortAll() {
+        int[] heap = new int[size];
+        int count = 0;
+        for (int node = 0; node < size; node++) {
+            count = push(heap, count, node);
+        }
+        drainInto(heap, count, 0);
+        sorted = size;
+    }
+
+    /**
+     * Keeps the best {@code head} nodes in a bounded heap whose root is the
+     * worst kept node, then drains it into positions {@code [0, head)}.
+     */
+    private void selectHead(int head) {
+        if (head == 0) {
+            for (int node = 0; node < size; node++) {
+                order[node] = node;
+            }
+            sorted = 0;
+            return;
+        }
+        int[] heap = new int[head];
+        int count = 0;
+        boolean[] kept = new boolean[size];
+        for (int node = 0; node < size; node++) {
+            if (count < head) {
+                count = push(heap, count, node);
+            } else if (better(node, heap[0])) {
+                heap[0] = node;
+                siftDown(heap, count, 0);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            kept[heap[i]] = true;
+        }
+        int tail = head;
+        for (int node = 0; node < size; node++) {
+            if (!kept[node]) {
+                order[tail++] = node;
+            }
+        }
+        drainInto(heap, count, 0);
+        sorted = head;
+    }
+
+    private void sortTail() {
+        int tailSize = size - sorted;
+        int[] heap = new int[tailSize];
+        int count = 0;
+        for (int i = sorted; i < size; i++) {
+            count = push(heap, count, order[i]);
+        }
+        drainInto(heap, count, sorted);
+        sorted = size;
+    }
+
+    /** Pops the min-heap (worst first) so that {@code order[offset..]} ends up best first. */
+    private void drainInto(int[] heap, int count, int offset) {
+        while (count > 0) {
+            int worst = heap[0];
+            count--;
+            heap[0] = heap[count];
+            siftDown(heap, count, 0);
+            order[offset + count] = worst;
+        }
+    }
+
+    private int push(int[] heap, int count, int node) {
+        int i = count;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(heap[parent], node)) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = node;
+        return count + 1;
+    }
+
+    private void siftDown(int[] heap, int count, int index) {
+        int node = heap[index];
+        int i = index;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && better(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!better(node, heap[child])) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = node;
+    }
+
+    /** Fused order: higher score first, then doc id ascending. */
+    private boolean better(int a, int b) {
+        int byScore = Double.compare(scores[a], scores[b]);
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        return docIds[a].compareTo(docIds[b]) < 0;
+    }
+
+    static final class Builder {
+        private final Map<String, Double> lexScores;
+        private final Map<String, Double> vecScores;
+        private String[] docIds;
+        private double[] scores;
+        private int[] lexRanks;
+        private int[] vecRanks;
+        private String[] table;
+        private int[] tableNodes;
+        private int size;
+
+        Builder(int expected, Map<String, Double> lexScores, Map<String, Double> vecScores) {
+            int capacity = Math.max(4, expected);
+            this.lexScores = lexScores;
+            this.vecScores = vecScores;
+            this.docIds = new String[capacity];
+            this.scores = new double[capacity];
+            this.lexRanks = new int[capacity];
+            this.vecRanks = new int[capacity];
+            int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+            this.table = new String[tableSize];
+            this.tableNodes = new int[tableSize];
+        }
+
+        void addLexical(String docId, int rank, double contribution) {
+            int node = intern(docId);
+            if (node < 0 || lexRanks[node] != 0) {
+                return;
+            }
+            lexRanks[node] = rank;
+            scores[node] += contribution;
+        }
+
+        void addVector(String docId, int rank, double contribution) {
+            int node = intern(docId);
+            if (node < 0 || vecRanks[node] != 0) {
+                return;
+            }
+            vecRanks[node] = rank;
+            scores[node] += contribution;
+        }
+
+        FusedCandidates build(int topK) {
+            return new FusedCandidates(this, topK);
+        }
+
+        /** Open-addressing lookup; returns the dense index for {@code docId}, adding it if new. */
+        private int intern(String docId) {
+            if (docId == null) {
+                return -1;
+            }
+            int mask = table.length - 1;
+            int hash = docId.hashCode();
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (table[slot] != null) {
+                if (table[slot].equals(docId)) {
+                    return tableNodes[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size == docIds.length) {
+                grow();
+                return intern(docId);
+            }
+            table[slot] = docId;
+            tableNodes[slot] = size;
+            docIds[size] = docId;
+            return size++;
+        }
+
+        private void grow() {
+            int capacity = docIds.length * 2;
+            docIds = Arrays.copyOf(docIds, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            lexRanks = Arrays.copyOf(lexRanks, capacity);
+            vecRanks = Arrays.copyOf(vecRanks, capacity);
+            String[] oldTable = table;
+            int[] oldNodes = tableNodes;
+            table = new String[Integer.highestOneBit(capacity * 2 - 1) << 1];
+            tableNodes = new int[table.length];
+            int mask = table.length - 1;
+            for (int i = 0; i < oldTable.length; i++) {
+                if (oldTable[i] == null) {
+                    continue;
+                }
+                int hash = oldTable[i].hashCode();
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = oldTable[i];
+                tableNodes[slot] = oldNodes[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bsl.search.merge;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rank fusion over interned doc ids and primitive score arrays. Each doc id is
+ * assigned a dense index once; ranks and fused scores live in arrays indexed by
+ * it. Only the first {@code topK} positions are selected and sorted up front,
+ * the rest are ordered on first access. Ordering and scores match
+ * {@link RrfFusion} / {@link WeightedFusion}: fused score descending, then doc id
+ * ascending.
+ */
+public final class FusionEngine {
+    private FusionEngine() {
+    }
+
+    /**
+     * Fuses two ranked doc id lists. A doc's rank is the position of its first
+     * occurrence (1-based); later duplicates are ignored.
+     */
+    public static FusedCandidates fuse(
+        List<String> lexDocIds,
+        List<String> vecDocIds,
+        int k,
+        double lexWeight,
+        double vecWeight,
+        Map<String, Double> lexScores,
+        Map<String, Double> vecScores,
+        int topK
+    ) {
+        int lexCount = lexDocIds == null ? 0 : lexDocIds.size();
+        int vecCount = vecDocIds == null ? 0 : vecDocIds.size();
+        FusedCandidates.Builder builder = new FusedCandidates.Builder(lexCount + vecCount, lexScores, vecScores);
+        for (int i = 0; i < lexCount; i++) {
+            builder.addLexical(lexDocIds.get(i), i + 1, lexWeight * (1.0 / (k + i + 1)));
+        }
+        for (int i = 0; i < vecCount; i++) {
+            builder.addVector(vecDocIds.get(i), i + 1, vecWeight * (1.0 / (k + i + 1)));
+        }
+        return builder.build(topK);
+    }
+
+    /** Same as {@link #fuse(List, List, int, double, double, Map, Map, int)} with explicit rank maps. */
+    public static FusedCandidates fuseRanks(
+        Map<String, Integer> lexRanks,
+        Map<String, Integer> vecRanks,
+        int k,
+        double lexWeight,
+        double vecWeight,
+        Map<String, Double> lexScores,
+        Map<String, Double> vecScores,
+        int topK
+    ) {
+        FusedCandidates.Builder builder = new FusedCandidates.Builder(lexRanks.size() + vecRanks.size(), lexScores, vecScores);
+        for (Map.Entry<String, Integer> entry : lexRanks.entrySet()) {
+            int rank = entry.getValue();
+            builder.addLexical(entry.getKey(), rank, lexWeight * (1.0 / (k + rank)));
+        }
+        for (Map.Entry<String, Integer> entry : vecRanks.entrySet()) {
+            int rank = entry.getValue();
+            builder.addVector(entry.getKey(), rank, vecWeight * (1.0 / (k + rank)));
+        }
+        return builder.build(topK);
+    }
+}
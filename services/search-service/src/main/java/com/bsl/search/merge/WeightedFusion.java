@@ -1,8 +1,5 @@
 package com.bsl.search.merge;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,66 +26,6 @@ public final class WeightedFusion {
         Map<String, Double> lexScores,
         Map<String, Double> vecScores
     ) {
-        Map<String, MutableCandidate> candidates = new HashMap<>();
-
-        for (Map.Entry<String, Integer> entry : lexRanks.entrySet()) {
-            MutableCandidate candidate = candidates.computeIfAbsent(entry.getKey(), MutableCandidate::new);
-            int rank = entry.getValue();
-            candidate.lexRank = rank;
-            candidate.score += lexWeight * (1.0 / (k + rank));
-            candidate.bm25Score = lexScores == null ? null : lexScores.get(entry.getKey());
-        }
-
-        for (Map.Entry<String, Integer> entry : vecRanks.entrySet()) {
-            MutableCandidate candidate = candidates.computeIfAbsent(entry.getKey(), MutableCandidate::new);
-            int rank = entry.getValue();
-            candidate.vecRank = rank;
-            candidate.score += vecWeight * (1.0 / (k + rank));
-            candidate.vecScore = vecScores == null ? null : vecScores.get(entry.getKey());
-        }
-
-        List<MutableCandidate> mutable = new ArrayList<>(candidates.values());
-        mutable.sort(
-            Comparator.comparingDouble(MutableCandidate::getScore).reversed()
-                .thenComparing(MutableCandidate::getDocId)
-        );
-
-        List<RrfFusion.Candidate> fused = new ArrayList<>(mutable.size());
-        for (int i = 0; i < mutable.size(); i++) {
-            MutableCandidate candidate = mutable.get(i);
-            fused.add(
-                new RrfFusion.Candidate(
-                    candidate.docId,
-                    candidate.score,
-                    candidate.lexRank,
-                    candidate.vecRank,
-                    i + 1,
-                    candidate.bm25Score,
-                    candidate.vecScore
-                )
-            );
-        }
-        return fused;
-    }
-
-    private static final class MutableCandidate {
-        private final String docId;
-        private double score;
-        private Integer lexRank;
-        private Integer vecRank;
-        private Double bm25Score;
-        private Double vecScore;
-
-        private MutableCandidate(String docId) {
-            this.docId = docId;
-        }
-
-        private String getDocId() {
-            return docId;
-        }
-
-        private double getScore() {
-            return score;
-        }
+        return FusionEngine.fuseRanks(lexRanks, vecRanks, k, lexWeight, vecWeight, lexScores, vecScores, Integer.MAX_VALUE);
     }
 }
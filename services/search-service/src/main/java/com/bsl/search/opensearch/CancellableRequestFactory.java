@@ -0,0 +1,26 @@
+package com.bsl.search.opensearch;
+
+import com.bsl.search.execution.CallCancellation;
+import java.net.URI;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/** Request factory that lets a cancelled search stage abort the live OpenSearch exchange. */
+class CancellableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    CancellableRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        if (request instanceof Cancellable cancellable) {
+            CallCancellation.attach(cancellable::cancel);
+        }
+        return request;
+    }
+}
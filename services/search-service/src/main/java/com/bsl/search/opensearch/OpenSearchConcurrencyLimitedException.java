@@ -0,0 +1,10 @@
+package com.bsl.search.opensearch;
+
+/** Thrown without calling OpenSearch when the adaptive concurrency limit is reached. */
+public class OpenSearchConcurrencyLimitedException extends OpenSearchUnavailableException {
+    public static final String REASON = "opensearch_concurrency_limited";
+
+    public OpenSearchConcurrencyLimitedException() {
+        super(REASON, null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.bsl.search.opensearch;
+
+import com.bsl.search.execution.CallCancellation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style adaptive concurrency limit for OpenSearch calls. A long-term
+ * average of call latency is the baseline; when recent latency rises above it
+ * (beyond {@code concurrencyLimitTolerance}), the limit shrinks by the ratio,
+ * otherwise it grows by about {@code sqrt(limit)} per sample. Timeouts, lost
+ * connections and 429/5xx answers cut it by 10%. Calls over the limit fail at
+ * once with {@link OpenSearchConcurrencyLimitedException}.
+ */
+public class OpenSearchConcurrencyLimiter {
+    private static final double SHORT_WINDOW = 10.0d;
+    private static final double LONG_WINDOW = 600.0d;
+    private static final double SMOOTHING = 0.2d;
+    private static final double DROP_BACKOFF = 0.9d;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter limited;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public OpenSearchConcurrencyLimiter(OpenSearchProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isConcurrencyLimitEnabled();
+        this.minLimit = Math.max(1, properties.getConcurrencyLimitMin());
+        this.maxLimit = Math.max(minLimit, properties.getConcurrencyLimitMax());
+        this.tolerance = Math.max(1.0d, properties.getConcurrencyLimitTolerance());
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, properties.getConcurrencyLimitInitial()));
+        this.limit = (int) estimatedLimit;
+        this.limited = meterRegistry.counter("sr_opensearch_limited_total");
+        Gauge.builder("sr_opensearch_concurrency_limit", this, limiter -> limiter.limit).register(meterRegistry);
+        Gauge.builder("sr_opensearch_in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    private OpenSearchConcurrencyLimiter() {
+        this.enabled = false;
+        this.minLimit = 0;
+        this.maxLimit = 0;
+        this.tolerance = 1.0d;
+        this.limited = null;
+    }
+
+    /** Lets every call through. */
+    public static OpenSearchConcurrencyLimiter disabled() {
+        return new OpenSearchConcurrencyLimiter();
+    }
+
+    /**
+     * Claims a slot for {@code call}. Close the permit when the exchange ends;
+     * calls that end without {@link Permit#answered(boolean) an answer} count
+     * as dropped unless they were aborted by their own stage.
+     */
+    Permit acquire(CallCancellation.Call call) {
+        if (!enabled) {
+            return Permit.NOOP;
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                limited.increment();
+                throw new OpenSearchConcurrencyLimitedException();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(this, call, current + 1);
+            }
+        }
+    }
+
+    /** A permit that neither counts against the limit nor feeds its latency estimate. */
+    static Permit unlimited() {
+        return Permit.NOOP;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    private synchronized void onAnswered(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0.0d) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * (2.0d / (SHORT_WINDOW + 1.0d));
+        longRttNanos += (rttNanos - longRttNanos) * (2.0d / (LONG_WINDOW + 1.0d));
+        if (longRttNanos > shortRttNanos * 2.0d) {
+            // Latency dropped a lot (e.g. after a merge finished); let the baseline catch up faster.
+            longRttNanos *= 0.95d;
+        }
+        double gradient = Math.max(0.5d, Math.min(1.0d, tolerance * longRttNanos / shortRttNanos));
+        // Only grow while the limit is actually in use; an idle limit says nothing about headroom.
+        double headroom = inFlightAtStart < estimatedLimit / 2.0d ? 0.0d : Math.sqrt(estimatedLimit);
+        double next = estimatedLimit * gradient + headroom;
+        update(estimatedLimit * (1.0d - SMOOTHING) + next * SMOOTHING);
+    }
+
+    private synchronized void onDropped() {
+        update(estimatedLimit * DROP_BACKOFF);
+    }
+
+    private void update(double next) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+
+    static final class Permit implements AutoCloseable {
+        private static final Permit NOOP = new Permit(null, null, 0);
+
+        private final OpenSearchConcurrencyLimiter limiter;
+        private final CallCancellation.Call call;
+        private final int inFlightAtStart;
+        private final long started = System.nanoTime();
+        private boolean answered;
+        private boolean overloaded;
+
+        private Permit(OpenSearchConcurrencyLimiter limiter, CallCancellation.Call call, int inFlightAtStart) {
+            this.limiter = limiter;
+            this.call = call;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /** OpenSearch answered; {@code overloaded} marks a 429/502/503/504 answer. */
+        void answered(boolean overloaded) {
+            if (limiter == null) {
+                return;
+            }
+            this.answered = true;
+            this.overloaded = overloaded;
+        }
+
+        @Override
+        public void close() {
+            if (limiter == null) {
+                return;
+            }
+            limiter.inFlight.decrementAndGet();
+            if (answered && !overloaded) {
+                limiter.onAnswered(System.nanoTime() - started, inFlightAtStart);
+            } else if (!call.isAborted()) {
+                limiter.onDropped();
+            }
+        }
+    }
+}
@@ -1,21 +1,85 @@
 package com.bsl.search.opensearch;
 
-import java.time.Duration;
+import com.bsl.search.execution.SearchBulkheads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 @EnableConfigurationProperties(OpenSearchProperties.class)
 public class OpenSearchConfig {
 
-    @Bean
-    public RestTemplate openSearchRestTemplate(RestTemplateBuilder builder, OpenSearchProperties properties) {
-        return builder
-            .setConnectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
-            .setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()))
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager openSearchConnectionManager(
+        OpenSearchProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(Math.max(1, properties.getMaxConnections()))
+            .setMaxConnPerRoute(Math.max(1, properties.getMaxConnectionsPerRoute()))
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+                    .setTimeToLive(TimeValue.ofMilliseconds(properties.getConnectionTtlMs()))
+                    .build()
+            )
+            .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "opensearch").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient openSearchHttpClient(
+        PoolingHttpClientConnectionManager openSearchConnectionManager,
+        OpenSearchProperties properties
+    ) {
+        // Retries would silently spend the caller's stage budget; fallbacks are decided upstream.
+        return HttpClients.custom()
+            .setConnectionManager(openSearchConnectionManager)
+            .evictIdleConnections(TimeValue.ofMilliseconds(Math.max(1L, properties.getIdleEvictMs())))
+            .evictExpiredConnections()
+            .disableAutomaticRetries()
             .build();
     }
+
+    @Bean
+    public RestTemplate openSearchRestTemplate(
+        RestTemplateBuilder builder,
+        CloseableHttpClient openSearchHttpClient,
+        OpenSearchProperties properties
+    ) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new CancellableRequestFactory(openSearchHttpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeoutMs());
+        requestFactory.setHttpContextFactory(OpenSearchRequestDeadline::httpContext);
+        return builder.requestFactory(() -> requestFactory).build();
+    }
+
+    @Bean
+    public OpenSearchHedger openSearchHedger(
+        OpenSearchProperties properties,
+        SearchBulkheads searchBulkheads,
+        MeterRegistry meterRegistry
+    ) {
+        return new OpenSearchHedger(properties, searchBulkheads.getHedge(), meterRegistry);
+    }
+
+    @Bean
+    public OpenSearchConcurrencyLimiter openSearchConcurrencyLimiter(
+        OpenSearchProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new OpenSearchConcurrencyLimiter(properties, meterRegistry);
+    }
 }
@@ -1,19 +1,21 @@
 package com.bsl.search.opensearch;
 
+import com.bsl.search.execution.CallCancellation;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
@@ -27,6 +29,7 @@ public class OpenSearchGateway {
     private static final double LANGUAGE_KOR_URI_BOOST = 20.0d;
     private static final double LANGUAGE_KOR_BOOST = 12.0d;
     private static final double LANGUAGE_KO_BOOST = 10.0d;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
 
     private static final Map<String, Double> DEFAULT_PRIMARY_FIELD_BOOST = Map.ofEntries(
         Map.entry("title_ko", 8.0d),
@@ -40,15 +43,21 @@ public class OpenSearchGateway {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final OpenSearchProperties properties;
+    private final OpenSearchHedger hedger;
+    private final OpenSearchConcurrencyLimiter limiter;
 
     public OpenSearchGateway(
         @Qualifier("openSearchRestTemplate") RestTemplate restTemplate,
         ObjectMapper objectMapper,
-        OpenSearchProperties properties
+        OpenSearchProperties properties,
+        OpenSearchHedger hedger,
+        OpenSearchConcurrencyLimiter limiter
     ) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.properties = properties;
+        this.hedger = hedger;
+        this.limiter = limiter;
     }
 
     public List<String> searchLexical(String query, int topK) {
@@ -93,6 +102,29 @@ public class OpenSearchGateway {
         List<Map<String, Object>> filters,
         List<String> fieldsOverride,
         boolean explain
+    ) {
+        OpenSearchSearchRequest request = buildLexicalRequest(
+            query,
+            topK,
+            boost,
+            operator,
+            minimumShouldMatch,
+            filters,
+            fieldsOverride,
+            explain
+        );
+        return search(request, timeBudgetMs);
+    }
+
+    public OpenSearchSearchRequest buildLexicalRequest(
+        String query,
+        int topK,
+        Map<String, Double> boost,
+        String operator,
+        String minimumShouldMatch,
+        List<Map<String, Object>> filters,
+        List<String> fieldsOverride,
+        boolean explain
     ) {
         String trimmed = trimToNull(query);
         List<String> fields = buildPrimaryFields(boost, fieldsOverride);
@@ -136,13 +168,13 @@ public class OpenSearchGateway {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("size", topK);
         body.put("track_total_hits", false);
+        body.put("_source", SourceProjection.ID_ONLY);
         body.put("query", Map.of("bool", boolQuery));
         if (explain) {
             body.put("explain", true);
         }
 
-        JsonNode response = postJson("/" + properties.getDocIndex() + "/_search", body, timeBudgetMs);
-        return new OpenSearchQueryResult(extractDocIds(response), body, extractScoresByDocId(response));
+        return new OpenSearchSearchRequest(properties.getDocIndex(), body);
     }
 
     private Map<String, Object> buildPrimaryMultiMatch(
@@ -388,17 +420,26 @@ public class OpenSearchGateway {
         Integer timeBudgetMs,
         List<Map<String, Object>> filters,
         boolean explain
+    ) {
+        return search(buildLexicalByDslRequest(queryDsl, topK, filters, explain), timeBudgetMs);
+    }
+
+    public OpenSearchSearchRequest buildLexicalByDslRequest(
+        Map<String, Object> queryDsl,
+        int topK,
+        List<Map<String, Object>> filters,
+        boolean explain
     ) {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("size", topK);
         body.put("track_total_hits", false);
+        body.put("_source", SourceProjection.ID_ONLY);
         body.put("query", applyGlobalConstraints(queryDsl, filters));
         if (explain) {
             body.put("explain", true);
         }
 
-        JsonNode response = postJson("/" + properties.getDocIndex() + "/_search", body, timeBudgetMs);
-        return new OpenSearchQueryResult(extractDocIds(response), body, extractScoresByDocId(response));
+        return new OpenSearchSearchRequest(properties.getDocIndex(), body);
     }
 
     public OpenSearchQueryResult searchMatchAllDetailed(
@@ -406,6 +447,14 @@ public class OpenSearchGateway {
         Integer timeBudgetMs,
         List<Map<String, Object>> filters,
         boolean explain
+    ) {
+        return search(buildMatchAllRequest(topK, filters, explain), timeBudgetMs);
+    }
+
+    public OpenSearchSearchRequest buildMatchAllRequest(
+        int topK,
+        List<Map<String, Object>> filters,
+        boolean explain
     ) {
         Map<String, Object> boolQuery = new LinkedHashMap<>();
         boolQuery.put("must", List.of(Map.of("match_all", Map.of())));
@@ -414,13 +463,13 @@ public class OpenSearchGateway {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("size", topK);
         body.put("track_total_hits", false);
+        body.put("_source", SourceProjection.ID_ONLY);
         body.put("query", Map.of("bool", boolQuery));
         if (explain) {
             body.put("explain", true);
         }
 
-        JsonNode response = postJson("/" + properties.getDocIndex() + "/_search", body, timeBudgetMs);
-        return new OpenSearchQueryResult(extractDocIds(response), body, extractScoresByDocId(response));
+        return new OpenSearchSearchRequest(properties.getDocIndex(), body);
     }
 
     public OpenSearchQueryResult searchAuthorContainsFallbackDetailed(
@@ -429,10 +478,19 @@ public class OpenSearchGateway {
         Integer timeBudgetMs,
         List<Map<String, Object>> filters,
         boolean explain
+    ) {
+        return search(buildAuthorContainsFallbackRequest(query, topK, filters, explain), timeBudgetMs);
+    }
+
+    public OpenSearchSearchRequest buildAuthorContainsFallbackRequest(
+        String query,
+        int topK,
+        List<Map<String, Object>> filters,
+        boolean explain
     ) {
         String trimmed = trimToNull(query);
         if (trimmed == null) {
-            return new OpenSearchQueryResult(List.of(), null, Map.of());
+            return null;
         }
 
         Map<String, Object> boolQuery = new LinkedHashMap<>();
@@ -443,13 +501,13 @@ public class OpenSearchGateway {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("size", topK);
         body.put("track_total_hits", false);
+        body.put("_source", SourceProjection.ID_ONLY);
         body.put("query", Map.of("bool", boolQuery));
         if (explain) {
             body.put("explain", true);
         }
 
-        JsonNode response = postJson("/" + properties.getDocIndex() + "/_search", body, timeBudgetMs);
-        return new OpenSearchQueryResult(extractDocIds(response), body, extractScoresByDocId(response));
+        return new OpenSearchSearchRequest(properties.getDocIndex(), body);
     }
 
     private Map<String, Object> buildAuthorFallbackClause(String query) {
@@ -552,16 +610,16 @@ public class OpenSearchGateway {
         }
     }
 
-    public List<String> searchVector(List<Double> vector, int topK) {
+    public List<String> searchVector(float[] vector, int topK) {
         return searchVector(vector, topK, null, null);
     }
 
-    public List<String> searchVector(List<Double> vector, int topK, Integer timeBudgetMs) {
+    public List<String> searchVector(float[] vector, int topK, Integer timeBudgetMs) {
         return searchVector(vector, topK, timeBudgetMs, null);
     }
 
     public List<String> searchVector(
-        List<Double> vector,
+        float[] vector,
         int topK,
         Integer timeBudgetMs,
         List<Map<String, Object>> filters
@@ -571,34 +629,51 @@ public class OpenSearchGateway {
     }
 
     public OpenSearchQueryResult searchVectorDetailed(
-        List<Double> vector,
+        float[] vector,
         int topK,
         Integer timeBudgetMs,
         List<Map<String, Object>> filters,
         boolean explain
     ) {
-        return searchVectorDetailedOnIndex(vector, topK, properties.getVecIndex(), timeBudgetMs, filters, explain, true);
+        return search(buildVectorRequest(vector, topK, filters, explain), timeBudgetMs);
     }
 
     public OpenSearchQueryResult searchChunkVectorDetailed(
-        List<Double> vector,
+        float[] vector,
         int topK,
         Integer timeBudgetMs,
         List<Map<String, Object>> filters,
         boolean explain
+    ) {
+        return search(buildChunkVectorRequest(vector, topK, filters, explain), timeBudgetMs);
+    }
+
+    public OpenSearchSearchRequest buildVectorRequest(
+        float[] vector,
+        int topK,
+        List<Map<String, Object>> filters,
+        boolean explain
+    ) {
+        return buildVectorRequestOnIndex(vector, topK, properties.getVecIndex(), filters, explain, true);
+    }
+
+    public OpenSearchSearchRequest buildChunkVectorRequest(
+        float[] vector,
+        int topK,
+        List<Map<String, Object>> filters,
+        boolean explain
     ) {
         String indexName = properties.getChunkIndex();
         if (indexName == null || indexName.isBlank()) {
             throw new OpenSearchRequestException("chunk index is not configured", null);
         }
-        return searchVectorDetailedOnIndex(vector, topK, indexName, timeBudgetMs, filters, explain, false);
+        return buildVectorRequestOnIndex(vector, topK, indexName, filters, explain, false);
     }
 
-    private OpenSearchQueryResult searchVectorDetailedOnIndex(
-        List<Double> vector,
+    private OpenSearchSearchRequest buildVectorRequestOnIndex(
+        float[] vector,
         int topK,
         String indexName,
-        Integer timeBudgetMs,
         List<Map<String, Object>> filters,
         boolean explain,
         boolean includeVisibilityFilter
@@ -617,14 +692,13 @@ public class OpenSearchGateway {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("size", topK);
         body.put("track_total_hits", false);
-        body.put("_source", List.of("doc_id"));
+        body.put("_source", SourceProjection.ID_ONLY);
         body.put("query", Map.of("knn", knn));
         if (explain) {
             body.put("explain", true);
         }
 
-        JsonNode response = postJson("/" + indexName + "/_search", body, timeBudgetMs);
-        return new OpenSearchQueryResult(extractDocIds(response), body, extractScoresByDocId(response));
+        return new OpenSearchSearchRequest(indexName, body);
     }
 
     public OpenSearchQueryResult searchVectorByTextDetailed(
@@ -634,6 +708,16 @@ public class OpenSearchGateway {
         Integer timeBudgetMs,
         List<Map<String, Object>> filters,
         boolean explain
+    ) {
+        return search(buildVectorByTextRequest(queryText, topK, modelId, filters, explain), timeBudgetMs);
+    }
+
+    public OpenSearchSearchRequest buildVectorByTextRequest(
+        String queryText,
+        int topK,
+        String modelId,
+        List<Map<String, Object>> filters,
+        boolean explain
     ) {
         Map<String, Object> neural = new LinkedHashMap<>();
         Map<String, Object> embedding = new LinkedHashMap<>();
@@ -649,14 +733,13 @@ public class OpenSearchGateway {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("size", topK);
         body.put("track_total_hits", false);
-        body.put("_source", List.of("doc_id"));
+        body.put("_source", SourceProjection.ID_ONLY);
         body.put("query", Map.of("neural", neural));
         if (explain) {
             body.put("explain", true);
         }
 
-        JsonNode response = postJson("/" + properties.getVecIndex() + "/_search", body, timeBudgetMs);
-        return new OpenSearchQueryResult(extractDocIds(response), body, extractScoresByDocId(response));
+        return new OpenSearchSearchRequest(properties.getVecIndex(), body);
     }
 
     public Map<String, JsonNode> mgetSources(List<String> docIds) {
@@ -664,25 +747,28 @@ public class OpenSearchGateway {
     }
 
     public Map<String, JsonNode> mgetSources(List<String> docIds, Integer timeBudgetMs) {
+        return mgetSources(docIds, timeBudgetMs, null);
+    }
+
+    /**
+     * Fetches sources by id. A non-null {@code projection} is sent as
+     * {@code _source_includes}; null returns the full source.
+     */
+    public Map<String, JsonNode> mgetSources(List<String> docIds, Integer timeBudgetMs, SourceProjection projection) {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("ids", docIds);
 
-        JsonNode response = postJson("/" + properties.getDocIndex() + "/_mget", body, timeBudgetMs);
-        Map<String, JsonNode> sources = new LinkedHashMap<>();
-        for (JsonNode docNode : response.path("docs")) {
-            if (!docNode.path("found").asBoolean(false)) {
-                continue;
-            }
-            JsonNode source = docNode.path("_source");
-            String docId = source.path("doc_id").asText(null);
-            if (docId == null || docId.isEmpty()) {
-                docId = docNode.path("_id").asText(null);
-            }
-            if (docId != null) {
-                sources.put(docId, source);
-            }
-        }
-        return sources;
+        String path = "/" + properties.getDocIndex() + "/_mget" + sourceIncludesQuery(projection);
+        return hedger.call(
+            "mget",
+            timeBudgetMs,
+            (preference, budgetMs) -> postJson(
+                withPreference(path, preference),
+                body,
+                budgetMs,
+                OpenSearchResponseParser::parseMgetSources
+            )
+        );
     }
 
     public JsonNode getSourceById(String docId) {
@@ -690,10 +776,15 @@ public class OpenSearchGateway {
     }
 
     public JsonNode getSourceById(String docId, Integer timeBudgetMs) {
+        return getSourceById(docId, timeBudgetMs, null);
+    }
+
+    public JsonNode getSourceById(String docId, Integer timeBudgetMs, SourceProjection projection) {
         if (docId == null || docId.isBlank()) {
             return null;
         }
-        JsonNode response = getJson("/" + properties.getDocIndex() + "/_doc/" + docId, timeBudgetMs);
+        String path = "/" + properties.getDocIndex() + "/_doc/" + docId + sourceIncludesQuery(projection);
+        JsonNode response = getJson(path, timeBudgetMs);
         if (response == null) {
             return null;
         }
@@ -707,16 +798,202 @@ public class OpenSearchGateway {
         return source;
     }
 
-    private JsonNode postJson(String path, Object body, Integer timeBudgetMs) {
-        String url = buildUrl(path);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    /**
+     * Reads one page of the vector index in {@code doc_id} order, for building
+     * an in-process copy. Pass the last {@code doc_id} of the previous page as
+     * {@code afterDocId}; returns the raw {@code hits.hits} array. Scans bypass
+     * the concurrency limiter: their latency says nothing about interactive
+     * searches and they must not take slots from them.
+     */
+    public JsonNode scanVectorIndex(String afterDocId, int size, List<String> sourceIncludes, Integer timeBudgetMs) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("size", size);
+        body.put("track_total_hits", false);
+        body.put("_source", sourceIncludes);
+        body.put("query", Map.of("match_all", Map.of()));
+        body.put("sort", List.of(Map.of("doc_id", "asc")));
+        if (afterDocId != null) {
+            body.put("search_after", List.of(afterDocId));
+        }
+        byte[] payload;
         try {
-            String payload = objectMapper.writeValueAsString(body);
-            HttpEntity<String> entity = new HttpEntity<>(payload, headers);
-            RestTemplate client = restTemplateFor(timeBudgetMs);
-            ResponseEntity<String> response = client.exchange(url, HttpMethod.POST, entity, String.class);
-            return objectMapper.readTree(response.getBody());
+            payload = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new OpenSearchRequestException("Failed to serialize OpenSearch request", e);
+        }
+        JsonNode response = execute(
+            HttpMethod.POST,
+            "/" + properties.getVecIndex() + "/_search",
+            MediaType.APPLICATION_JSON,
+            payload,
+            timeBudgetMs,
+            parser -> parser.readValueAsTree(),
+            false
+        );
+        return response == null ? null : response.path("hits").path("hits");
+    }
+
+    public OpenSearchQueryResult search(OpenSearchSearchRequest request, Integer timeBudgetMs) {
+        if (request == null) {
+            return new OpenSearchQueryResult(List.of(), null, Map.of());
+        }
+        String path = "/" + request.getIndex() + "/_search";
+        OpenSearchHedger.Attempt<OpenSearchResponseParser.Hits> attempt = (preference, budgetMs) -> postJson(
+            withPreference(path, preference),
+            withSearchLimits(request.getBody(), budgetMs),
+            budgetMs,
+            OpenSearchResponseParser::parseSearchHits
+        );
+        // Only doc-index (lexical) searches are hedged; vector kNN has its own fallbacks.
+        OpenSearchResponseParser.Hits hits = properties.getDocIndex() != null && properties.getDocIndex().equals(request.getIndex())
+            ? hedger.call("lexical", timeBudgetMs, attempt)
+            : attempt.run(null, timeBudgetMs);
+        return new OpenSearchQueryResult(hits.getDocIds(), request.getBody(), hits.getScoresByDocId(), hits.isPartial());
+    }
+
+    /**
+     * Runs {@code requests} as one {@code _msearch} round trip. Items come back in
+     * request order; a failed item does not fail the others. Transport and
+     * whole-request errors throw like {@link #search}.
+     */
+    public List<OpenSearchMultiSearchItem> multiSearch(List<OpenSearchSearchRequest> requests, Integer timeBudgetMs) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try {
+            for (OpenSearchSearchRequest request : requests) {
+                payload.write(objectMapper.writeValueAsBytes(Map.of("index", request.getIndex())));
+                payload.write('\n');
+                payload.write(objectMapper.writeValueAsBytes(withSearchLimits(request.getBody(), timeBudgetMs)));
+                payload.write('\n');
+            }
+        } catch (IOException e) {
+            throw new OpenSearchRequestException("Failed to serialize OpenSearch request", e);
+        }
+        List<OpenSearchResponseParser.MultiSearchItem> parsed = execute(
+            HttpMethod.POST,
+            "/_msearch",
+            NDJSON,
+            payload.toByteArray(),
+            timeBudgetMs,
+            OpenSearchResponseParser::parseMultiSearch
+        );
+        List<OpenSearchMultiSearchItem> items = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            OpenSearchSearchRequest request = requests.get(i);
+            OpenSearchResponseParser.MultiSearchItem item = i < parsed.size() ? parsed.get(i) : null;
+            if (item == null) {
+                items.add(OpenSearchMultiSearchItem.failed(0, "missing_response"));
+            } else if (item.getError() != null) {
+                items.add(OpenSearchMultiSearchItem.failed(item.getStatus(), item.getError()));
+            } else {
+                items.add(OpenSearchMultiSearchItem.success(
+                    new OpenSearchQueryResult(
+                        item.getHits().getDocIds(),
+                        request.getBody(),
+                        item.getHits().getScoresByDocId(),
+                        item.getHits().isPartial()
+                    )
+                ));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Adds the stage budget as the OpenSearch {@code timeout} (and the optional
+     * {@code terminate_after}), so shards stop collecting once the caller has
+     * given up. The caller's body is left untouched.
+     */
+    private Map<String, Object> withSearchLimits(Map<String, Object> body, Integer timeBudgetMs) {
+        boolean timeout = properties.isSearchTimeoutEnabled() && timeBudgetMs != null && timeBudgetMs > 0;
+        boolean terminateAfter = properties.getTerminateAfter() > 0;
+        if (body == null || (!timeout && !terminateAfter)) {
+            return body;
+        }
+        Map<String, Object> limited = new LinkedHashMap<>(body);
+        if (timeout && !limited.containsKey("timeout")) {
+            limited.put("timeout", serverTimeoutMs(timeBudgetMs) + "ms");
+        }
+        if (terminateAfter && !limited.containsKey("terminate_after")) {
+            limited.put("terminate_after", properties.getTerminateAfter());
+        }
+        return limited;
+    }
+
+    /**
+     * The server timeout sits a margin below the client budget so shards return
+     * their partial hits before the client gives up; the margin takes at most
+     * half the budget.
+     */
+    private int serverTimeoutMs(int timeBudgetMs) {
+        int margin = Math.max(0, properties.getSearchTimeoutMarginMs());
+        return Math.max(timeBudgetMs - margin, (timeBudgetMs + 1) / 2);
+    }
+
+    /**
+     * POSTs {@code body} and hands the response stream to {@code reader}, so the
+     * body is never buffered into a String or a full tree.
+     */
+    private <T> T postJson(String path, Object body, Integer timeBudgetMs, ResponseReader<T> reader) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new OpenSearchRequestException("Failed to serialize OpenSearch request", e);
+        }
+        return execute(HttpMethod.POST, path, MediaType.APPLICATION_JSON, payload, timeBudgetMs, reader);
+    }
+
+    private <T> T execute(
+        HttpMethod method,
+        String path,
+        MediaType contentType,
+        byte[] payload,
+        Integer timeBudgetMs,
+        ResponseReader<T> reader
+    ) {
+        return execute(method, path, contentType, payload, timeBudgetMs, reader, true);
+    }
+
+    private <T> T execute(
+        HttpMethod method,
+        String path,
+        MediaType contentType,
+        byte[] payload,
+        Integer timeBudgetMs,
+        ResponseReader<T> reader,
+        boolean limited
+    ) {
+        String url = buildUrl(path);
+        try (
+            OpenSearchRequestDeadline.Scope ignored = OpenSearchRequestDeadline.start(timeBudgetMs);
+            CallCancellation.Call call = CallCancellation.begin();
+            OpenSearchConcurrencyLimiter.Permit permit = limited ? limiter.acquire(call) : OpenSearchConcurrencyLimiter.unlimited()
+        ) {
+            try {
+                T result = restTemplate.execute(
+                    url,
+                    method,
+                    request -> {
+                        request.getHeaders().setContentType(contentType);
+                        request.getBody().write(payload);
+                    },
+                    response -> {
+                        try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+                            return reader.read(parser);
+                        } catch (JsonProcessingException e) {
+                            throw new OpenSearchRequestException("Failed to parse OpenSearch response", e);
+                        }
+                    }
+                );
+                permit.answered(false);
+                return result;
+            } catch (HttpStatusCodeException e) {
+                permit.answered(isOverloadStatus(e.getStatusCode().value()));
+                throw e;
+            }
         } catch (ResourceAccessException e) {
             throw new OpenSearchUnavailableException("OpenSearch unreachable: " + url, e);
         } catch (HttpStatusCodeException e) {
@@ -725,16 +1002,26 @@ public class OpenSearchGateway {
                 throw new OpenSearchUnavailableException("OpenSearch unavailable: " + status, e);
             }
             throw new OpenSearchRequestException("OpenSearch error: " + status, e);
-        } catch (JsonProcessingException e) {
-            throw new OpenSearchRequestException("Failed to parse OpenSearch response", e);
         }
     }
 
     private JsonNode getJson(String path, Integer timeBudgetMs) {
         String url = buildUrl(path);
         try {
-            RestTemplate client = restTemplateFor(timeBudgetMs);
-            ResponseEntity<String> response = client.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, String.class);
+            ResponseEntity<String> response;
+            try (
+                OpenSearchRequestDeadline.Scope ignored = OpenSearchRequestDeadline.start(timeBudgetMs);
+                CallCancellation.Call call = CallCancellation.begin();
+                OpenSearchConcurrencyLimiter.Permit permit = limiter.acquire(call)
+            ) {
+                try {
+                    response = restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, String.class);
+                    permit.answered(false);
+                } catch (HttpStatusCodeException e) {
+                    permit.answered(isOverloadStatus(e.getStatusCode().value()));
+                    throw e;
+                }
+            }
             return objectMapper.readTree(response.getBody());
         } catch (ResourceAccessException e) {
             throw new OpenSearchUnavailableException("OpenSearch unreachable: " + url, e);
@@ -752,6 +1039,10 @@ public class OpenSearchGateway {
         }
     }
 
+    private static boolean isOverloadStatus(int status) {
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
     private String buildUrl(String path) {
         String base = properties.getBaseUrl();
         if (base.endsWith("/")) {
@@ -760,36 +1051,18 @@ public class OpenSearchGateway {
         return base + path;
     }
 
-    private List<String> extractDocIds(JsonNode response) {
-        List<String> docIds = new ArrayList<>();
-        for (JsonNode hit : response.path("hits").path("hits")) {
-            String docId = hit.path("_source").path("doc_id").asText(null);
-            if (docId == null || docId.isEmpty()) {
-                docId = hit.path("_id").asText(null);
-            }
-            if (docId != null) {
-                docIds.add(docId);
-            }
+    private static String withPreference(String path, String preference) {
+        if (preference == null) {
+            return path;
         }
-        return docIds;
+        return path + (path.indexOf('?') < 0 ? "?" : "&") + "preference=" + preference;
     }
 
-    private Map<String, Double> extractScoresByDocId(JsonNode response) {
-        Map<String, Double> scores = new LinkedHashMap<>();
-        for (JsonNode hit : response.path("hits").path("hits")) {
-            String docId = hit.path("_source").path("doc_id").asText(null);
-            if (docId == null || docId.isEmpty()) {
-                docId = hit.path("_id").asText(null);
-            }
-            if (docId == null || docId.isBlank()) {
-                continue;
-            }
-            JsonNode scoreNode = hit.get("_score");
-            if (scoreNode != null && scoreNode.isNumber()) {
-                scores.put(docId, scoreNode.asDouble());
-            }
+    private String sourceIncludesQuery(SourceProjection projection) {
+        if (projection == null) {
+            return "";
         }
-        return scores;
+        return "?_source_includes=" + projection.getIncludesParam();
     }
 
     private List<String> buildPrimaryFields(Map<String, Double> boost, List<String> fieldsOverride) {
@@ -845,13 +1118,8 @@ public class OpenSearchGateway {
         );
     }
 
-    private RestTemplate restTemplateFor(Integer timeBudgetMs) {
-        if (timeBudgetMs == null) {
-            return restTemplate;
-        }
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(timeBudgetMs);
-        factory.setReadTimeout(timeBudgetMs);
-        return new RestTemplate(factory);
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(JsonParser parser) throws IOException;
     }
 }
@@ -0,0 +1,272 @@
+package com.bsl.search.opensearch;
+
+import com.bsl.search.execution.CallCancellation;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Hedges tail-sensitive OpenSearch reads. Once an operation has enough latency
+ * samples, the primary attempt runs on the hedge pool; if it has not answered
+ * within the configured percentile of recent latencies, a duplicate is sent
+ * with a random {@code preference} so the coordinator picks shard copies
+ * independently. The first successful answer wins and the other call is
+ * aborted. Hedges spend from a budget refilled by a fraction of each call, so
+ * a uniformly slow cluster sees at most that much extra load.
+ */
+public class OpenSearchHedger {
+    private static final int WINDOW_SIZE = 512;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final double BUDGET_BURST = 10.0d;
+
+    private final OpenSearchProperties properties;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private double budget = BUDGET_BURST;
+
+    public OpenSearchHedger(OpenSearchProperties properties, Executor executor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Runs every call once on the caller thread. */
+    public static OpenSearchHedger disabled() {
+        return new OpenSearchHedger(null, null, null);
+    }
+
+    @FunctionalInterface
+    interface Attempt<T> {
+        /** {@code preference} is null for the primary attempt. */
+        T run(String preference, Integer timeBudgetMs);
+    }
+
+    <T> T call(String operation, Integer timeBudgetMs, Attempt<T> attempt) {
+        if (executor == null || properties == null || !properties.isHedgeEnabled()) {
+            return attempt.run(null, timeBudgetMs);
+        }
+        LatencyWindow window = windows.computeIfAbsent(operation, key -> new LatencyWindow());
+        refillBudget();
+        long delayMs = window.delayMs(
+            properties.getHedgePercentile(),
+            properties.getHedgeMinSamples(),
+            properties.getHedgeMinDelayMs()
+        );
+        if (delayMs <= 0 || (timeBudgetMs != null && timeBudgetMs > 0 && delayMs >= timeBudgetMs)) {
+            return runDirect(window, timeBudgetMs, attempt);
+        }
+
+        long started = System.nanoTime();
+        CompletableFuture<T> primary;
+        try {
+            primary = CallCancellation.supplyAsync(() -> attempt.run(null, timeBudgetMs), executor, orphaned(operation));
+        } catch (RejectedExecutionException e) {
+            count(operation, "rejected");
+            return runDirect(window, timeBudgetMs, attempt);
+        }
+        Race<T> race = new Race<>(primary);
+        try (CallCancellation.Call call = CallCancellation.begin()) {
+            CallCancellation.attach(race::cancelAll);
+            try {
+                T result = primary.get(delayMs, TimeUnit.MILLISECONDS);
+                window.record(elapsedMs(started));
+                return result;
+            } catch (TimeoutException e) {
+                // fall through to the hedge
+            }
+
+            if (primary.isDone() || !tryAcquireBudget()) {
+                if (!primary.isDone()) {
+                    count(operation, "budget_exhausted");
+                }
+                T result = primary.get();
+                window.record(elapsedMs(started));
+                return result;
+            }
+            Integer remainingMs = remainingMs(timeBudgetMs, started);
+            String preference = "hedge-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+            try {
+                race.hedge(CallCancellation.supplyAsync(
+                    () -> attempt.run(preference, remainingMs),
+                    executor,
+                    orphaned(operation)
+                ));
+            } catch (RejectedExecutionException e) {
+                count(operation, "rejected");
+                T result = primary.get();
+                window.record(elapsedMs(started));
+                return result;
+            }
+
+            T result = race.first().get();
+            // A lost primary is recorded at its elapsed time so slow calls still pull the percentile up.
+            window.record(elapsedMs(started));
+            count(operation, race.primaryWon() ? "primary_won" : "hedge_won");
+            return result;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (CancellationException e) {
+            throw new OpenSearchUnavailableException("OpenSearch call cancelled", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenSearchUnavailableException("Interrupted waiting for OpenSearch", e);
+        } finally {
+            race.cancelAll();
+        }
+    }
+
+    private <T> T runDirect(LatencyWindow window, Integer timeBudgetMs, Attempt<T> attempt) {
+        long started = System.nanoTime();
+        T result = attempt.run(null, timeBudgetMs);
+        window.record(elapsedMs(started));
+        return result;
+    }
+
+    private synchronized void refillBudget() {
+        budget = Math.min(BUDGET_BURST, budget + Math.max(0.0d, properties.getHedgeBudgetRatio()));
+    }
+
+    private synchronized boolean tryAcquireBudget() {
+        if (budget < 1.0d) {
+            return false;
+        }
+        budget -= 1.0d;
+        return true;
+    }
+
+    private IntConsumer orphaned(String operation) {
+        return orphans -> meterRegistry.counter("sr_stage_orphaned_calls_total", "stage", operation + "_hedge")
+            .increment(orphans);
+    }
+
+    private void count(String operation, String outcome) {
+        meterRegistry.counter("sr_opensearch_hedge_total", "operation", operation, "outcome", outcome).increment();
+    }
+
+    private static Integer remainingMs(Integer timeBudgetMs, long started) {
+        if (timeBudgetMs == null || timeBudgetMs <= 0) {
+            return timeBudgetMs;
+        }
+        return (int) Math.max(1L, timeBudgetMs - elapsedMs(started));
+    }
+
+    private static long elapsedMs(long started) {
+        return (System.nanoTime() - started) / 1_000_000L;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CancellationException) {
+            return new OpenSearchUnavailableException("OpenSearch call cancelled", cause);
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new OpenSearchRequestException("OpenSearch call failed", cause);
+    }
+
+    /** Completes with the first successful attempt, or the primary's failure once every attempt has failed. */
+    private static final class Race<T> {
+        private final CompletableFuture<T> primary;
+        private final CompletableFuture<T> first = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private volatile CompletableFuture<T> hedge;
+        private volatile Throwable primaryFailure;
+        private volatile boolean primaryWon;
+
+        private Race(CompletableFuture<T> primary) {
+            this.primary = primary;
+            primary.whenComplete((value, error) -> {
+                if (error == null && first.complete(value)) {
+                    primaryWon = true;
+                } else if (error != null) {
+                    primaryFailure = error;
+                    settle(error);
+                }
+            });
+        }
+
+        private void hedge(CompletableFuture<T> future) {
+            pending.incrementAndGet();
+            hedge = future;
+            if (primary.isCancelled()) {
+                future.cancel(true);
+            }
+            future.whenComplete((value, error) -> {
+                if (error == null) {
+                    first.complete(value);
+                } else {
+                    settle(primaryFailure != null ? primaryFailure : error);
+                }
+            });
+        }
+
+        private void settle(Throwable error) {
+            if (pending.decrementAndGet() == 0) {
+                first.completeExceptionally(error);
+            }
+        }
+
+        private CompletableFuture<T> first() {
+            return first;
+        }
+
+        private boolean primaryWon() {
+            return primaryWon;
+        }
+
+        private void cancelAll() {
+            primary.cancel(true);
+            CompletableFuture<T> current = hedge;
+            if (current != null) {
+                current.cancel(true);
+            }
+        }
+    }
+
+    /** Ring buffer of recent latencies; the percentile is re-derived every few samples. */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int next;
+        private int count;
+        private int sinceRecompute;
+        private double cachedPercentile = -1.0d;
+        private long cachedDelayMs;
+
+        private synchronized void record(long latencyMs) {
+            samples[next] = latencyMs;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            sinceRecompute++;
+        }
+
+        private synchronized long delayMs(double percentile, int minSamples, int minDelayMs) {
+            if (count < Math.max(1, minSamples)) {
+                return 0L;
+            }
+            if (sinceRecompute >= RECOMPUTE_EVERY || cachedPercentile != percentile) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(Math.min(1.0d, Math.max(0.0d, percentile)) * count) - 1;
+                cachedDelayMs = sorted[Math.max(0, Math.min(count - 1, index))];
+                cachedPercentile = percentile;
+                sinceRecompute = 0;
+            }
+            return Math.max(minDelayMs, cachedDelayMs);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.bsl.search.opensearch;
+
+public class OpenSearchMultiSearchItem {
+    private final OpenSearchQueryResult result;
+    private final int status;
+    private final String error;
+
+    private OpenSearchMultiSearchItem(OpenSearchQueryResult result, int status, String error) {
+        this.result = result;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static OpenSearchMultiSearchItem success(OpenSearchQueryResult result) {
+        return new OpenSearchMultiSearchItem(result, 200, null);
+    }
+
+    public static OpenSearchMultiSearchItem failed(int status, String error) {
+        return new OpenSearchMultiSearchItem(null, status, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    public OpenSearchQueryResult getResult() {
+        return result;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -10,6 +10,23 @@ public class OpenSearchProperties {
     private String chunkIndex;
     private int connectTimeoutMs = 200;
     private int readTimeoutMs = 200;
+    private int maxConnections = 64;
+    private int maxConnectionsPerRoute = 32;
+    private long idleEvictMs = 30000;
+    private long connectionTtlMs = 300000;
+    private boolean searchTimeoutEnabled = true;
+    private int searchTimeoutMarginMs = 20;
+    private int terminateAfter;
+    private boolean hedgeEnabled = true;
+    private double hedgePercentile = 0.95d;
+    private int hedgeMinDelayMs = 10;
+    private int hedgeMinSamples = 100;
+    private double hedgeBudgetRatio = 0.05d;
+    private boolean concurrencyLimitEnabled = true;
+    private int concurrencyLimitInitial = 20;
+    private int concurrencyLimitMin = 4;
+    private int concurrencyLimitMax = 64;
+    private double concurrencyLimitTolerance = 1.5d;
 
     public String getBaseUrl() {
         return baseUrl;
@@ -58,4 +75,140 @@ public class OpenSearchProperties {
     public void setReadTimeoutMs(int readTimeoutMs) {
         this.readTimeoutMs = readTimeoutMs;
     }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public long getIdleEvictMs() {
+        return idleEvictMs;
+    }
+
+    public void setIdleEvictMs(long idleEvictMs) {
+        this.idleEvictMs = idleEvictMs;
+    }
+
+    public long getConnectionTtlMs() {
+        return connectionTtlMs;
+    }
+
+    public void setConnectionTtlMs(long connectionTtlMs) {
+        this.connectionTtlMs = connectionTtlMs;
+    }
+
+    public boolean isSearchTimeoutEnabled() {
+        return searchTimeoutEnabled;
+    }
+
+    public void setSearchTimeoutEnabled(boolean searchTimeoutEnabled) {
+        this.searchTimeoutEnabled = searchTimeoutEnabled;
+    }
+
+    public int getSearchTimeoutMarginMs() {
+        return searchTimeoutMarginMs;
+    }
+
+    public void setSearchTimeoutMarginMs(int searchTimeoutMarginMs) {
+        this.searchTimeoutMarginMs = searchTimeoutMarginMs;
+    }
+
+    public int getTerminateAfter() {
+        return terminateAfter;
+    }
+
+    public void setTerminateAfter(int terminateAfter) {
+        this.terminateAfter = terminateAfter;
+    }
+
+    public boolean isHedgeEnabled() {
+        return hedgeEnabled;
+    }
+
+    public void setHedgeEnabled(boolean hedgeEnabled) {
+        this.hedgeEnabled = hedgeEnabled;
+    }
+
+    public double getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(double hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public int getHedgeMinDelayMs() {
+        return hedgeMinDelayMs;
+    }
+
+    public void setHedgeMinDelayMs(int hedgeMinDelayMs) {
+        this.hedgeMinDelayMs = hedgeMinDelayMs;
+    }
+
+    public int getHedgeMinSamples() {
+        return hedgeMinSamples;
+    }
+
+    public void setHedgeMinSamples(int hedgeMinSamples) {
+        this.hedgeMinSamples = hedgeMinSamples;
+    }
+
+    public double getHedgeBudgetRatio() {
+        return hedgeBudgetRatio;
+    }
+
+    public void setHedgeBudgetRatio(double hedgeBudgetRatio) {
+        this.hedgeBudgetRatio = hedgeBudgetRatio;
+    }
+
+    public boolean isConcurrencyLimitEnabled() {
+        return concurrencyLimitEnabled;
+    }
+
+    public void setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled) {
+        this.concurrencyLimitEnabled = concurrencyLimitEnabled;
+    }
+
+    public int getConcurrencyLimitInitial() {
+        return concurrencyLimitInitial;
+    }
+
+    public void setConcurrencyLimitInitial(int concurrencyLimitInitial) {
+        this.concurrencyLimitInitial = concurrencyLimitInitial;
+    }
+
+    public int getConcurrencyLimitMin() {
+        return concurrencyLimitMin;
+    }
+
+    public void setConcurrencyLimitMin(int concurrencyLimitMin) {
+        this.concurrencyLimitMin = concurrencyLimitMin;
+    }
+
+    public int getConcurrencyLimitMax() {
+        return concurrencyLimitMax;
+    }
+
+    public void setConcurrencyLimitMax(int concurrencyLimitMax) {
+        this.concurrencyLimitMax = concurrencyLimitMax;
+    }
+
+    public double getConcurrencyLimitTolerance() {
+        return concurrencyLimitTolerance;
+    }
+
+    public void setConcurrencyLimitTolerance(double concurrencyLimitTolerance) {
+        this.concurrencyLimitTolerance = concurrencyLimitTolerance;
+    }
 }
@@ -8,11 +8,22 @@ public class OpenSearchQueryResult {
     private final List<String> docIds;
     private final Map<String, Object> queryDsl;
     private final Map<String, Double> scoresByDocId;
+    private final boolean partial;
 
     public OpenSearchQueryResult(List<String> docIds, Map<String, Object> queryDsl, Map<String, Double> scoresByDocId) {
+        this(docIds, queryDsl, scoresByDocId, false);
+    }
+
+    public OpenSearchQueryResult(
+        List<String> docIds,
+        Map<String, Object> queryDsl,
+        Map<String, Double> scoresByDocId,
+        boolean partial
+    ) {
         this.docIds = docIds == null ? Collections.emptyList() : docIds;
         this.queryDsl = queryDsl;
         this.scoresByDocId = scoresByDocId == null ? Collections.emptyMap() : scoresByDocId;
+        this.partial = partial;
     }
 
     public List<String> getDocIds() {
@@ -26,4 +37,9 @@ public class OpenSearchQueryResult {
     public Map<String, Double> getScoresByDocId() {
         return scoresByDocId;
     }
+
+    /** True when OpenSearch reported {@code timed_out} or {@code terminated_early}. */
+    public boolean isPartial() {
+        return partial;
+    }
 }
@@ -0,0 +1,71 @@
+package com.bsl.search.opensearch;
+
+import java.net.URI;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Request-level deadline for calls made through the pooled OpenSearch client.
+ * The gateway opens a scope around each exchange; the request factory turns the
+ * remaining budget into response and pool-lease timeouts for that request only.
+ */
+final class OpenSearchRequestDeadline {
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private OpenSearchRequestDeadline() {
+    }
+
+    static Scope start(Integer timeBudgetMs) {
+        Long previous = DEADLINE_NANOS.get();
+        if (timeBudgetMs == null || timeBudgetMs <= 0) {
+            DEADLINE_NANOS.remove();
+        } else {
+            DEADLINE_NANOS.set(System.nanoTime() + timeBudgetMs * 1_000_000L);
+        }
+        return new Scope(previous);
+    }
+
+    static Long remainingMs() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return null;
+        }
+        return Math.max(1L, (deadline - System.nanoTime()) / 1_000_000L);
+    }
+
+    static HttpContext httpContext(HttpMethod method, URI uri) {
+        Long remainingMs = remainingMs();
+        if (remainingMs == null) {
+            return null;
+        }
+        Timeout timeout = Timeout.ofMilliseconds(remainingMs);
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(
+            RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout)
+                .setResponseTimeout(timeout)
+                .build()
+        );
+        return context;
+    }
+
+    static final class Scope implements AutoCloseable {
+        private final Long previous;
+
+        private Scope(Long previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+}
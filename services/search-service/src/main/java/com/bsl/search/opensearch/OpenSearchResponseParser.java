@@ -0,0 +1,272 @@
+package com.bsl.search.opensearch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass streaming readers for OpenSearch responses. Search hits yield only
+ * {@code _id}, {@code _score} and {@code _source.doc_id}; everything else is
+ * skipped without being materialized, apart from the {@code timed_out} and
+ * {@code terminated_early} flags. {@code _mget} builds a tree for each
+ * found {@code _source} and nothing else. {@code _msearch} items are read like
+ * search responses, plus their {@code status} and error type.
+ */
+final class OpenSearchResponseParser {
+
+    private OpenSearchResponseParser() {
+    }
+
+    static Hits parseSearchHits(JsonParser parser) throws IOException {
+        Hits hits = new Hits();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return hits;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("hits".equals(field) && value == JsonToken.START_OBJECT) {
+                readHitsEnvelope(parser, hits);
+            } else if (isPartialFlag(field)) {
+                hits.partial |= value == JsonToken.VALUE_TRUE;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return hits;
+    }
+
+    static Map<String, JsonNode> parseMgetSources(JsonParser parser) throws IOException {
+        Map<String, JsonNode> sources = new LinkedHashMap<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return sources;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("docs".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        readMgetDoc(parser, sources);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return sources;
+    }
+
+    static List<MultiSearchItem> parseMultiSearch(JsonParser parser) throws IOException {
+        List<MultiSearchItem> items = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return items;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("responses".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        items.add(readMultiSearchItem(parser));
+                    } else {
+                        parser.skipChildren();
+                        items.add(null);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return items;
+    }
+
+    private static MultiSearchItem readMultiSearchItem(JsonParser parser) throws IOException {
+        MultiSearchItem item = new MultiSearchItem();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("hits".equals(field) && value == JsonToken.START_OBJECT) {
+                readHitsEnvelope(parser, item.hits);
+            } else if (isPartialFlag(field)) {
+                item.hits.partial |= value == JsonToken.VALUE_TRUE;
+            } else if ("status".equals(field) && value.isNumeric()) {
+                item.status = parser.getIntValue();
+            } else if ("error".equals(field)) {
+                item.error = readErrorType(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return item;
+    }
+
+    /** Shards that hit the server {@code timeout} or {@code terminate_after} answered with what they had. */
+    private static boolean isPartialFlag(String field) {
+        return "timed_out".equals(field) || "terminated_early".equals(field);
+    }
+
+    private static String readErrorType(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return "error";
+        }
+        String type = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken fieldValue = parser.nextToken();
+            if ("type".equals(field)) {
+                type = scalarText(parser, fieldValue);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return type == null ? "error" : type;
+    }
+
+    private static void readHitsEnvelope(JsonParser parser, Hits hits) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("hits".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        readHit(parser, hits);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readHit(JsonParser parser, Hits hits) throws IOException {
+        String id = null;
+        String sourceDocId = null;
+        Double score = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("_id".equals(field)) {
+                id = scalarText(parser, value);
+            } else if ("_score".equals(field) && value.isNumeric()) {
+                score = parser.getDoubleValue();
+            } else if ("_source".equals(field) && value == JsonToken.START_OBJECT) {
+                sourceDocId = readDocId(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        String docId = sourceDocId == null || sourceDocId.isEmpty() ? id : sourceDocId;
+        if (docId == null) {
+            return;
+        }
+        hits.docIds.add(docId);
+        if (score != null && !docId.isBlank()) {
+            hits.scoresByDocId.put(docId, score);
+        }
+    }
+
+    private static String readDocId(JsonParser parser) throws IOException {
+        String docId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("doc_id".equals(field)) {
+                docId = scalarText(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return docId;
+    }
+
+    private static void readMgetDoc(JsonParser parser, Map<String, JsonNode> sources) throws IOException {
+        String id = null;
+        boolean found = false;
+        JsonNode source = MissingNode.getInstance();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("_id".equals(field)) {
+                id = scalarText(parser, value);
+            } else if ("found".equals(field)) {
+                found = value == JsonToken.VALUE_TRUE;
+            } else if ("_source".equals(field) && value == JsonToken.START_OBJECT) {
+                source = parser.readValueAsTree();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!found) {
+            return;
+        }
+        String docId = source.path("doc_id").asText(null);
+        if (docId == null || docId.isEmpty()) {
+            docId = id;
+        }
+        if (docId != null) {
+            sources.put(docId, source);
+        }
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value.isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    static final class Hits {
+        private final List<String> docIds = new ArrayList<>();
+        private final Map<String, Double> scoresByDocId = new LinkedHashMap<>();
+        private boolean partial;
+
+        List<String> getDocIds() {
+            return docIds;
+        }
+
+        Map<String, Double> getScoresByDocId() {
+            return scoresByDocId;
+        }
+
+        boolean isPartial() {
+            return partial;
+        }
+    }
+
+    static final class MultiSearchItem {
+        private final Hits hits = new Hits();
+        private int status = 200;
+        private String error;
+
+        Hits getHits() {
+            return hits;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        String getError() {
+            return error;
+        }
+    }
+}
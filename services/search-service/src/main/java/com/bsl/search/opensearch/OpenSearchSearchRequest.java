@@ -0,0 +1,25 @@
+package com.bsl.search.opensearch;
+
+import java.util.Map;
+
+/**
+ * A {@code _search} body and its target index, built but not yet sent. Lets the
+ * same query run on its own or as one item of an {@code _msearch}.
+ */
+public class OpenSearchSearchRequest {
+    private final String index;
+    private final Map<String, Object> body;
+
+    public OpenSearchSearchRequest(String index, Map<String, Object> body) {
+        this.index = index;
+        this.body = body;
+    }
+
+    public String getIndex() {
+        return index;
+    }
+
+    public Map<String, Object> getBody() {
+        return body;
+    }
+}
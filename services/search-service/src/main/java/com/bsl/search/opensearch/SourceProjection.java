@@ -0,0 +1,110 @@
+package com.bsl.search.opensearch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Named {@code _source_includes} lists. Each profile lists exactly the fields its
+ * consumer reads, so adding a field to a mapper means adding it here too.
+ */
+public final class SourceProjection {
+    /** Fields read by {@code HybridSearchService.mapSource} and cover resolution. */
+    public static final SourceProjection SERP = new SourceProjection(
+        "serp",
+        List.of(
+            "doc_id",
+            "title_ko",
+            "title_en",
+            "authors",
+            "publisher_name",
+            "issued_year",
+            "volume",
+            "edition_labels",
+            "kdc_code",
+            "kdc_path_codes",
+            "identifiers.isbn13",
+            "identifiers.cover_url",
+            "identifiers.thumbnail_url",
+            "identifiers.image_url",
+            "cover_url",
+            "cover_image_url",
+            "thumbnail_url",
+            "image_url"
+        )
+    );
+
+    /** Fields read by {@code buildRerankCandidates} and {@code buildDocText}. */
+    public static final SourceProjection RERANK = new SourceProjection(
+        "rerank",
+        List.of(
+            "doc_id",
+            "title_ko",
+            "title_en",
+            "authors",
+            "series_name",
+            "publisher_name",
+            "issued_year",
+            "volume",
+            "edition_labels"
+        )
+    );
+
+    /** Book detail renders the same mapped source as a SERP hit. */
+    public static final SourceProjection DETAIL = new SourceProjection("detail", SERP.includes);
+
+    /** Fusion fetches once for both the hit page and the rerank window. */
+    public static final SourceProjection CANDIDATE = union("candidate", SERP, RERANK);
+
+    /** Fields probed by the lexical author-contains fallback. */
+    public static final SourceProjection AUTHOR_PROBE = new SourceProjection(
+        "author_probe",
+        List.of("doc_id", "author_names_ko", "author_names_en", "title_ko", "title_en", "series_name")
+    );
+
+    /** Search hits only need the id; scores come from the hit envelope. */
+    public static final List<String> ID_ONLY = List.of("doc_id");
+
+    private static final List<SourceProjection> ALL = List.of(SERP, RERANK, DETAIL, CANDIDATE, AUTHOR_PROBE);
+
+    private final String name;
+    private final List<String> includes;
+    private final String includesParam;
+
+    private SourceProjection(String name, List<String> includes) {
+        this.name = name;
+        this.includes = List.copyOf(includes);
+        this.includesParam = String.join(",", this.includes);
+    }
+
+    public static List<SourceProjection> all() {
+        return ALL;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    /** Comma separated value for the {@code _source_includes} query parameter. */
+    public String getIncludesParam() {
+        return includesParam;
+    }
+
+    private static SourceProjection union(String name, SourceProjection... projections) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (SourceProjection projection : projections) {
+            fields.addAll(projection.includes);
+        }
+        return new SourceProjection(name, new ArrayList<>(fields));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
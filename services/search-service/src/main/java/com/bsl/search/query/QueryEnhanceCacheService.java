@@ -0,0 +1,170 @@
+package com.bsl.search.query;
+
+import com.bsl.search.cache.AdmissionCache;
+import com.bsl.search.cache.CacheEntry;
+import com.bsl.search.cache.CacheKeyBuilder;
+import com.bsl.search.cache.CacheWeights;
+import com.bsl.search.execution.SearchBulkheads;
+import com.bsl.search.query.dto.QueryEnhanceRequest;
+import com.bsl.search.query.dto.QueryEnhanceResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Query Service enhance answers keyed by normalized query, locale and reason,
+ * so an enhance retry costs only the second retrieval. An entry older than
+ * {@code refreshAfterMs} is still served while one background call on the
+ * enhance bulkhead replaces it, under its own ids and budget; failed calls are
+ * never cached.
+ */
+@Service
+public class QueryEnhanceCacheService {
+    private static final Logger log = LoggerFactory.getLogger(QueryEnhanceCacheService.class);
+
+    private final QueryServiceProperties.Cache properties;
+    private final QueryServiceProperties queryServiceProperties;
+    private final QueryServiceGateway gateway;
+    private final MeterRegistry meterRegistry;
+    private final AdmissionCache<QueryEnhanceResponse> cache;
+    private final SearchBulkheads bulkheads;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public QueryEnhanceCacheService(
+        QueryServiceProperties queryServiceProperties,
+        QueryServiceGateway gateway,
+        SearchBulkheads bulkheads,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = queryServiceProperties.getCache();
+        this.queryServiceProperties = queryServiceProperties;
+        this.gateway = gateway;
+        this.bulkheads = bulkheads;
+        this.meterRegistry = meterRegistry;
+        this.cache = new AdmissionCache<>(
+            "query_enhance",
+            properties.getMaxWeightBytes(),
+            QueryEnhanceCacheService::weigh,
+            meterRegistry
+        );
+    }
+
+    /** Cached answer for the request; schedules a refresh when it is due. */
+    public Optional<QueryEnhanceResponse> get(QueryEnhanceRequest request) {
+        String key = buildKey(request);
+        if (key == null) {
+            return Optional.empty();
+        }
+        Optional<CacheEntry<QueryEnhanceResponse>> cached = cache.get(key);
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+        long refreshAfterMs = properties.getRefreshAfterMs();
+        if (refreshAfterMs > 0 && System.currentTimeMillis() - cached.get().getCreatedAt() >= refreshAfterMs) {
+            refreshAsync(key, request);
+        }
+        return Optional.of(cached.get().getValue());
+    }
+
+    public void put(QueryEnhanceRequest request, QueryEnhanceResponse response) {
+        String key = buildKey(request);
+        if (key == null || response == null) {
+            return;
+        }
+        cache.put(key, response, properties.getTtlMs());
+    }
+
+    private void refreshAsync(String key, QueryEnhanceRequest request) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        QueryEnhanceRequest refresh = refreshRequest(request);
+        try {
+            bulkheads.getEnhance().execute(() -> {
+                try {
+                    QueryEnhanceResponse response = gateway.enhance(
+                        refresh,
+                        queryServiceProperties.getTimeoutMs(),
+                        refresh.getTraceId(),
+                        refresh.getRequestId(),
+                        null
+                    );
+                    if (response != null) {
+                        cache.put(key, response, properties.getTtlMs());
+                    }
+                    refreshed("ok");
+                } catch (RuntimeException e) {
+                    refreshed("error");
+                    log.debug("enhance cache refresh failed q_norm={}: {}", request.getQNorm(), e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            refreshed("rejected");
+        }
+    }
+
+    /**
+     * The triggering request's copy for a refresh that outlives it: fresh ids
+     * so Query Service logs do not attribute it to that request, and the
+     * refresh timeout in place of that request's remaining budget.
+     */
+    private QueryEnhanceRequest refreshRequest(QueryEnhanceRequest request) {
+        QueryEnhanceRequest refresh = new QueryEnhanceRequest();
+        refresh.setTraceId(UUID.randomUUID().toString());
+        refresh.setRequestId(UUID.randomUUID().toString());
+        refresh.setQNorm(request.getQNorm());
+        refresh.setQNospace(request.getQNospace());
+        refresh.setReason(request.getReason());
+        refresh.setDetected(request.getDetected());
+        refresh.setLocale(request.getLocale());
+        refresh.setDebug(request.getDebug());
+        if (request.getSignals() != null) {
+            Map<String, Object> signals = new HashMap<>(request.getSignals());
+            signals.put("latency_budget_ms", queryServiceProperties.getTimeoutMs());
+            refresh.setSignals(signals);
+        }
+        return refresh;
+    }
+
+    private String buildKey(QueryEnhanceRequest request) {
+        if (!properties.isEnabled() || request == null || request.getQNorm() == null) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(request.getDebug())) {
+            return null;
+        }
+        return "enh:" + CacheKeyBuilder.create()
+            .field("q_norm", request.getQNorm())
+            .field("locale", request.getLocale())
+            .field("reason", request.getReason())
+            .field("detected", request.getDetected())
+            .build();
+    }
+
+    private void refreshed(String result) {
+        meterRegistry.counter("sr_enhance_cache_refresh_total", "result", result).increment();
+    }
+
+    private static long weigh(String key, QueryEnhanceResponse response) {
+        QueryEnhanceResponse.FinalQuery finalQuery = response.getFinalQuery();
+        List<String> reasonCodes = response.getReasonCodes();
+        return CacheWeights.ENTRY_OVERHEAD_BYTES
+            + CacheWeights.string(key)
+            + CacheWeights.string(response.getDecision())
+            + CacheWeights.string(response.getStrategy())
+            + CacheWeights.strings(reasonCodes)
+            + (finalQuery == null ? 0L : CacheWeights.string(finalQuery.getText()) + CacheWeights.string(finalQuery.getSource()));
+    }
+}
@@ -1,5 +1,7 @@
 package com.bsl.search.query;
 
+import com.bsl.search.execution.CallCancellation;
+import com.bsl.search.execution.CancellableSimpleRequestFactory;
 import com.bsl.search.query.dto.QueryEnhanceRequest;
 import com.bsl.search.query.dto.QueryEnhanceResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -44,7 +46,7 @@ public class QueryServiceGateway {
 
         HttpEntity<QueryEnhanceRequest> entity = new HttpEntity<>(request, headers);
 
-        try {
+        try (CallCancellation.Call call = CallCancellation.begin()) {
             RestTemplate client = restTemplateFor(timeoutMs);
             ResponseEntity<QueryEnhanceResponse> response = client.exchange(
                 buildUrl("/query/enhance"),
@@ -72,7 +74,7 @@ public class QueryServiceGateway {
         if (timeBudgetMs == null || timeBudgetMs <= 0) {
             return restTemplate;
         }
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        SimpleClientHttpRequestFactory factory = new CancellableSimpleRequestFactory();
         factory.setConnectTimeout(timeBudgetMs);
         factory.setReadTimeout(timeBudgetMs);
         return new RestTemplate(factory);
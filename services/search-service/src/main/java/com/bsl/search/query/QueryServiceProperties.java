@@ -6,6 +6,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class QueryServiceProperties {
     private String baseUrl = "http://localhost:8001";
     private int timeoutMs = 120;
+    private Cache cache = new Cache();
 
     public String getBaseUrl() {
         return baseUrl;
@@ -22,4 +23,51 @@ public class QueryServiceProperties {
     public void setTimeoutMs(int timeoutMs) {
         this.timeoutMs = timeoutMs;
     }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public static class Cache {
+        private boolean enabled = true;
+        private long ttlMs = 3_600_000L;
+        private long refreshAfterMs = 300_000L;
+        private long maxWeightBytes = 4L * 1024 * 1024;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getTtlMs() {
+            return ttlMs;
+        }
+
+        public void setTtlMs(long ttlMs) {
+            this.ttlMs = ttlMs;
+        }
+
+        public long getRefreshAfterMs() {
+            return refreshAfterMs;
+        }
+
+        public void setRefreshAfterMs(long refreshAfterMs) {
+            this.refreshAfterMs = refreshAfterMs;
+        }
+
+        public long getMaxWeightBytes() {
+            return maxWeightBytes;
+        }
+
+        public void setMaxWeightBytes(long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.bsl.search.ranking;
 
+import com.bsl.search.execution.CallCancellation;
+import com.bsl.search.execution.CancellableSimpleRequestFactory;
 import com.bsl.search.ranking.dto.RerankRequest;
 import com.bsl.search.ranking.dto.RerankResponse;
 import java.util.List;
@@ -59,7 +61,7 @@ public class RankingGateway {
 
         HttpEntity<RerankRequest> entity = new HttpEntity<>(request, headers);
 
-        try {
+        try (CallCancellation.Call call = CallCancellation.begin()) {
             RestTemplate client = restTemplateFor(timeoutMs);
             ResponseEntity<RerankResponse> response = client.exchange(
                 buildUrl("/rerank"),
@@ -87,7 +89,7 @@ public class RankingGateway {
         if (timeBudgetMs == null || timeBudgetMs <= 0) {
             return restTemplate;
         }
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        SimpleClientHttpRequestFactory factory = new CancellableSimpleRequestFactory();
         factory.setConnectTimeout(timeBudgetMs);
         factory.setReadTimeout(timeBudgetMs);
         return new RestTemplate(factory);
@@ -1,36 +1,189 @@
 package com.bsl.search.resilience;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.LongSupplier;
 
+/**
+ * Sliding-window circuit breaker. While CLOSED it keeps the outcome of the
+ * last {@code windowSize} calls and opens once the failure rate or slow-call
+ * rate crosses its threshold (after {@code minimumCalls}). When OPEN expires it
+ * goes HALF_OPEN and admits only {@code halfOpenProbes} calls: all of them
+ * succeeding closes the breaker, any failed or slow probe re-opens it. Probes
+ * that never report back are re-issued after another open interval.
+ */
 public class CircuitBreaker {
-    private final int failureThreshold;
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallMs;
+    private final double slowCallRateThreshold;
     private final long openDurationMs;
-    private final AtomicInteger failureCount = new AtomicInteger(0);
-    private final AtomicLong openUntilMs = new AtomicLong(0L);
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    private final byte[] window;
+    private int next;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openUntilMs;
+    private long halfOpenSinceMs;
+    private int probesAdmitted;
+    private int probesSucceeded;
+
+    public CircuitBreaker(String name, SearchResilienceProperties.Breaker settings, MeterRegistry meterRegistry) {
+        this(name, settings, meterRegistry, System::currentTimeMillis);
+    }
 
-    public CircuitBreaker(int failureThreshold, long openDurationMs) {
-        this.failureThreshold = Math.max(1, failureThreshold);
-        this.openDurationMs = Math.max(1L, openDurationMs);
+    CircuitBreaker(
+        String name,
+        SearchResilienceProperties.Breaker settings,
+        MeterRegistry meterRegistry,
+        LongSupplier clock
+    ) {
+        this.name = name;
+        this.window = new byte[Math.max(1, settings.getWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(window.length, settings.getMinimumCalls()));
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.slowCallMs = settings.getSlowCallMs();
+        this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+        this.openDurationMs = Math.max(1L, settings.getOpenMs());
+        this.halfOpenProbes = Math.max(1, settings.getHalfOpenProbes());
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.rejected = meterRegistry.counter("sr_circuit_breaker_rejected_total", "breaker", name);
+        Gauge.builder("sr_circuit_breaker_state", this, breaker -> breaker.getState().ordinal())
+            .tag("breaker", name)
+            .description("0 = closed, 1 = open, 2 = half-open")
+            .register(meterRegistry);
     }
 
-    public boolean allowRequest() {
-        return System.currentTimeMillis() >= openUntilMs.get();
+    /** Whether a call may go out now; in HALF_OPEN this claims one probe slot. */
+    public synchronized boolean allowRequest() {
+        long now = clock.getAsLong();
+        if (state == State.OPEN) {
+            if (now < openUntilMs) {
+                rejected.increment();
+                return false;
+            }
+            transition(State.HALF_OPEN);
+            halfOpenSinceMs = now;
+            probesAdmitted = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesAdmitted >= halfOpenProbes) {
+                if (now - halfOpenSinceMs < openDurationMs) {
+                    rejected.increment();
+                    return false;
+                }
+                // Probes were admitted but skipped upstream and never reported; start a new round.
+                halfOpenSinceMs = now;
+                probesAdmitted = 0;
+                probesSucceeded = 0;
+            }
+            probesAdmitted++;
+        }
+        return true;
     }
 
-    public boolean isOpen() {
-        return !allowRequest();
+    public synchronized State getState() {
+        return state;
     }
 
     public void recordSuccess() {
-        failureCount.set(0);
+        recordSuccess(0L);
+    }
+
+    /** Records a successful call; one slower than {@code slowCallMs} counts towards the slow-call rate. */
+    public synchronized void recordSuccess(long durationMs) {
+        record(false, isSlow(durationMs));
     }
 
-    public void recordFailure() {
-        int failures = failureCount.incrementAndGet();
-        if (failures >= failureThreshold) {
-            openUntilMs.set(System.currentTimeMillis() + openDurationMs);
-            failureCount.set(0);
+    public synchronized void recordFailure() {
+        record(true, false);
+    }
+
+    private boolean isSlow(long durationMs) {
+        return slowCallMs > 0 && durationMs >= slowCallMs;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (state == State.OPEN) {
+            // Late result of a call admitted before the breaker opened.
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                open();
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+
+        if (calls == window.length) {
+            byte evicted = window[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            calls++;
+        }
+        byte outcome = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        window[next] = outcome;
+        next = (next + 1) % window.length;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (calls < minimumCalls) {
+            return;
+        }
+        boolean failureTrip = failures >= failureRateThreshold * calls;
+        boolean slowTrip = slowCallMs > 0 && slowCalls >= slowCallRateThreshold * calls;
+        if (failureTrip || slowTrip) {
+            open();
+        }
+    }
+
+    private void open() {
+        openUntilMs = clock.getAsLong() + openDurationMs;
+        transition(State.OPEN);
+    }
+
+    private void transition(State to) {
+        if (to == state) {
+            return;
+        }
+        meterRegistry.counter(
+            "sr_circuit_breaker_transitions_total",
+            "breaker",
+            name,
+            "from",
+            state.name().toLowerCase(),
+            "to",
+            to.name().toLowerCase()
+        ).increment();
+        state = to;
+        if (to != State.HALF_OPEN) {
+            next = 0;
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
         }
     }
 }
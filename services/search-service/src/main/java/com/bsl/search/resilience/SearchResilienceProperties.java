@@ -6,60 +6,33 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties(prefix = "search.resilience")
 public class SearchResilienceProperties {
-    private int embedFailureThreshold = 3;
-    private long embedOpenMs = 30000;
-    private int vectorFailureThreshold = 3;
-    private long vectorOpenMs = 30000;
-    private int rerankFailureThreshold = 3;
-    private long rerankOpenMs = 30000;
+    private Breaker embed = new Breaker(150);
+    private Breaker vector = new Breaker(300);
+    private Breaker rerank = new Breaker(300);
     private int rerankHedgeDelayMs = 60;
 
-    public int getEmbedFailureThreshold() {
-        return embedFailureThreshold;
+    public Breaker getEmbed() {
+        return embed;
     }
 
-    public void setEmbedFailureThreshold(int embedFailureThreshold) {
-        this.embedFailureThreshold = embedFailureThreshold;
+    public void setEmbed(Breaker embed) {
+        this.embed = embed;
     }
 
-    public long getEmbedOpenMs() {
-        return embedOpenMs;
+    public Breaker getVector() {
+        return vector;
     }
 
-    public void setEmbedOpenMs(long embedOpenMs) {
-        this.embedOpenMs = embedOpenMs;
+    public void setVector(Breaker vector) {
+        this.vector = vector;
     }
 
-    public int getVectorFailureThreshold() {
-        return vectorFailureThreshold;
+    public Breaker getRerank() {
+        return rerank;
     }
 
-    public void setVectorFailureThreshold(int vectorFailureThreshold) {
-        this.vectorFailureThreshold = vectorFailureThreshold;
-    }
-
-    public long getVectorOpenMs() {
-        return vectorOpenMs;
-    }
-
-    public void setVectorOpenMs(long vectorOpenMs) {
-        this.vectorOpenMs = vectorOpenMs;
-    }
-
-    public int getRerankFailureThreshold() {
-        return rerankFailureThreshold;
-    }
-
-    public void setRerankFailureThreshold(int rerankFailureThreshold) {
-        this.rerankFailureThreshold = rerankFailureThreshold;
-    }
-
-    public long getRerankOpenMs() {
-        return rerankOpenMs;
-    }
-
-    public void setRerankOpenMs(long rerankOpenMs) {
-        this.rerankOpenMs = rerankOpenMs;
+    public void setRerank(Breaker rerank) {
+        this.rerank = rerank;
     }
 
     public int getRerankHedgeDelayMs() {
@@ -69,4 +42,83 @@ public class SearchResilienceProperties {
     public void setRerankHedgeDelayMs(int rerankHedgeDelayMs) {
         this.rerankHedgeDelayMs = rerankHedgeDelayMs;
     }
+
+    /**
+     * Sliding-window breaker settings: trips when, over the last
+     * {@code windowSize} calls (and at least {@code minimumCalls}), the failure
+     * rate or the rate of calls slower than {@code slowCallMs} reaches its
+     * threshold. After {@code openMs} it admits {@code halfOpenProbes} probes.
+     */
+    public static class Breaker {
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5d;
+        private long slowCallMs;
+        private double slowCallRateThreshold = 0.8d;
+        private long openMs = 30000;
+        private int halfOpenProbes = 3;
+
+        public Breaker() {
+        }
+
+        public Breaker(long slowCallMs) {
+            this.slowCallMs = slowCallMs;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public long getSlowCallMs() {
+            return slowCallMs;
+        }
+
+        public void setSlowCallMs(long slowCallMs) {
+            this.slowCallMs = slowCallMs;
+        }
+
+        public double getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public long getOpenMs() {
+            return openMs;
+        }
+
+        public void setOpenMs(long openMs) {
+            this.openMs = openMs;
+        }
+
+        public int getHalfOpenProbes() {
+            return halfOpenProbes;
+        }
+
+        public void setHalfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = halfOpenProbes;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.bsl.search.resilience;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -9,11 +10,11 @@ public class SearchResilienceRegistry {
     private final CircuitBreaker vectorBreaker;
     private final CircuitBreaker rerankBreaker;
 
-    public SearchResilienceRegistry(SearchResilienceProperties properties) {
+    public SearchResilienceRegistry(SearchResilienceProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
-        this.embedBreaker = new CircuitBreaker(properties.getEmbedFailureThreshold(), properties.getEmbedOpenMs());
-        this.vectorBreaker = new CircuitBreaker(properties.getVectorFailureThreshold(), properties.getVectorOpenMs());
-        this.rerankBreaker = new CircuitBreaker(properties.getRerankFailureThreshold(), properties.getRerankOpenMs());
+        this.embedBreaker = new CircuitBreaker("embed", properties.getEmbed(), meterRegistry);
+        this.vectorBreaker = new CircuitBreaker("vector", properties.getVector(), meterRegistry);
+        this.rerankBreaker = new CircuitBreaker("rerank", properties.getRerank(), meterRegistry);
     }
 
     public CircuitBreaker getEmbedBreaker() {
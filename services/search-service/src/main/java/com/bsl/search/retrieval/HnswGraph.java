@@ -0,0 +1,392 @@
+package com.bsl.search.retrieval;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * Immutable HNSW graph over unit-length vectors, scored by dot product (cosine).
+ * Built once on a single thread and then searched concurrently. Filtered search
+ * still walks rejected nodes but only collects accepted ones.
+ */
+final class HnswGraph {
+    private final float[][] vectors;
+    private final int[][][] links;
+    private final int entryPoint;
+    private final int maxLevel;
+
+    private HnswGraph(float[][] vectors, int[][][] links, int entryPoint, int maxLevel) {
+        this.vectors = vectors;
+        this.links = links;
+        this.entryPoint = entryPoint;
+        this.maxLevel = maxLevel;
+    }
+
+    static HnswGraph build(float[][] vectors, int m, int efConstruction, long seed) {
+        return new Builder(vectors, Math.max(2, m), Math.max(m, efConstruction), seed).build();
+    }
+
+    int size() {
+        return vectors.length;
+    }
+
+    /**
+     * Returns up to {@code k} accepted nodes, best first. {@code accept} null
+     * means every node.
+     */
+    NodeQueue search(float[] query, int k, int ef, BitSet accept) {
+        NodeQueue results = new NodeQueue(k, false);
+        if (vectors.length == 0 || k <= 0) {
+            return results;
+        }
+        int current = entryPoint;
+        float currentScore = dot(query, vectors[current]);
+        for (int level = maxLevel; level > 0; level--) {
+            boolean improved = true;
+            while (improved) {
+                improved = false;
+                for (int neighbor : links[current][level]) {
+                    float score = dot(query, vectors[neighbor]);
+                    if (score > currentScore) {
+                        currentScore = score;
+                        current = neighbor;
+                        improved = true;
+                    }
+                }
+            }
+        }
+        NodeQueue candidates = searchLayer(vectors, links, query, current, Math.max(ef, k), 0, accept, new BitSet(vectors.length));
+        while (candidates.size() > k) {
+            candidates.pop();
+        }
+        return candidates;
+    }
+
+    /** Exact top-k over the accepted nodes; used when a filter leaves few of them. */
+    NodeQueue scan(float[] query, int k, BitSet accept) {
+        NodeQueue results = new NodeQueue(k, false);
+        if (k <= 0) {
+            return results;
+        }
+        for (int node = accept.nextSetBit(0); node >= 0 && node < vectors.length; node = accept.nextSetBit(node + 1)) {
+            offer(results, node, dot(query, vectors[node]), k);
+        }
+        return results;
+    }
+
+    private static NodeQueue searchLayer(
+        float[][] vectors,
+        int[][][] graph,
+        float[] query,
+        int entry,
+        int ef,
+        int level,
+        BitSet accept,
+        BitSet visited
+    ) {
+        NodeQueue candidates = new NodeQueue(ef, true);
+        NodeQueue results = new NodeQueue(ef, false);
+        visited.set(entry);
+        float entryScore = dot(query, vectors[entry]);
+        candidates.push(entry, entryScore);
+        if (accept == null || accept.get(entry)) {
+            results.push(entry, entryScore);
+        }
+        while (candidates.size() > 0) {
+            float candidateScore = candidates.topScore();
+            if (results.size() >= ef && candidateScore < results.topScore()) {
+                break;
+            }
+            int candidate = candidates.pop();
+            int[] neighbors = graph[candidate][level];
+            for (int neighbor : neighbors) {
+                if (neighbor < 0) {
+                    break;
+                }
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float score = dot(query, vectors[neighbor]);
+                if (results.size() < ef || score > results.topScore()) {
+                    candidates.push(neighbor, score);
+                    if (accept == null || accept.get(neighbor)) {
+                        offer(results, neighbor, score, ef);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static void offer(NodeQueue results, int node, float score, int limit) {
+        if (results.size() < limit) {
+            results.push(node, score);
+        } else if (score > results.topScore()) {
+            results.pop();
+            results.push(node, score);
+        }
+    }
+
+    static float dot(float[] a, float[] b) {
+        float sum = 0f;
+        int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static final class Builder {
+        private final float[][] vectors;
+        private final int m;
+        private final int efConstruction;
+        private final double levelMultiplier;
+        private final SplittableRandom random;
+        private final int[][][] links;
+        private int entryPoint = -1;
+        private int maxLevel = -1;
+
+        private Builder(float[][] vectors, int m, int efConstruction, long seed) {
+            this.vectors = vectors;
+            this.m = m;
+            this.efConstruction = efConstruction;
+            this.levelMultiplier = 1.0d / Math.log(m);
+            this.random = new SplittableRandom(seed);
+            this.links = new int[vectors.length][][];
+        }
+
+        private HnswGraph build() {
+            BitSet visited = new BitSet(vectors.length);
+            for (int node = 0; node < vectors.length; node++) {
+                visited.clear();
+                insert(node, visited);
+            }
+            for (int[][] levels : links) {
+                for (int level = 0; level < levels.length; level++) {
+                    levels[level] = trim(levels[level]);
+                }
+            }
+            return new HnswGraph(vectors, links, Math.max(entryPoint, 0), Math.max(maxLevel, 0));
+        }
+
+        private void insert(int node, BitSet visited) {
+            int level = (int) (-Math.log(1.0d - random.nextDouble()) * levelMultiplier);
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = emptyLinks(capacity(l));
+            }
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+            float[] vector = vectors[node];
+            int current = entryPoint;
+            float currentScore = dot(vector, vectors[current]);
+            for (int l = maxLevel; l > level; l--) {
+                boolean improved = true;
+                while (improved) {
+                    improved = false;
+                    for (int neighbor : links[current][l]) {
+                        if (neighbor < 0) {
+                            break;
+                        }
+                        float score = dot(vector, vectors[neighbor]);
+                        if (score > currentScore) {
+                            currentScore = score;
+                            current = neighbor;
+                            improved = true;
+                        }
+                    }
+                }
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                visited.clear();
+                NodeQueue found = searchLayer(vectors, links, vector, current, efConstruction, l, null, visited);
+                int[] ordered = found.drainBestFirst();
+                int[] selected = selectNeighbors(node, ordered, capacity(l));
+                System.arraycopy(selected, 0, links[node][l], 0, selected.length);
+                for (int neighbor : selected) {
+                    connect(neighbor, node, l);
+                }
+                current = ordered[0];
+            }
+            if (level > maxLevel) {
+                entryPoint = node;
+                maxLevel = level;
+            }
+        }
+
+        private void connect(int from, int to, int level) {
+            int[] neighbors = links[from][level];
+            for (int i = 0; i < neighbors.length; i++) {
+                if (neighbors[i] < 0) {
+                    neighbors[i] = to;
+                    return;
+                }
+            }
+            int[] pool = Arrays.copyOf(neighbors, neighbors.length + 1);
+            pool[neighbors.length] = to;
+            float[] scores = new float[pool.length];
+            for (int i = 0; i < pool.length; i++) {
+                scores[i] = dot(vectors[from], vectors[pool[i]]);
+            }
+            int[] ordered = sortByScore(pool, scores);
+            int[] selected = selectNeighbors(from, ordered, neighbors.length);
+            Arrays.fill(neighbors, -1);
+            System.arraycopy(selected, 0, neighbors, 0, selected.length);
+        }
+
+        /**
+         * Diversity heuristic from the HNSW paper: keep a candidate only if it is
+         * closer to the base node than to any neighbor already kept, then top up
+         * with the closest pruned candidates so nodes stay well connected.
+         */
+        private int[] selectNeighbors(int base, int[] orderedCandidates, int capacity) {
+            int[] selected = new int[capacity];
+            int count = 0;
+            BitSet taken = new BitSet(orderedCandidates.length);
+            for (int i = 0; i < orderedCandidates.length && count < capacity; i++) {
+                int candidate = orderedCandidates[i];
+                if (candidate == base) {
+                    taken.set(i);
+                    continue;
+                }
+                float toBase = dot(vectors[candidate], vectors[base]);
+                boolean diverse = true;
+                for (int j = 0; j < count; j++) {
+                    if (dot(vectors[candidate], vectors[selected[j]]) > toBase) {
+                        diverse = false;
+                        break;
+                    }
+                }
+                if (diverse) {
+                    selected[count++] = candidate;
+                    taken.set(i);
+                }
+            }
+            for (int i = 0; i < orderedCandidates.length && count < capacity; i++) {
+                if (!taken.get(i)) {
+                    selected[count++] = orderedCandidates[i];
+                }
+            }
+            return Arrays.copyOf(selected, count);
+        }
+
+        private int capacity(int level) {
+            return level == 0 ? m * 2 : m;
+        }
+
+        private static int[] emptyLinks(int capacity) {
+            int[] empty = new int[capacity];
+            Arrays.fill(empty, -1);
+            return empty;
+        }
+
+        private static int[] trim(int[] neighbors) {
+            int count = 0;
+            while (count < neighbors.length && neighbors[count] >= 0) {
+                count++;
+            }
+            return count == neighbors.length ? neighbors : Arrays.copyOf(neighbors, count);
+        }
+
+        private static int[] sortByScore(int[] nodes, float[] scores) {
+            NodeQueue queue = new NodeQueue(nodes.length, false);
+            for (int i = 0; i < nodes.length; i++) {
+                queue.push(nodes[i], scores[i]);
+            }
+            return queue.drainBestFirst();
+        }
+    }
+
+    /** Binary heap of (node, score); a max-heap pops the best, a min-heap the worst. */
+    static final class NodeQueue {
+        private final boolean max;
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+
+        NodeQueue(int capacity, boolean max) {
+            this.max = max;
+            this.nodes = new int[Math.max(1, capacity)];
+            this.scores = new float[Math.max(1, capacity)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        float topScore() {
+            return scores[0];
+        }
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(score, scores[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                scores[i] = scores[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            scores[i] = score;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastScore = scores[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(scores[child + 1], scores[child])) {
+                    child++;
+                }
+                if (!before(scores[child], lastScore)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                scores[i] = scores[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            scores[i] = lastScore;
+            return top;
+        }
+
+        /** Empties a min-heap into an array ordered best first. */
+        int[] drainBestFirst() {
+            int[] ordered = new int[size];
+            for (int i = ordered.length - 1; i >= 0; i--) {
+                ordered[i] = pop();
+            }
+            return ordered;
+        }
+
+        /** Empties a min-heap; {@code scoresOut} receives scores in the same order as the result. */
+        int[] drainBestFirst(float[] scoresOut) {
+            int[] ordered = new int[size];
+            for (int i = ordered.length - 1; i >= 0; i--) {
+                scoresOut[i] = scores[0];
+                ordered[i] = pop();
+            }
+            return ordered;
+        }
+
+        private boolean before(float a, float b) {
+            return max ? a > b : a < b;
+        }
+    }
+}
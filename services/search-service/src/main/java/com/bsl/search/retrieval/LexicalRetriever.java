@@ -1,21 +1,27 @@
 package com.bsl.search.retrieval;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.bsl.search.cache.DocSourceCacheService;
 import com.bsl.search.opensearch.OpenSearchGateway;
 import com.bsl.search.opensearch.OpenSearchQueryResult;
 import com.bsl.search.opensearch.OpenSearchRequestException;
+import com.bsl.search.opensearch.OpenSearchSearchRequest;
 import com.bsl.search.opensearch.OpenSearchUnavailableException;
+import com.bsl.search.opensearch.SourceProjection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
 
 @Component
 public class LexicalRetriever implements Retriever {
     private final OpenSearchGateway openSearchGateway;
+    private final DocSourceCacheService docSourceCacheService;
 
-    public LexicalRetriever(OpenSearchGateway openSearchGateway) {
+    public LexicalRetriever(OpenSearchGateway openSearchGateway, DocSourceCacheService docSourceCacheService) {
         this.openSearchGateway = openSearchGateway;
+        this.docSourceCacheService = docSourceCacheService;
     }
 
     @Override
@@ -25,18 +31,11 @@ public class LexicalRetriever implements Retriever {
 
     @Override
     public RetrievalStageResult retrieve(RetrievalStageContext context) {
-        if (context == null) {
-            return RetrievalStageResult.empty();
-        }
-        if (context.getTopK() <= 0) {
-            return RetrievalStageResult.empty();
-        }
-        boolean hasQueryOverride = context.getQueryOverride() != null && !context.getQueryOverride().isEmpty();
-        boolean hasQuery = context.getQueryText() != null && !context.getQueryText().isBlank();
-        boolean hasFilters = context.getFilters() != null && !context.getFilters().isEmpty();
-        if (!hasQueryOverride && !hasQuery && !hasFilters) {
+        if (!isRunnable(context)) {
             return RetrievalStageResult.empty();
         }
+        boolean hasQueryOverride = hasQueryOverride(context);
+        boolean hasQuery = hasQuery(context);
         long started = System.nanoTime();
         try {
             OpenSearchQueryResult result;
@@ -68,34 +67,116 @@ public class LexicalRetriever implements Retriever {
                         context.isExplain()
                     );
             }
-            if (shouldRunAuthorContainsFallback(context, hasQueryOverride, hasQuery, result)) {
-                OpenSearchQueryResult fallback = openSearchGateway.searchAuthorContainsFallbackDetailed(
+            return complete(
+                context,
+                result,
+                () -> openSearchGateway.searchAuthorContainsFallbackDetailed(
                     context.getQueryText(),
                     context.getTopK(),
                     context.getTimeBudgetMs(),
                     context.getFilters(),
                     context.isExplain()
-                );
-                if (fallback != null && !fallback.getDocIds().isEmpty()) {
-                    result = fallback;
-                }
-            }
-            List<String> docIds = result == null ? List.of() : result.getDocIds();
-            Map<String, Double> scoresByDocId = result == null ? Map.of() : result.getScoresByDocId();
-            Map<String, Object> queryDsl = context.isDebug() ? (result == null ? null : result.getQueryDsl()) : null;
-            long tookMs = (System.nanoTime() - started) / 1_000_000L;
-            return RetrievalStageResult.success(docIds, scoresByDocId, queryDsl, tookMs);
+                ),
+                started
+            );
         } catch (OpenSearchUnavailableException | OpenSearchRequestException e) {
             return RetrievalStageResult.error(e.getMessage());
         }
     }
 
-    private boolean shouldRunAuthorContainsFallback(
+    public boolean isRunnable(RetrievalStageContext context) {
+        if (context == null || context.getTopK() <= 0) {
+            return false;
+        }
+        boolean hasFilters = context.getFilters() != null && !context.getFilters().isEmpty();
+        return hasQueryOverride(context) || hasQuery(context) || hasFilters;
+    }
+
+    /**
+     * The primary lexical query, built but not sent, for callers that batch it
+     * into an {@code _msearch}. Mirrors the query {@link #retrieve} would run.
+     */
+    public OpenSearchSearchRequest buildRequest(RetrievalStageContext context) {
+        if (hasQueryOverride(context)) {
+            return openSearchGateway.buildLexicalByDslRequest(
+                context.getQueryOverride(),
+                context.getTopK(),
+                context.getFilters(),
+                context.isExplain()
+            );
+        }
+        if (hasQuery(context)) {
+            return openSearchGateway.buildLexicalRequest(
+                context.getQueryText(),
+                context.getTopK(),
+                context.getBoost(),
+                context.getOperator(),
+                context.getMinimumShouldMatch(),
+                context.getFilters(),
+                context.getFieldsOverride(),
+                context.isExplain()
+            );
+        }
+        return openSearchGateway.buildMatchAllRequest(
+            context.getTopK(),
+            context.getFilters(),
+            context.isExplain()
+        );
+    }
+
+    /**
+     * The author-contains fallback query when the query shape could need it, or
+     * null. Whether it is used still depends on the primary hits.
+     */
+    public OpenSearchSearchRequest buildFallbackRequest(RetrievalStageContext context) {
+        if (!isAuthorFallbackCandidate(context, hasQueryOverride(context), hasQuery(context))) {
+            return null;
+        }
+        return openSearchGateway.buildAuthorContainsFallbackRequest(
+            context.getQueryText(),
+            context.getTopK(),
+            context.getFilters(),
+            context.isExplain()
+        );
+    }
+
+    /**
+     * Finishes a lexical stage from the primary result, pulling the fallback
+     * result from {@code fallback} only if the primary hits call for it.
+     */
+    public RetrievalStageResult complete(
         RetrievalStageContext context,
-        boolean hasQueryOverride,
-        boolean hasQuery,
-        OpenSearchQueryResult result
+        OpenSearchQueryResult result,
+        Supplier<OpenSearchQueryResult> fallback,
+        long started
     ) {
+        boolean partial = result != null && result.isPartial();
+        if (shouldRunAuthorContainsFallback(context, hasQueryOverride(context), hasQuery(context), result)) {
+            OpenSearchQueryResult fallbackResult = fallback.get();
+            if (fallbackResult != null && !fallbackResult.getDocIds().isEmpty()) {
+                result = fallbackResult;
+                partial |= fallbackResult.isPartial();
+            }
+        }
+        List<String> docIds = result == null ? List.of() : result.getDocIds();
+        Map<String, Double> scoresByDocId = result == null ? Map.of() : result.getScoresByDocId();
+        Map<String, Object> queryDsl = context.isDebug() ? (result == null ? null : result.getQueryDsl()) : null;
+        long tookMs = (System.nanoTime() - started) / 1_000_000L;
+        if (partial) {
+            return RetrievalStageResult.partial(docIds, scoresByDocId, queryDsl, tookMs);
+        }
+        return RetrievalStageResult.success(docIds, scoresByDocId, queryDsl, tookMs);
+    }
+
+    private boolean hasQueryOverride(RetrievalStageContext context) {
+        return context.getQueryOverride() != null && !context.getQueryOverride().isEmpty();
+    }
+
+    private boolean hasQuery(RetrievalStageContext context) {
+        return context.getQueryText() != null && !context.getQueryText().isBlank();
+    }
+
+    private boolean isAuthorFallbackCandidate(RetrievalStageContext context, boolean hasQueryOverride, boolean hasQuery) {
         if (hasQueryOverride || !hasQuery) {
             return false;
         }
@@ -106,9 +187,19 @@ public class LexicalRetriever implements Retriever {
         if (!containsHangul(trimmed)) {
             return false;
         }
-        if (trimmed.length() < 2 || trimmed.length() > 4) {
+        return trimmed.length() >= 2 && trimmed.length() <= 4;
+    }
+
+    private boolean shouldRunAuthorContainsFallback(
+        RetrievalStageContext context,
+        boolean hasQueryOverride,
+        boolean hasQuery,
+        OpenSearchQueryResult result
+    ) {
+        if (!isAuthorFallbackCandidate(context, hasQueryOverride, hasQuery)) {
             return false;
         }
+        String trimmed = context.getQueryText().trim();
         if (result == null || result.getDocIds().isEmpty()) {
             return true;
         }
@@ -116,7 +207,11 @@ public class LexicalRetriever implements Retriever {
         List<String> docIds = result.getDocIds();
         int probeSize = Math.min(docIds.size(), 20);
         List<String> probeIds = new ArrayList<>(docIds.subList(0, probeSize));
-        Map<String, JsonNode> sources = openSearchGateway.mgetSources(probeIds, context.getTimeBudgetMs());
+        Map<String, JsonNode> sources = docSourceCacheService.getSources(
+            probeIds,
+            SourceProjection.AUTHOR_PROBE,
+            missing -> openSearchGateway.mgetSources(missing, context.getTimeBudgetMs(), SourceProjection.AUTHOR_PROBE)
+        );
 
         if (containsQueryInSources(sources, trimmed, "author_names_ko")
             || containsQueryInSources(sources, trimmed, "author_names_en")) {
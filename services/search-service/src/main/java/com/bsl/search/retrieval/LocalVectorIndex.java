@@ -0,0 +1,219 @@
+package com.bsl.search.retrieval;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One immutable snapshot of the vector index: the HNSW graph, the doc id of each
+ * node and a postings list per filterable field value. Term and terms filters on
+ * {@link #FILTER_FIELDS} become a node bitset before the graph walk; anything
+ * else is reported as unsupported so the caller can use OpenSearch instead.
+ */
+final class LocalVectorIndex {
+    /** Fields copied from {@code books_vec} for filter pushdown. */
+    static final List<String> FILTER_FIELDS = List.of(
+        "kdc_node_id",
+        "kdc_code",
+        "kdc_edition",
+        "kdc_path_codes",
+        "language_code",
+        "edition_labels",
+        "volume",
+        "issued_year",
+        "identifiers.isbn13"
+    );
+
+    private final HnswGraph graph;
+    private final String[] docIds;
+    private final BitSet visible;
+    private final Map<String, Map<String, BitSet>> postings;
+
+    private LocalVectorIndex(HnswGraph graph, String[] docIds, BitSet visible, Map<String, Map<String, BitSet>> postings) {
+        this.graph = graph;
+        this.docIds = docIds;
+        this.visible = visible;
+        this.postings = postings;
+    }
+
+    static LocalVectorIndex build(List<Document> documents, int m, int efConstruction) {
+        int size = documents.size();
+        float[][] vectors = new float[size][];
+        String[] docIds = new String[size];
+        BitSet visible = new BitSet(size);
+        Map<String, Map<String, BitSet>> postings = new HashMap<>();
+        for (int node = 0; node < size; node++) {
+            Document document = documents.get(node);
+            vectors[node] = normalize(document.vector);
+            docIds[node] = document.docId;
+            if (!document.hidden) {
+                visible.set(node);
+            }
+            for (Map.Entry<String, Collection<String>> field : document.attributes.entrySet()) {
+                Map<String, BitSet> values = postings.computeIfAbsent(field.getKey(), key -> new HashMap<>());
+                for (String value : field.getValue()) {
+                    values.computeIfAbsent(value, key -> new BitSet(size)).set(node);
+                }
+            }
+        }
+        HnswGraph graph = HnswGraph.build(vectors, m, efConstruction, 42L);
+        return new LocalVectorIndex(graph, docIds, visible, postings);
+    }
+
+    int size() {
+        return docIds.length;
+    }
+
+    /**
+     * Visible nodes matching every clause, or null when a clause cannot be
+     * evaluated locally.
+     */
+    BitSet accept(List<Map<String, Object>> filters) {
+        BitSet accepted = (BitSet) visible.clone();
+        if (filters == null) {
+            return accepted;
+        }
+        for (Map<String, Object> clause : filters) {
+            BitSet matches = evaluate(clause);
+            if (matches == null) {
+                return null;
+            }
+            accepted.and(matches);
+        }
+        return accepted;
+    }
+
+    /**
+     * Top-k doc ids for a query vector. Filters leaving at most
+     * {@code exactMaxDocs} nodes are scanned exactly rather than walked.
+     */
+    Hits search(float[] query, int k, int ef, BitSet accept, int exactMaxDocs) {
+        float[] unit = normalize(query);
+        int matched = accept.cardinality();
+        HnswGraph.NodeQueue found = matched <= exactMaxDocs
+            ? graph.scan(unit, k, accept)
+            : graph.search(unit, k, ef, matched == size() ? null : accept);
+        float[] similarities = new float[found.size()];
+        int[] nodes = found.drainBestFirst(similarities);
+        List<String> ids = new ArrayList<>(nodes.length);
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.length; i++) {
+            String docId = docIds[nodes[i]];
+            ids.add(docId);
+            // Same scale as the OpenSearch cosinesimil space: (1 + cos) / 2.
+            scores.put(docId, (1.0d + similarities[i]) / 2.0d);
+        }
+        return new Hits(ids, scores, matched <= exactMaxDocs);
+    }
+
+    private BitSet evaluate(Map<String, Object> clause) {
+        if (clause == null || clause.size() != 1) {
+            return null;
+        }
+        Map.Entry<String, Object> entry = clause.entrySet().iterator().next();
+        if (!(entry.getValue() instanceof Map<?, ?> body) || body.size() != 1) {
+            return null;
+        }
+        Map.Entry<?, ?> field = body.entrySet().iterator().next();
+        String name = String.valueOf(field.getKey());
+        if ("is_hidden".equals(name) && "term".equals(entry.getKey())) {
+            return Boolean.FALSE.equals(field.getValue()) ? (BitSet) visible.clone() : null;
+        }
+        if (!FILTER_FIELDS.contains(name)) {
+            return null;
+        }
+        Map<String, BitSet> values = postings.getOrDefault(name, Map.of());
+        BitSet matches = new BitSet(size());
+        if ("term".equals(entry.getKey())) {
+            or(matches, values, field.getValue());
+        } else if ("terms".equals(entry.getKey()) && field.getValue() instanceof Collection<?> terms) {
+            for (Object term : terms) {
+                or(matches, values, term);
+            }
+        } else {
+            return null;
+        }
+        return matches;
+    }
+
+    private static void or(BitSet matches, Map<String, BitSet> values, Object term) {
+        String key = termKey(term);
+        BitSet posting = key == null ? null : values.get(key);
+        if (posting != null) {
+            matches.or(posting);
+        }
+    }
+
+    /** Filter values and loaded attributes share one string form; integral numbers drop any fraction. */
+    static String termKey(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            double asDouble = number.doubleValue();
+            if (asDouble == Math.rint(asDouble) && !Double.isInfinite(asDouble)) {
+                return Long.toString(number.longValue());
+            }
+            return Double.toString(asDouble);
+        }
+        return value.toString();
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0d;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0d || Math.abs(norm - 1.0d) < 1e-6) {
+            return vector;
+        }
+        float scale = (float) (1.0d / Math.sqrt(norm));
+        float[] unit = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            unit[i] = vector[i] * scale;
+        }
+        return unit;
+    }
+
+    static final class Document {
+        private final String docId;
+        private final float[] vector;
+        private final boolean hidden;
+        private final Map<String, Collection<String>> attributes;
+
+        Document(String docId, float[] vector, boolean hidden, Map<String, Collection<String>> attributes) {
+            this.docId = docId;
+            this.vector = vector;
+            this.hidden = hidden;
+            this.attributes = attributes == null ? Map.of() : attributes;
+        }
+    }
+
+    static final class Hits {
+        private final List<String> docIds;
+        private final Map<String, Double> scoresByDocId;
+        private final boolean exact;
+
+        private Hits(List<String> docIds, Map<String, Double> scoresByDocId, boolean exact) {
+            this.docIds = docIds;
+            this.scoresByDocId = scoresByDocId;
+            this.exact = exact;
+        }
+
+        List<String> getDocIds() {
+            return docIds;
+        }
+
+        Map<String, Double> getScoresByDocId() {
+            return scoresByDocId;
+        }
+
+        boolean isExact() {
+            return exact;
+        }
+    }
+}
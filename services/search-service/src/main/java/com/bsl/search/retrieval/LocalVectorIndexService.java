@@ -0,0 +1,237 @@
+package com.bsl.search.retrieval;
+
+import com.bsl.search.opensearch.OpenSearchGateway;
+import com.bsl.search.opensearch.OpenSearchQueryResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process copy of {@code books_vec} for {@link VectorSearchMode#LOCAL_HNSW}.
+ * A background thread pages the whole index in {@code doc_id} order, builds a
+ * fresh {@link LocalVectorIndex} and swaps it in; searches keep using the
+ * previous snapshot until then. Hidden docs are excluded at query time, so a
+ * visibility change shows up locally after the next refresh.
+ */
+@Component
+public class LocalVectorIndexService {
+    private static final Logger log = LoggerFactory.getLogger(LocalVectorIndexService.class);
+
+    private final OpenSearchGateway openSearchGateway;
+    private final VectorSearchProperties properties;
+    private final Timer buildTimer;
+    private final Counter refreshFailures;
+    private final Counter fallbackNotReady;
+    private final Counter fallbackUnsupportedFilter;
+    private final ScheduledExecutorService refresher;
+    private volatile LocalVectorIndex index;
+
+    public LocalVectorIndexService(
+        OpenSearchGateway openSearchGateway,
+        VectorSearchProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.openSearchGateway = openSearchGateway;
+        this.properties = properties;
+        this.buildTimer = Timer.builder("sr_vector_local_build_ms").register(meterRegistry);
+        this.refreshFailures = Counter.builder("sr_vector_local_refresh_failures_total").register(meterRegistry);
+        this.fallbackNotReady = Counter.builder("sr_vector_local_fallback_total")
+            .tag("reason", "not_ready")
+            .register(meterRegistry);
+        this.fallbackUnsupportedFilter = Counter.builder("sr_vector_local_fallback_total")
+            .tag("reason", "unsupported_filter")
+            .register(meterRegistry);
+        Gauge.builder("sr_vector_local_docs", this, service -> service.size()).register(meterRegistry);
+
+        if (properties.getMode() != VectorSearchMode.LOCAL_HNSW) {
+            this.refresher = null;
+            return;
+        }
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vector-hnsw-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = properties.getLocalHnsw().getRefreshIntervalMs();
+        if (intervalMs > 0) {
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, 0L, intervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            refresher.execute(this::refreshQuietly);
+        }
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public int size() {
+        LocalVectorIndex current = index;
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Answers a kNN query from the current snapshot, or returns null when the
+     * snapshot is not loaded yet or a filter clause cannot be pushed down.
+     */
+    public OpenSearchQueryResult search(float[] vector, int topK, List<Map<String, Object>> filters) {
+        LocalVectorIndex current = index;
+        if (current == null) {
+            fallbackNotReady.increment();
+            return null;
+        }
+        BitSet accept = current.accept(filters);
+        if (accept == null) {
+            fallbackUnsupportedFilter.increment();
+            return null;
+        }
+        VectorSearchProperties.LocalHnsw settings = properties.getLocalHnsw();
+        LocalVectorIndex.Hits hits = current.search(
+            vector,
+            topK,
+            Math.max(topK, settings.getEfSearch()),
+            accept,
+            settings.getExactMaxDocs()
+        );
+        Map<String, Object> localQuery = new LinkedHashMap<>();
+        localQuery.put("k", topK);
+        localQuery.put("ef_search", settings.getEfSearch());
+        localQuery.put("exact", hits.isExact());
+        localQuery.put("filter", filters == null ? List.of() : filters);
+        return new OpenSearchQueryResult(hits.getDocIds(), Map.of("local_hnsw", localQuery), hits.getScoresByDocId());
+    }
+
+    /** Loads a full snapshot and swaps it in. Throws if the load fails; the old snapshot stays. */
+    public void refresh() {
+        VectorSearchProperties.LocalHnsw settings = properties.getLocalHnsw();
+        long started = System.nanoTime();
+        List<LocalVectorIndex.Document> documents = loadDocuments(settings);
+        LocalVectorIndex next = LocalVectorIndex.build(documents, settings.getM(), settings.getEfConstruction());
+        buildTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        index = next;
+        log.info("local vector index loaded docs={}", next.size());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.warn("local vector index refresh failed; keeping previous snapshot", e);
+        }
+    }
+
+    private List<LocalVectorIndex.Document> loadDocuments(VectorSearchProperties.LocalHnsw settings) {
+        List<String> includes = new ArrayList<>();
+        includes.add("doc_id");
+        includes.add("embedding");
+        includes.add("is_hidden");
+        includes.addAll(LocalVectorIndex.FILTER_FIELDS);
+
+        List<LocalVectorIndex.Document> documents = new ArrayList<>();
+        int pageSize = Math.max(1, settings.getPageSize());
+        int dimension = -1;
+        String after = null;
+        while (true) {
+            JsonNode hits = openSearchGateway.scanVectorIndex(after, pageSize, includes, settings.getPageTimeoutMs());
+            if (hits == null || !hits.isArray() || hits.isEmpty()) {
+                break;
+            }
+            for (JsonNode hit : hits) {
+                JsonNode source = hit.path("_source");
+                String docId = source.path("doc_id").asText(null);
+                if (docId == null || docId.isEmpty()) {
+                    docId = hit.path("_id").asText(null);
+                }
+                JsonNode sortValue = hit.path("sort").path(0);
+                after = sortValue.isMissingNode() ? docId : sortValue.asText();
+                float[] vector = readVector(source.path("embedding"));
+                if (docId == null || vector == null) {
+                    continue;
+                }
+                if (dimension < 0) {
+                    dimension = vector.length;
+                } else if (vector.length != dimension) {
+                    continue;
+                }
+                documents.add(new LocalVectorIndex.Document(
+                    docId,
+                    vector,
+                    source.path("is_hidden").asBoolean(false),
+                    readAttributes(source)
+                ));
+                if (documents.size() > settings.getMaxDocs()) {
+                    throw new IllegalStateException("vector index exceeds local-hnsw.max-docs=" + settings.getMaxDocs());
+                }
+            }
+            if (hits.size() < pageSize || after == null) {
+                break;
+            }
+        }
+        return documents;
+    }
+
+    private static float[] readVector(JsonNode node) {
+        if (!node.isArray() || node.isEmpty()) {
+            return null;
+        }
+        float[] vector = new float[node.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) node.get(i).asDouble();
+        }
+        return vector;
+    }
+
+    private static Map<String, Collection<String>> readAttributes(JsonNode source) {
+        Map<String, Collection<String>> attributes = new LinkedHashMap<>();
+        for (String field : LocalVectorIndex.FILTER_FIELDS) {
+            JsonNode node = source;
+            for (String part : field.split("\\.")) {
+                node = node.path(part);
+            }
+            List<String> values = new ArrayList<>();
+            if (node.isArray()) {
+                for (JsonNode item : node) {
+                    addValue(values, item);
+                }
+            } else {
+                addValue(values, node);
+            }
+            if (!values.isEmpty()) {
+                attributes.put(field, values);
+            }
+        }
+        return attributes;
+    }
+
+    private static void addValue(List<String> values, JsonNode node) {
+        if (node == null || node.isMissingNode() || node.isNull() || node.isContainerNode()) {
+            return;
+        }
+        String key = LocalVectorIndex.termKey(node.isNumber() ? node.numberValue() : node.asText());
+        if (key != null) {
+            values.add(key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
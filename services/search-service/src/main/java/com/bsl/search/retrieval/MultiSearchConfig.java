@@ -0,0 +1,9 @@
+package com.bsl.search.retrieval;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MultiSearchProperties.class)
+public class MultiSearchConfig {
+}
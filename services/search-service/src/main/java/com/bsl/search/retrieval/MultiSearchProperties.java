@@ -0,0 +1,34 @@
+package com.bsl.search.retrieval;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "search.msearch")
+public class MultiSearchProperties {
+    private boolean enabled = false;
+    private boolean speculativeAuthorFallback = true;
+    private int embedWaitMs = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isSpeculativeAuthorFallback() {
+        return speculativeAuthorFallback;
+    }
+
+    public void setSpeculativeAuthorFallback(boolean speculativeAuthorFallback) {
+        this.speculativeAuthorFallback = speculativeAuthorFallback;
+    }
+
+    public int getEmbedWaitMs() {
+        return embedWaitMs;
+    }
+
+    public void setEmbedWaitMs(int embedWaitMs) {
+        this.embedWaitMs = embedWaitMs;
+    }
+}
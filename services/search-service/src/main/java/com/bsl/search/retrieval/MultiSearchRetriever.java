@@ -0,0 +1,214 @@
+package com.bsl.search.retrieval;
+
+import com.bsl.search.execution.SearchBulkheads;
+import com.bsl.search.opensearch.OpenSearchGateway;
+import com.bsl.search.opensearch.OpenSearchMultiSearchItem;
+import com.bsl.search.opensearch.OpenSearchQueryResult;
+import com.bsl.search.opensearch.OpenSearchRequestException;
+import com.bsl.search.opensearch.OpenSearchSearchRequest;
+import com.bsl.search.opensearch.OpenSearchUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the lexical query, the vector query and (speculatively) the lexical
+ * author-contains fallback as a single {@code _msearch}, then splits the items
+ * back into per-stage results. The query embedding, when the vector mode needs
+ * one, runs on the embed pool while the lexical queries are built; if it is not
+ * ready within the embed wait the round trip goes out lexical-only.
+ */
+@Component
+public class MultiSearchRetriever {
+    private final OpenSearchGateway openSearchGateway;
+    private final LexicalRetriever lexicalRetriever;
+    private final VectorRetriever vectorRetriever;
+    private final MultiSearchProperties properties;
+    private final SearchBulkheads bulkheads;
+
+    public MultiSearchRetriever(
+        OpenSearchGateway openSearchGateway,
+        LexicalRetriever lexicalRetriever,
+        VectorRetriever vectorRetriever,
+        MultiSearchProperties properties,
+        SearchBulkheads bulkheads
+    ) {
+        this.openSearchGateway = openSearchGateway;
+        this.lexicalRetriever = lexicalRetriever;
+        this.vectorRetriever = vectorRetriever;
+        this.properties = properties;
+        this.bulkheads = bulkheads;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Either context may be null when that stage should not run; its result is
+     * then {@link RetrievalStageResult#empty()}.
+     */
+    public Results retrieve(
+        RetrievalStageContext lexicalContext,
+        RetrievalStageContext vectorContext,
+        Integer timeBudgetMs
+    ) {
+        long started = System.nanoTime();
+        CompletableFuture<VectorRetriever.Prepared> vectorPrepare = vectorContext == null ? null : prepareAsync(vectorContext);
+        List<OpenSearchSearchRequest> requests = new ArrayList<>(3);
+
+        boolean lexicalRunnable = lexicalContext != null && lexicalRetriever.isRunnable(lexicalContext);
+        int lexicalSlot = -1;
+        int fallbackSlot = -1;
+        if (lexicalRunnable) {
+            lexicalSlot = add(requests, lexicalRetriever.buildRequest(lexicalContext));
+            if (properties.isSpeculativeAuthorFallback()) {
+                fallbackSlot = add(requests, lexicalRetriever.buildFallbackRequest(lexicalContext));
+            }
+        }
+
+        VectorRetriever.Prepared vectorPlan = vectorPrepare == null ? null : awaitPrepared(vectorPrepare, vectorContext, started);
+        int vectorSlot = vectorPlan != null && vectorPlan.getResult() == null ? add(requests, vectorPlan.getRequest()) : -1;
+
+        List<OpenSearchMultiSearchItem> items;
+        String failure = null;
+        try {
+            items = openSearchGateway.multiSearch(requests, timeBudgetMs);
+        } catch (OpenSearchUnavailableException | OpenSearchRequestException e) {
+            items = List.of();
+            failure = e.getMessage();
+        }
+
+        RetrievalStageResult lexical;
+        if (!lexicalRunnable) {
+            lexical = RetrievalStageResult.empty();
+        } else if (failure != null) {
+            lexical = RetrievalStageResult.error(failure);
+        } else {
+            OpenSearchMultiSearchItem fallback = fallbackSlot < 0 ? null : items.get(fallbackSlot);
+            lexical = completeLexical(lexicalContext, items.get(lexicalSlot), fallback, started);
+        }
+
+        RetrievalStageResult vector;
+        if (vectorPlan == null) {
+            vector = RetrievalStageResult.empty();
+        } else if (vectorSlot < 0) {
+            vector = vectorPlan.getResult();
+        } else if (failure != null) {
+            vector = RetrievalStageResult.error(failure);
+        } else {
+            OpenSearchMultiSearchItem item = items.get(vectorSlot);
+            vector = item.isFailed()
+                ? RetrievalStageResult.error(itemError(item))
+                : vectorRetriever.complete(vectorContext, vectorPlan, item.getResult());
+        }
+        return new Results(lexical, vector);
+    }
+
+    private RetrievalStageResult completeLexical(
+        RetrievalStageContext context,
+        OpenSearchMultiSearchItem primary,
+        OpenSearchMultiSearchItem speculativeFallback,
+        long started
+    ) {
+        if (primary.isFailed()) {
+            return RetrievalStageResult.error(itemError(primary));
+        }
+        Supplier<OpenSearchQueryResult> fallback = speculativeFallback != null
+            ? () -> speculativeFallback.isFailed() ? null : speculativeFallback.getResult()
+            : () -> openSearchGateway.searchAuthorContainsFallbackDetailed(
+                context.getQueryText(),
+                context.getTopK(),
+                context.getTimeBudgetMs(),
+                context.getFilters(),
+                context.isExplain()
+            );
+        try {
+            return lexicalRetriever.complete(context, primary.getResult(), fallback, started);
+        } catch (OpenSearchUnavailableException | OpenSearchRequestException e) {
+            return RetrievalStageResult.error(e.getMessage());
+        }
+    }
+
+    private CompletableFuture<VectorRetriever.Prepared> prepareAsync(RetrievalStageContext context) {
+        try {
+            return CompletableFuture.supplyAsync(() -> vectorRetriever.prepare(context), bulkheads.getEmbed());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(
+                VectorRetriever.Prepared.done(RetrievalStageResult.skipped("vector_embed_rejected"))
+            );
+        }
+    }
+
+    /**
+     * Waits for the vector plan until the embed wait, capped by the vector
+     * budget, has passed since {@code started}. A late embedding keeps running
+     * so the embedding cache still gets it.
+     */
+    private VectorRetriever.Prepared awaitPrepared(
+        CompletableFuture<VectorRetriever.Prepared> future,
+        RetrievalStageContext context,
+        long started
+    ) {
+        long waitMs = properties.getEmbedWaitMs();
+        Integer budgetMs = context.getTimeBudgetMs();
+        if (budgetMs != null && budgetMs > 0) {
+            waitMs = waitMs > 0 ? Math.min(waitMs, budgetMs) : budgetMs;
+        }
+        try {
+            if (waitMs <= 0) {
+                return future.get();
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(waitMs) - (System.nanoTime() - started);
+            return future.get(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return VectorRetriever.Prepared.done(RetrievalStageResult.skipped("vector_embed_timeout"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return VectorRetriever.Prepared.done(RetrievalStageResult.skipped("vector_embed_interrupted"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            return VectorRetriever.Prepared.done(RetrievalStageResult.error(cause.getMessage()));
+        }
+    }
+
+    private static int add(List<OpenSearchSearchRequest> requests, OpenSearchSearchRequest request) {
+        if (request == null) {
+            return -1;
+        }
+        requests.add(request);
+        return requests.size() - 1;
+    }
+
+    private static String itemError(OpenSearchMultiSearchItem item) {
+        return "OpenSearch msearch item error: " + item.getStatus() + " " + item.getError();
+    }
+
+    public static final class Results {
+        private final RetrievalStageResult lexical;
+        private final RetrievalStageResult vector;
+
+        private Results(RetrievalStageResult lexical, RetrievalStageResult vector) {
+            this.lexical = lexical;
+            this.vector = vector;
+        }
+
+        public static Results of(RetrievalStageResult lexical, RetrievalStageResult vector) {
+            return new Results(lexical, vector);
+        }
+
+        public RetrievalStageResult getLexical() {
+            return lexical;
+        }
+
+        public RetrievalStageResult getVector() {
+            return vector;
+        }
+    }
+}
@@ -11,6 +11,7 @@ public class RetrievalStageResult {
     private final boolean error;
     private final boolean timedOut;
     private final boolean skipped;
+    private final boolean partial;
     private final long tookMs;
     private final String errorMessage;
 
@@ -21,6 +22,7 @@ public class RetrievalStageResult {
         boolean error,
         boolean timedOut,
         boolean skipped,
+        boolean partial,
         long tookMs,
         String errorMessage
     ) {
@@ -30,6 +32,7 @@ public class RetrievalStageResult {
         this.error = error;
         this.timedOut = timedOut;
         this.skipped = skipped;
+        this.partial = partial;
         this.tookMs = tookMs;
         this.errorMessage = errorMessage;
     }
@@ -40,23 +43,33 @@ public class RetrievalStageResult {
         Map<String, Object> queryDsl,
         long tookMs
     ) {
-        return new RetrievalStageResult(docIds, scoresByDocId, queryDsl, false, false, false, tookMs, null);
+        return new RetrievalStageResult(docIds, scoresByDocId, queryDsl, false, false, false, false, tookMs, null);
+    }
+
+    /** Hits OpenSearch returned after its own timeout or terminate_after cut the shards short. */
+    public static RetrievalStageResult partial(
+        List<String> docIds,
+        Map<String, Double> scoresByDocId,
+        Map<String, Object> queryDsl,
+        long tookMs
+    ) {
+        return new RetrievalStageResult(docIds, scoresByDocId, queryDsl, false, false, false, true, tookMs, null);
     }
 
     public static RetrievalStageResult empty() {
-        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, false, false, false, 0L, null);
+        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, false, false, false, false, 0L, null);
     }
 
     public static RetrievalStageResult error(String message) {
-        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, true, false, false, 0L, message);
+        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, true, false, false, false, 0L, message);
     }
 
     public static RetrievalStageResult timedOut() {
-        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, true, true, false, 0L, "timeout");
+        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, true, true, false, false, 0L, "timeout");
     }
 
     public static RetrievalStageResult skipped(String reason) {
-        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, true, false, true, 0L, reason);
+        return new RetrievalStageResult(Collections.emptyList(), Map.of(), null, true, false, true, false, 0L, reason);
     }
 
     public List<String> getDocIds() {
@@ -83,6 +96,10 @@ public class RetrievalStageResult {
         return skipped;
     }
 
+    public boolean isPartial() {
+        return partial;
+    }
+
     public long getTookMs() {
         return tookMs;
     }
@@ -1,26 +1,38 @@
 package com.bsl.search.retrieval;
 
-import com.bsl.search.cache.CacheKeyUtil;
-import com.bsl.search.cache.TtlCache;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.HashMap;
+import com.bsl.search.cache.AdmissionCache;
+import com.bsl.search.cache.CacheKeyBuilder;
+import com.bsl.search.cache.CacheWeights;
+import com.bsl.search.cache.DocTombstones;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 @Service
 public class VectorResultCacheService {
+    private static final long QUERY_DSL_WEIGHT_BYTES = 2048L;
+
     private final VectorSearchProperties properties;
-    private final ObjectMapper objectMapper;
-    private final TtlCache<Entry> cache;
+    private final DocTombstones tombstones;
+    private final MeterRegistry meterRegistry;
+    private final AdmissionCache<Entry> cache;
 
-    public VectorResultCacheService(VectorSearchProperties properties, ObjectMapper objectMapper) {
+    public VectorResultCacheService(
+        VectorSearchProperties properties,
+        DocTombstones tombstones,
+        MeterRegistry meterRegistry
+    ) {
         this.properties = properties;
-        this.objectMapper = objectMapper;
-        int maxEntries = properties.getCache() == null ? 2000 : properties.getCache().getMaxEntries();
-        this.cache = new TtlCache<>(maxEntries);
+        this.tombstones = tombstones;
+        this.meterRegistry = meterRegistry;
+        long maxWeightBytes = properties.getCache() == null
+            ? 8L * 1024 * 1024
+            : properties.getCache().getMaxWeightBytes();
+        this.cache = new AdmissionCache<>("vector_result", maxWeightBytes, VectorResultCacheService::weigh, meterRegistry);
     }
 
     public Optional<Entry> get(RetrievalStageContext context, String mode, String modelId) {
@@ -42,10 +54,29 @@ public class VectorResultCacheService {
         if (key == null || docIds == null) {
             return;
         }
+        if (tombstones.containsAny(docIds)) {
+            meterRegistry.counter("sr_cache_guarded_writes_total", "cache", "vector_result").increment();
+            return;
+        }
         long ttlMs = properties.getCache() == null ? 0L : properties.getCache().getTtlMs();
         cache.put(key, new Entry(docIds, queryDsl), ttlMs);
     }
 
+    /** Drops every cached result that lists one of {@code docIds}; returns how many were dropped. */
+    public int invalidateDocs(Set<String> docIds) {
+        if (docIds == null || docIds.isEmpty()) {
+            return 0;
+        }
+        return cache.invalidateIf((key, entry) -> {
+            for (String docId : entry.getDocIds()) {
+                if (docIds.contains(docId)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
     private String buildKey(RetrievalStageContext context, String mode, String modelId) {
         if (!isEnabled(context)) {
             return null;
@@ -61,19 +92,21 @@ public class VectorResultCacheService {
         if (maxLen > 0 && query.length() > maxLen) {
             return null;
         }
-        Map<String, Object> keyFields = new HashMap<>();
-        keyFields.put("q", query);
-        keyFields.put("top_k", context.getTopK());
-        keyFields.put("filters", context.getFilters());
-        keyFields.put("mode", mode);
-        keyFields.put("model", modelId);
-        String hash = CacheKeyUtil.hashJson(objectMapper, keyFields);
-        if (hash == null) {
-            return null;
-        }
+        String hash = CacheKeyBuilder.create()
+            .field("q", query)
+            .field("top_k", context.getTopK())
+            .field("filters", context.getFilters())
+            .field("mode", mode)
+            .field("model", modelId)
+            .build();
         return "vec:" + hash;
     }
 
+    private static long weigh(String key, Entry entry) {
+        long dslWeight = entry.getQueryDsl() == null ? 0L : QUERY_DSL_WEIGHT_BYTES;
+        return CacheWeights.ENTRY_OVERHEAD_BYTES + CacheWeights.string(key) + CacheWeights.strings(entry.getDocIds()) + dslWeight;
+    }
+
     private boolean isEnabled(RetrievalStageContext context) {
         if (properties.getCache() == null || !properties.getCache().isEnabled()) {
             return false;
@@ -5,6 +5,7 @@ import com.bsl.search.embed.EmbeddingUnavailableException;
 import com.bsl.search.opensearch.OpenSearchGateway;
 import com.bsl.search.opensearch.OpenSearchQueryResult;
 import com.bsl.search.opensearch.OpenSearchRequestException;
+import com.bsl.search.opensearch.OpenSearchSearchRequest;
 import com.bsl.search.opensearch.OpenSearchUnavailableException;
 import java.util.List;
 import java.util.Map;
@@ -17,19 +18,22 @@ public class VectorRetriever implements Retriever {
     private final VectorSearchProperties properties;
     private final VectorResultCacheService cacheService;
     private final VectorDocPromoter docPromoter;
+    private final LocalVectorIndexService localIndex;
 
     public VectorRetriever(
         OpenSearchGateway openSearchGateway,
         EmbeddingProvider embeddingProvider,
         VectorSearchProperties properties,
         VectorResultCacheService cacheService,
-        VectorDocPromoter docPromoter
+        VectorDocPromoter docPromoter,
+        LocalVectorIndexService localIndex
     ) {
         this.openSearchGateway = openSearchGateway;
         this.embeddingProvider = embeddingProvider;
         this.properties = properties;
         this.cacheService = cacheService;
         this.docPromoter = docPromoter;
+        this.localIndex = localIndex;
     }
 
     @Override
@@ -43,26 +47,18 @@ public class VectorRetriever implements Retriever {
 
     @Override
     public RetrievalStageResult retrieve(RetrievalStageContext context) {
-        if (context == null || context.getQueryText() == null || context.getQueryText().isBlank()) {
-            return RetrievalStageResult.empty();
-        }
-        if (context.getTopK() <= 0) {
-            return RetrievalStageResult.empty();
-        }
-        if (properties.getMode() == VectorSearchMode.DISABLED) {
-            return RetrievalStageResult.skipped("vector_disabled");
+        RetrievalStageResult notRunnable = checkRunnable(context);
+        if (notRunnable != null) {
+            return notRunnable;
         }
 
         long started = System.nanoTime();
         try {
             String mode = mode();
             String modelId = properties.getModelId();
-            var cached = cacheService.get(context, mode, modelId);
-            if (cached.isPresent()) {
-                List<String> cachedDocIds = cached.get().getDocIds();
-                Map<String, Object> cachedDsl = context.isDebug() ? cached.get().getQueryDsl() : null;
-                long tookMs = (System.nanoTime() - started) / 1_000_000L;
-                return RetrievalStageResult.success(cachedDocIds, Map.of(), cachedDsl, tookMs);
+            RetrievalStageResult cached = cachedResult(context, mode, modelId, started);
+            if (cached != null) {
+                return cached;
             }
 
             OpenSearchQueryResult result;
@@ -79,13 +75,16 @@ public class VectorRetriever implements Retriever {
                     context.isExplain()
                 );
             } else {
-                List<Double> vector = embeddingProvider.embed(
+                float[] vector = embeddingProvider.embed(
                     context.getQueryText(),
                     context.getTimeBudgetMs(),
                     context.getTraceId(),
                     context.getRequestId()
                 );
-                if (properties.getMode() == VectorSearchMode.CHUNK) {
+                OpenSearchQueryResult local = localResult(vector, context);
+                if (local != null) {
+                    result = local;
+                } else if (properties.getMode() == VectorSearchMode.CHUNK) {
                     result = openSearchGateway.searchChunkVectorDetailed(
                         vector,
                         context.getTopK(),
@@ -104,12 +103,7 @@ public class VectorRetriever implements Retriever {
                 }
             }
 
-            List<String> docIds = result == null ? List.of() : docPromoter.promote(result.getDocIds());
-            Map<String, Double> scoresByDocId = result == null ? Map.of() : result.getScoresByDocId();
-            Map<String, Object> queryDsl = context.isDebug() ? (result == null ? null : result.getQueryDsl()) : null;
-            long tookMs = (System.nanoTime() - started) / 1_000_000L;
-            cacheService.put(context, mode, modelId, docIds, queryDsl);
-            return RetrievalStageResult.success(docIds, scoresByDocId, queryDsl, tookMs);
+            return finish(context, mode, modelId, result, started);
         } catch (EmbeddingUnavailableException e) {
             return RetrievalStageResult.skipped(e.getMessage());
         } catch (OpenSearchUnavailableException | OpenSearchRequestException e) {
@@ -118,4 +112,154 @@ public class VectorRetriever implements Retriever {
             return RetrievalStageResult.error(e.getMessage());
         }
     }
+
+    /**
+     * First half of a vector stage for callers that batch the OpenSearch query
+     * into an {@code _msearch}: checks, cache lookup and query embedding. The
+     * returned plan either already holds the stage result or the query to send.
+     */
+    public Prepared prepare(RetrievalStageContext context) {
+        RetrievalStageResult notRunnable = checkRunnable(context);
+        if (notRunnable != null) {
+            return Prepared.done(notRunnable);
+        }
+        long started = System.nanoTime();
+        try {
+            String mode = mode();
+            String modelId = properties.getModelId();
+            RetrievalStageResult cached = cachedResult(context, mode, modelId, started);
+            if (cached != null) {
+                return Prepared.done(cached);
+            }
+            OpenSearchSearchRequest request;
+            if (properties.getMode() == VectorSearchMode.OPENSEARCH_NEURAL) {
+                if (modelId == null || modelId.isBlank()) {
+                    return Prepared.done(RetrievalStageResult.error("vector_model_id_missing"));
+                }
+                request = openSearchGateway.buildVectorByTextRequest(
+                    context.getQueryText(),
+                    context.getTopK(),
+                    modelId,
+                    context.getFilters(),
+                    context.isExplain()
+                );
+            } else {
+                float[] vector = embeddingProvider.embed(
+                    context.getQueryText(),
+                    context.getTimeBudgetMs(),
+                    context.getTraceId(),
+                    context.getRequestId()
+                );
+                OpenSearchQueryResult local = localResult(vector, context);
+                if (local != null) {
+                    return Prepared.done(finish(context, mode, modelId, local, started));
+                }
+                request = properties.getMode() == VectorSearchMode.CHUNK
+                    ? openSearchGateway.buildChunkVectorRequest(vector, context.getTopK(), context.getFilters(), context.isExplain())
+                    : openSearchGateway.buildVectorRequest(vector, context.getTopK(), context.getFilters(), context.isExplain());
+            }
+            return new Prepared(null, request, mode, modelId, started);
+        } catch (EmbeddingUnavailableException e) {
+            return Prepared.done(RetrievalStageResult.skipped(e.getMessage()));
+        } catch (RuntimeException e) {
+            return Prepared.done(RetrievalStageResult.error(e.getMessage()));
+        }
+    }
+
+    /** Second half of {@link #prepare}: promotion and caching of the query result. */
+    public RetrievalStageResult complete(RetrievalStageContext context, Prepared prepared, OpenSearchQueryResult result) {
+        if (prepared.getResult() != null) {
+            return prepared.getResult();
+        }
+        try {
+            return finish(context, prepared.mode, prepared.modelId, result, prepared.started);
+        } catch (RuntimeException e) {
+            return RetrievalStageResult.error(e.getMessage());
+        }
+    }
+
+    /** LOCAL_HNSW answer, or null to fall back to the OpenSearch kNN query. */
+    private OpenSearchQueryResult localResult(float[] vector, RetrievalStageContext context) {
+        if (properties.getMode() != VectorSearchMode.LOCAL_HNSW) {
+            return null;
+        }
+        return localIndex.search(vector, context.getTopK(), context.getFilters());
+    }
+
+    private RetrievalStageResult checkRunnable(RetrievalStageContext context) {
+        if (context == null || context.getQueryText() == null || context.getQueryText().isBlank()) {
+            return RetrievalStageResult.empty();
+        }
+        if (context.getTopK() <= 0) {
+            return RetrievalStageResult.empty();
+        }
+        if (properties.getMode() == VectorSearchMode.DISABLED) {
+            return RetrievalStageResult.skipped("vector_disabled");
+        }
+        return null;
+    }
+
+    private RetrievalStageResult cachedResult(RetrievalStageContext context, String mode, String modelId, long started) {
+        var cached = cacheService.get(context, mode, modelId);
+        if (cached.isEmpty()) {
+            return null;
+        }
+        List<String> cachedDocIds = cached.get().getDocIds();
+        Map<String, Object> cachedDsl = context.isDebug() ? cached.get().getQueryDsl() : null;
+        long tookMs = (System.nanoTime() - started) / 1_000_000L;
+        return RetrievalStageResult.success(cachedDocIds, Map.of(), cachedDsl, tookMs);
+    }
+
+    private RetrievalStageResult finish(
+        RetrievalStageContext context,
+        String mode,
+        String modelId,
+        OpenSearchQueryResult result,
+        long started
+    ) {
+        List<String> docIds = result == null ? List.of() : docPromoter.promote(result.getDocIds());
+        Map<String, Double> scoresByDocId = result == null ? Map.of() : result.getScoresByDocId();
+        Map<String, Object> queryDsl = context.isDebug() ? (result == null ? null : result.getQueryDsl()) : null;
+        long tookMs = (System.nanoTime() - started) / 1_000_000L;
+        if (result != null && result.isPartial()) {
+            return RetrievalStageResult.partial(docIds, scoresByDocId, queryDsl, tookMs);
+        }
+        cacheService.put(context, mode, modelId, docIds, queryDsl);
+        return RetrievalStageResult.success(docIds, scoresByDocId, queryDsl, tookMs);
+    }
+
+    public static final class Prepared {
+        private final RetrievalStageResult result;
+        private final OpenSearchSearchRequest request;
+        private final String mode;
+        private final String modelId;
+        private final long started;
+
+        private Prepared(
+            RetrievalStageResult result,
+            OpenSearchSearchRequest request,
+            String mode,
+            String modelId,
+            long started
+        ) {
+            this.result = result;
+            this.request = request;
+            this.mode = mode;
+            this.modelId = modelId;
+            this.started = started;
+        }
+
+        public static Prepared done(RetrievalStageResult result) {
+            return new Prepared(result, null, null, null, 0L);
+        }
+
+        /** Finished stage result, or null when {@link #getRequest()} still has to run. */
+        public RetrievalStageResult getResult() {
+            return result;
+        }
+
+        public OpenSearchSearchRequest getRequest() {
+            return request;
+        }
+    }
 }
@@ -4,5 +4,6 @@ public enum VectorSearchMode {
     EMBEDDING,
     OPENSEARCH_NEURAL,
     CHUNK,
+    LOCAL_HNSW,
     DISABLED
 }
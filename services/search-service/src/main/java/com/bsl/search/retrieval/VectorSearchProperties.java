@@ -8,6 +8,7 @@ public class VectorSearchProperties {
     private String modelId;
     private Cache cache = new Cache();
     private Promotion promotion = new Promotion();
+    private LocalHnsw localHnsw = new LocalHnsw();
 
     public VectorSearchMode getMode() {
         return mode;
@@ -41,10 +42,18 @@ public class VectorSearchProperties {
         this.promotion = promotion;
     }
 
+    public LocalHnsw getLocalHnsw() {
+        return localHnsw;
+    }
+
+    public void setLocalHnsw(LocalHnsw localHnsw) {
+        this.localHnsw = localHnsw;
+    }
+
     public static class Cache {
         private boolean enabled = false;
         private long ttlMs = 20000;
-        private int maxEntries = 2000;
+        private long maxWeightBytes = 8L * 1024 * 1024;
         private int maxTextLength = 200;
         private boolean normalize = true;
         private boolean cacheDebug = false;
@@ -65,12 +74,12 @@ public class VectorSearchProperties {
             this.ttlMs = ttlMs;
         }
 
-        public int getMaxEntries() {
-            return maxEntries;
+        public long getMaxWeightBytes() {
+            return maxWeightBytes;
         }
 
-        public void setMaxEntries(int maxEntries) {
-            this.maxEntries = maxEntries;
+        public void setMaxWeightBytes(long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
         }
 
         public int getMaxTextLength() {
@@ -118,4 +127,79 @@ public class VectorSearchProperties {
             this.separators = separators;
         }
     }
+
+    public static class LocalHnsw {
+        private int m = 16;
+        private int efConstruction = 128;
+        private int efSearch = 64;
+        private int exactMaxDocs = 2000;
+        private long refreshIntervalMs = 600000L;
+        private int pageSize = 1000;
+        private int pageTimeoutMs = 5000;
+        private int maxDocs = 1000000;
+
+        public int getM() {
+            return m;
+        }
+
+        public void setM(int m) {
+            this.m = m;
+        }
+
+        public int getEfConstruction() {
+            return efConstruction;
+        }
+
+        public void setEfConstruction(int efConstruction) {
+            this.efConstruction = efConstruction;
+        }
+
+        public int getEfSearch() {
+            return efSearch;
+        }
+
+        public void setEfSearch(int efSearch) {
+            this.efSearch = efSearch;
+        }
+
+        public int getExactMaxDocs() {
+            return exactMaxDocs;
+        }
+
+        public void setExactMaxDocs(int exactMaxDocs) {
+            this.exactMaxDocs = exactMaxDocs;
+        }
+
+        public long getRefreshIntervalMs() {
+            return refreshIntervalMs;
+        }
+
+        public void setRefreshIntervalMs(long refreshIntervalMs) {
+            this.refreshIntervalMs = refreshIntervalMs;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getPageTimeoutMs() {
+            return pageTimeoutMs;
+        }
+
+        public void setPageTimeoutMs(int pageTimeoutMs) {
+            this.pageTimeoutMs = pageTimeoutMs;
+        }
+
+        public int getMaxDocs() {
+            return maxDocs;
+        }
+
+        public void setMaxDocs(int maxDocs) {
+            this.maxDocs = maxDocs;
+        }
+    }
 }
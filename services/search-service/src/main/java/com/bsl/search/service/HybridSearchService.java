@@ -8,11 +8,25 @@ import com.bsl.search.api.dto.QueryContextV1_1;
 import com.bsl.search.api.dto.SearchRequest;
 import com.bsl.search.api.dto.SearchResponse;
 import com.bsl.search.cache.BookDetailCacheService;
+import com.bsl.search.cache.CacheKeyBuilder;
+import com.bsl.search.cache.CandidateCacheService;
+import com.bsl.search.cache.DocSourceCacheService;
+import com.bsl.search.cache.NegativeResultCacheService;
 import com.bsl.search.cache.SerpCacheService;
+import com.bsl.search.cover.CoverImageService;
+import com.bsl.search.execution.AdmissionController;
+import com.bsl.search.execution.Bulkhead;
+import com.bsl.search.execution.CallCancellation;
+import com.bsl.search.execution.SearchBulkheads;
+import com.bsl.search.execution.SearchOverloadedException;
 import com.bsl.search.experiment.SearchExperimentProperties;
+import com.bsl.search.merge.FusedCandidates;
+import com.bsl.search.merge.FusionEngine;
 import com.bsl.search.merge.RrfFusion;
-import com.bsl.search.merge.WeightedFusion;
+import com.bsl.search.opensearch.OpenSearchConcurrencyLimitedException;
 import com.bsl.search.opensearch.OpenSearchGateway;
+import com.bsl.search.opensearch.SourceProjection;
+import com.bsl.search.query.QueryEnhanceCacheService;
 import com.bsl.search.query.QueryServiceGateway;
 import com.bsl.search.query.QueryServiceProperties;
 import com.bsl.search.query.QueryServiceUnavailableException;
@@ -21,6 +35,7 @@ import com.bsl.search.query.dto.QueryEnhanceResponse;
 import com.bsl.search.retrieval.FusionMethod;
 import com.bsl.search.retrieval.FusionPolicyProperties;
 import com.bsl.search.retrieval.LexicalRetriever;
+import com.bsl.search.retrieval.MultiSearchRetriever;
 import com.bsl.search.retrieval.RetrievalStageContext;
 import com.bsl.search.retrieval.RetrievalStageResult;
 import com.bsl.search.retrieval.VectorRetriever;
@@ -34,8 +49,6 @@ import com.bsl.search.ranking.dto.RerankResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,11 +58,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,16 +97,36 @@ public class HybridSearchService {
     private static final int QC_RERANK_TOP_K_MAX = 200;
     private static final int QC_TIMEOUT_MIN_MS = 50;
     private static final int QC_TIMEOUT_MAX_MS = 500;
+    private static final Set<String> DETERMINISTIC_RERANK_SKIPS = Set.of(
+        "rerank_disabled",
+        "rerank_no_candidates",
+        "rerank_topk_zero",
+        "rerank_policy_disabled",
+        "rerank_skipped_isbn",
+        "rerank_skipped_short_query",
+        "rerank_skipped_min_candidates"
+    );
+    private static final Set<String> TRANSIENT_ENHANCE_SKIPS = Set.of(
+        "OPENSEARCH_LIMITED",
+        "BUDGET_EXHAUSTED",
+        "ENHANCE_REJECTED",
+        "QS_TIMEOUT_OR_ERROR"
+    );
 
     private final OpenSearchGateway openSearchGateway;
     private final LexicalRetriever lexicalRetriever;
     private final VectorRetriever vectorRetriever;
+    private final MultiSearchRetriever multiSearchRetriever;
     private final FusionPolicyProperties fusionPolicy;
     private final RankingGateway rankingGateway;
     private final SearchResilienceRegistry resilienceRegistry;
     private final SerpCacheService serpCacheService;
     private final BookDetailCacheService bookDetailCacheService;
-    private final ExecutorService searchExecutor;
+    private final DocSourceCacheService docSourceCacheService;
+    private final CandidateCacheService candidateCacheService;
+    private final NegativeResultCacheService negativeResultCacheService;
+    private final SearchBulkheads bulkheads;
+    private final AdmissionController admissionController;
     private final SearchExperimentProperties experimentProperties;
     private final MaterialGroupingService groupingService;
     private final RerankPolicyProperties rerankPolicy;
@@ -98,6 +134,8 @@ public class HybridSearchService {
     private final SearchQualityEvaluator qualityEvaluator;
     private final QueryServiceGateway queryServiceGateway;
     private final QueryServiceProperties queryServiceProperties;
+    private final QueryEnhanceCacheService enhanceCacheService;
+    private final CoverImageService coverImageService;
     private final MeterRegistry meterRegistry;
     private static final Pattern ISBN_PATTERN = Pattern.compile("^(97(8|9))?\\d{9}[\\dXx]$");
 
@@ -105,12 +143,17 @@ public class HybridSearchService {
         OpenSearchGateway openSearchGateway,
         LexicalRetriever lexicalRetriever,
         VectorRetriever vectorRetriever,
+        MultiSearchRetriever multiSearchRetriever,
         FusionPolicyProperties fusionPolicy,
         RankingGateway rankingGateway,
         SearchResilienceRegistry resilienceRegistry,
         SerpCacheService serpCacheService,
         BookDetailCacheService bookDetailCacheService,
-        ExecutorService searchExecutor,
+        DocSourceCacheService docSourceCacheService,
+        CandidateCacheService candidateCacheService,
+        NegativeResultCacheService negativeResultCacheService,
+        SearchBulkheads bulkheads,
+        AdmissionController admissionController,
         SearchExperimentProperties experimentProperties,
         MaterialGroupingService groupingService,
         RerankPolicyProperties rerankPolicy,
@@ -118,17 +161,24 @@ public class HybridSearchService {
         SearchQualityEvaluator qualityEvaluator,
         QueryServiceGateway queryServiceGateway,
         QueryServiceProperties queryServiceProperties,
+        QueryEnhanceCacheService enhanceCacheService,
+        CoverImageService coverImageService,
         MeterRegistry meterRegistry
     ) {
         this.openSearchGateway = openSearchGateway;
         this.lexicalRetriever = lexicalRetriever;
         this.vectorRetriever = vectorRetriever;
+        this.multiSearchRetriever = multiSearchRetriever;
         this.fusionPolicy = fusionPolicy;
         this.rankingGateway = rankingGateway;
         this.resilienceRegistry = resilienceRegistry;
         this.serpCacheService = serpCacheService;
         this.bookDetailCacheService = bookDetailCacheService;
-        this.searchExecutor = searchExecutor;
+        this.docSourceCacheService = docSourceCacheService;
+        this.candidateCacheService = candidateCacheService;
+        this.negativeResultCacheService = negativeResultCacheService;
+        this.bulkheads = bulkheads;
+        this.admissionController = admissionController;
         this.experimentProperties = experimentProperties;
         this.groupingService = groupingService;
         this.rerankPolicy = rerankPolicy;
@@ -136,6 +186,8 @@ public class HybridSearchService {
         this.qualityEvaluator = qualityEvaluator;
         this.queryServiceGateway = queryServiceGateway;
         this.queryServiceProperties = queryServiceProperties;
+        this.enhanceCacheService = enhanceCacheService;
+        this.coverImageService = coverImageService;
         this.meterRegistry = meterRegistry;
     }
 
@@ -174,7 +226,7 @@ public class HybridSearchService {
             }
         }
 
-        JsonNode source = openSearchGateway.getSourceById(docId);
+        JsonNode source = openSearchGateway.getSourceById(docId, null, SourceProjection.DETAIL);
         if (source == null || source.isMissingNode()) {
             return null;
         }
@@ -225,12 +277,87 @@ public class HybridSearchService {
         assignExperimentBucket(plan, requestId);
 
         String cacheKey = buildSerpCacheKey(plan, from, size);
-        Optional<SearchResponse> cachedResponse = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan);
+        Optional<SearchResponse> cachedResponse = maybeServeSerpCache(
+            cacheKey,
+            traceId,
+            requestId,
+            started,
+            plan,
+            staleRefresh(
+                plan,
+                (refreshPlan, refreshStarted, refreshTraceId, refreshRequestId) -> executeLegacy(
+                    refreshPlan,
+                    from,
+                    size,
+                    cacheKey,
+                    refreshStarted,
+                    refreshTraceId,
+                    refreshRequestId,
+                    null
+                )
+            )
+        );
         if (cachedResponse.isPresent()) {
             return cachedResponse.get();
         }
+        Optional<SearchResponse> negative = maybeServeNegativeResult(plan, started, traceId, requestId);
+        if (negative.isPresent()) {
+            return negative.get();
+        }
+
+        String coalescingKey = coalescingKey(plan, cacheKey);
+        Supplier<SearchResponse> execution = () -> executeAdmitted(
+            plan,
+            cacheKey,
+            started,
+            traceId,
+            requestId,
+            () -> executeLegacy(plan, from, size, cacheKey, started, traceId, requestId, traceparent)
+        );
+        if (coalescingKey == null) {
+            return execution.get();
+        }
+        return serpCacheService.computeCoalesced(
+            coalescingKey,
+            execution,
+            shared -> copyCoalescedResponse(shared, traceId, requestId, started)
+        );
+    }
+
+    private SearchResponse executeLegacy(
+        ExecutionPlan plan,
+        int from,
+        int size,
+        String cacheKey,
+        long started,
+        String traceId,
+        String requestId,
+        String traceparent
+    ) {
+        String candidateKey = buildCandidateCacheKey(plan);
+        String negativeKey = buildNegativeCacheKey(plan);
+        Optional<SearchResponse> page = maybeServeCandidatePage(
+            plan,
+            candidateKey,
+            from,
+            size,
+            cacheKey,
+            started,
+            traceId,
+            requestId,
+            traceparent
+        );
+        if (page.isPresent()) {
+            return page.get();
+        }
 
         RetrievalResult retrieval = retrieveCandidates(plan, traceId, requestId);
+        if (isConcurrencyLimited(retrieval.lexical)) {
+            Optional<SearchResponse> degraded = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, true, null);
+            if (degraded.isPresent()) {
+                return degraded.get();
+            }
+        }
         RerankOutcome rerankOutcome = applyRerank(
             plan,
             retrieval,
@@ -240,6 +367,7 @@ public class HybridSearchService {
             requestId,
             traceparent
         );
+        maybeStoreCandidates(candidateKey, plan, retrieval, rerankOutcome, null, resolveLegacyStrategy(plan));
 
         SearchResponse.Debug debug = buildDebug(
             plan,
@@ -264,15 +392,16 @@ public class HybridSearchService {
         );
         response.setExperimentBucket(plan.experimentBucket);
 
-        if (shouldStoreSerpCache(plan, response, cacheKey)) {
-            serpCacheService.put(cacheKey, stripDebug(response));
+        if (!retrieval.isPartial() && shouldStoreSerpCache(plan, response, cacheKey)) {
+            serpCacheService.put(cacheKey, response);
         }
 
         if (response.getHits() == null || response.getHits().isEmpty()) {
-            Optional<SearchResponse> degraded = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, true);
+            Optional<SearchResponse> degraded = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, true, null);
             if (degraded.isPresent()) {
                 return degraded.get();
             }
+            maybeStoreNegativeResult(negativeKey, plan, retrieval, EnhanceOutcome.notAttempted(), false, response.getStrategy());
         }
         return response;
     }
@@ -303,25 +432,161 @@ public class HybridSearchService {
         }
         assignExperimentBucket(plan, requestId);
 
-        String appliedFallbackId = null;
         String cacheKey = buildSerpCacheKey(plan, from, size);
-        Optional<SearchResponse> cachedResponse = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan);
+        Optional<SearchResponse> cachedResponse = maybeServeSerpCache(
+            cacheKey,
+            traceId,
+            requestId,
+            started,
+            plan,
+            staleRefresh(
+                plan,
+                (refreshPlan, refreshStarted, refreshTraceId, refreshRequestId) -> executeQcV11(
+                    qc,
+                    refreshPlan,
+                    from,
+                    size,
+                    cacheKey,
+                    refreshStarted,
+                    refreshTraceId,
+                    refreshRequestId,
+                    null
+                )
+            )
+        );
         if (cachedResponse.isPresent()) {
             return cachedResponse.get();
         }
+        Optional<SearchResponse> negative = maybeServeNegativeResult(plan, started, traceId, requestId);
+        if (negative.isPresent()) {
+            return negative.get();
+        }
+
+        String coalescingKey = coalescingKey(plan, cacheKey);
+        Supplier<SearchResponse> execution = () -> executeAdmitted(
+            plan,
+            cacheKey,
+            started,
+            traceId,
+            requestId,
+            () -> executeQcV11(qc, plan, from, size, cacheKey, started, traceId, requestId, traceparent)
+        );
+        if (coalescingKey == null) {
+            return execution.get();
+        }
+        return serpCacheService.computeCoalesced(
+            coalescingKey,
+            execution,
+            shared -> copyCoalescedResponse(shared, traceId, requestId, started)
+        );
+    }
+
+    /**
+     * Runs a search under admission control. A shed search is answered from
+     * the SERP cache when any entry exists, otherwise it fails fast with
+     * {@link SearchOverloadedException}; a lexical-only search drops vector
+     * retrieval and rerank and is not cached.
+     */
+    private SearchResponse executeAdmitted(
+        ExecutionPlan plan,
+        String cacheKey,
+        long started,
+        String traceId,
+        String requestId,
+        Supplier<SearchResponse> execution
+    ) {
+        try (AdmissionController.Permit permit = admissionController.admit()) {
+            if (permit.getDecision() == AdmissionController.Decision.SHED) {
+                return maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, true, null)
+                    .orElseThrow(() -> new SearchOverloadedException("search capacity exhausted"));
+            }
+            applyAdmission(permit, plan);
+            return execution.get();
+        }
+    }
+
+    /**
+     * Background rebuild of a stale SERP entry. It outlives the request that
+     * found the entry, so it runs under fresh ids without a traceparent, and it
+     * is admitted like any search: dropped when shed, lexical-only (and so not
+     * stored) when degraded.
+     */
+    private Runnable staleRefresh(ExecutionPlan plan, RefreshExecution execution) {
+        return () -> {
+            ExecutionPlan refreshPlan = new ExecutionPlan(plan);
+            try (AdmissionController.Permit permit = admissionController.admit()) {
+                if (permit.getDecision() == AdmissionController.Decision.SHED) {
+                    return;
+                }
+                applyAdmission(permit, refreshPlan);
+                execution.run(
+                    refreshPlan,
+                    System.nanoTime(),
+                    UUID.randomUUID().toString(),
+                    UUID.randomUUID().toString()
+                );
+            }
+        };
+    }
+
+    private static void applyAdmission(AdmissionController.Permit permit, ExecutionPlan plan) {
+        if (permit.getDecision() == AdmissionController.Decision.LEXICAL_ONLY && plan.lexicalEnabled) {
+            plan.loadShed = true;
+            plan.vectorEnabled = false;
+            plan.rerankEnabled = false;
+        }
+    }
+
+    private SearchResponse executeQcV11(
+        QueryContextV1_1 qc,
+        ExecutionPlan plan,
+        int from,
+        int size,
+        String cacheKey,
+        long started,
+        String traceId,
+        String requestId,
+        String traceparent
+    ) {
+        String candidateKey = buildCandidateCacheKey(plan);
+        String negativeKey = buildNegativeCacheKey(plan);
+        Optional<SearchResponse> page = maybeServeCandidatePage(
+            plan,
+            candidateKey,
+            from,
+            size,
+            cacheKey,
+            started,
+            traceId,
+            requestId,
+            traceparent
+        );
+        if (page.isPresent()) {
+            return page.get();
+        }
 
+        String appliedFallbackId = null;
+        boolean degradedFallback = false;
         RetrievalResult retrieval = retrieveCandidates(plan, traceId, requestId);
+        boolean lexicalLimited = isConcurrencyLimited(retrieval.lexical);
+        if (lexicalLimited) {
+            Optional<SearchResponse> degraded = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, true, null);
+            if (degraded.isPresent()) {
+                return degraded.get();
+            }
+        }
 
         if (retrieval.vector.isError() || retrieval.vector.isTimedOut()) {
             FallbackApplication fallback = applyFallback(plan, Trigger.VECTOR_ERROR);
             if (fallback.applied) {
                 appliedFallbackId = fallback.id;
+                degradedFallback = true;
                 plan = fallback.plan;
                 retrieval = retrieveCandidates(plan, traceId, requestId);
             }
         }
 
-        if (retrieval.fused.isEmpty() && appliedFallbackId == null) {
+        if (retrieval.fused.isEmpty() && appliedFallbackId == null && !lexicalLimited) {
             FallbackApplication fallback = applyFallback(plan, Trigger.ZERO_RESULTS);
             if (fallback.applied) {
                 appliedFallbackId = fallback.id;
@@ -357,6 +622,7 @@ public class HybridSearchService {
             FallbackApplication fallback = applyFallback(plan, Trigger.RERANK_ERROR);
             if (fallback.applied) {
                 appliedFallbackId = fallback.id;
+                degradedFallback = true;
                 plan = fallback.plan;
                 retrieval = retrieveCandidates(plan, traceId, requestId);
                 rerankOutcome = applyRerank(
@@ -372,6 +638,7 @@ public class HybridSearchService {
         }
 
         String strategy = resolveQcStrategy(plan, appliedFallbackId);
+        maybeStoreCandidates(candidateKey, plan, retrieval, rerankOutcome, appliedFallbackId, strategy);
         SearchResponse.Debug debug = buildDebug(
             plan,
             retrieval,
@@ -396,38 +663,20 @@ public class HybridSearchService {
         );
         response.setExperimentBucket(plan.experimentBucket);
 
-        if (shouldStoreSerpCache(plan, response, cacheKey)) {
-            serpCacheService.put(cacheKey, stripDebug(response));
+        if (!retrieval.isPartial() && shouldStoreSerpCache(plan, response, cacheKey)) {
+            serpCacheService.put(cacheKey, response);
         }
 
         if (response.getHits() == null || response.getHits().isEmpty()) {
-            Optional<SearchResponse> degraded = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, true);
+            Optional<SearchResponse> degraded = maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, true, null);
             if (degraded.isPresent()) {
                 return degraded.get();
             }
+            maybeStoreNegativeResult(negativeKey, plan, retrieval, enhanceOutcome, degradedFallback, strategy);
         }
         return response;
     }
 
-    private Map<String, Integer> rankMap(List<String> docIds) {
-        Map<String, Integer> ranks = new HashMap<>();
-        for (int i = 0; i < docIds.size(); i++) {
-            String docId = docIds.get(i);
-            if (!ranks.containsKey(docId)) {
-                ranks.put(docId, i + 1);
-            }
-        }
-        return ranks;
-    }
-
-    private List<String> toDocIds(List<RrfFusion.Candidate> candidates) {
-        List<String> docIds = new ArrayList<>(candidates.size());
-        for (RrfFusion.Candidate candidate : candidates) {
-            docIds.add(candidate.getDocId());
-        }
-        return docIds;
-    }
-
     private Map<String, RrfFusion.Candidate> toCandidateMap(List<RrfFusion.Candidate> candidates) {
         Map<String, RrfFusion.Candidate> byId = new HashMap<>();
         for (RrfFusion.Candidate candidate : candidates) {
@@ -580,52 +829,77 @@ public class HybridSearchService {
             requestId
         );
 
-        CompletableFuture<RetrievalStageResult> lexicalFuture = plan.lexicalEnabled
-            ? CompletableFuture.supplyAsync(() -> lexicalRetriever.retrieve(lexicalContext), searchExecutor)
-            : CompletableFuture.completedFuture(RetrievalStageResult.empty());
-
-        CompletableFuture<RetrievalStageResult> vectorFuture;
+        Integer lexicalBudgetMs = plan.lexicalBudgetMs != null ? plan.lexicalBudgetMs : plan.timeBudgetMs;
+        Integer vectorBudgetMs = plan.vectorBudgetMs != null ? plan.vectorBudgetMs : plan.timeBudgetMs;
         CircuitBreaker vectorBreaker = resilienceRegistry.getVectorBreaker();
+        RetrievalStageResult vectorSkipped = null;
         if (!plan.vectorEnabled) {
-            vectorFuture = CompletableFuture.completedFuture(RetrievalStageResult.skipped("vector_disabled"));
+            vectorSkipped = RetrievalStageResult.skipped(plan.loadShed ? "vector_load_shed" : "vector_disabled");
         } else if (!vectorBreaker.allowRequest()) {
-            vectorFuture = CompletableFuture.completedFuture(RetrievalStageResult.skipped("vector_circuit_open"));
+            vectorSkipped = RetrievalStageResult.skipped("vector_circuit_open");
+        }
+
+        if (plan.lexicalEnabled && multiSearchRetriever.isEnabled()) {
+            Integer multiSearchBudgetMs = maxBudget(lexicalBudgetMs, vectorBudgetMs);
+            RetrievalStageContext multiSearchVectorContext = vectorSkipped == null ? vectorContext : null;
+            // A full bulkhead says nothing about vector health, so it is skipped rather than failed against the breaker.
+            CompletableFuture<MultiSearchRetriever.Results> multiSearchFuture = submit(
+                bulkheads.getRetrieval(),
+                "msearch",
+                () -> multiSearchRetriever.retrieve(lexicalContext, multiSearchVectorContext, multiSearchBudgetMs),
+                MultiSearchRetriever.Results.of(
+                    RetrievalStageResult.error("retrieval_rejected"),
+                    RetrievalStageResult.skipped("vector_rejected")
+                )
+            );
+            MultiSearchRetriever.Results results = awaitMultiSearch(multiSearchFuture, multiSearchBudgetMs);
+            lexicalResult = results.getLexical();
+            vectorResult = vectorSkipped != null ? vectorSkipped : results.getVector();
         } else {
-            vectorFuture = CompletableFuture.supplyAsync(() -> vectorRetriever.retrieve(vectorContext), searchExecutor);
+            CompletableFuture<RetrievalStageResult> lexicalFuture = plan.lexicalEnabled
+                ? submit(
+                    bulkheads.getRetrieval(),
+                    "lexical",
+                    () -> lexicalRetriever.retrieve(lexicalContext),
+                    RetrievalStageResult.error("retrieval_rejected")
+                )
+                : CompletableFuture.completedFuture(RetrievalStageResult.empty());
+            CompletableFuture<RetrievalStageResult> vectorFuture = vectorSkipped != null
+                ? CompletableFuture.completedFuture(vectorSkipped)
+                : submit(
+                    bulkheads.getRetrieval(),
+                    "vector",
+                    () -> vectorRetriever.retrieve(vectorContext),
+                    RetrievalStageResult.skipped("vector_rejected")
+                );
+
+            lexicalResult = awaitStage(lexicalFuture, lexicalBudgetMs);
+            vectorResult = awaitStage(vectorFuture, vectorBudgetMs);
         }
 
-        lexicalResult = awaitStage(lexicalFuture, plan.lexicalBudgetMs != null ? plan.lexicalBudgetMs : plan.timeBudgetMs);
-        vectorResult = awaitStage(vectorFuture, plan.vectorBudgetMs != null ? plan.vectorBudgetMs : plan.timeBudgetMs);
+        if (isConcurrencyLimited(vectorResult)) {
+            vectorResult = RetrievalStageResult.skipped("vector_concurrency_limited");
+        }
+        if (isConcurrencyLimited(lexicalResult)) {
+            // OpenSearch is over its adaptive limit: keep this partial answer out of the SERP cache.
+            plan.loadShed = true;
+        }
 
         if (plan.vectorEnabled && !vectorResult.isSkipped()) {
             if (vectorResult.isError() || vectorResult.isTimedOut()) {
                 vectorBreaker.recordFailure();
             } else {
-                vectorBreaker.recordSuccess();
+                vectorBreaker.recordSuccess(vectorResult.getTookMs());
             }
         }
 
-        Map<String, Integer> lexRanks = rankMap(lexicalResult.getDocIds());
-        Map<String, Integer> vecRanks = rankMap(vectorResult.getDocIds());
-        Map<String, Double> lexScores = lexicalResult.getScoresByDocId();
-        Map<String, Double> vecScores = vectorResult.getScoresByDocId();
-
         long fusionStarted = System.nanoTime();
         FusionMethod fusionMethod = resolveFusionMethod(plan, requestId);
-        List<RrfFusion.Candidate> fused = fuseCandidates(lexRanks, vecRanks, lexScores, vecScores, plan, fusionMethod);
+        FusedCandidates fusedCandidates = fuseCandidates(lexicalResult, vectorResult, plan, fusionMethod);
+        List<RrfFusion.Candidate> fused = fusedCandidates;
         long fusionTookMs = (System.nanoTime() - fusionStarted) / 1_000_000L;
 
-        List<String> fusedDocIds = toDocIds(fused);
-        Map<String, JsonNode> sources;
-        if (fusedDocIds.isEmpty()) {
-            sources = Collections.emptyMap();
-        } else {
-            try {
-                sources = openSearchGateway.mgetSources(fusedDocIds, plan.timeBudgetMs);
-            } catch (RuntimeException e) {
-                sources = Collections.emptyMap();
-            }
-        }
+        Map<String, JsonNode> sources = fetchCandidateSources(fusedCandidates.docIds(), plan);
         if (shouldPrioritizeKoreanTitles(plan)) {
             fused = prioritizeKoreanTitles(fused, sources);
         }
@@ -633,6 +907,27 @@ public class HybridSearchService {
         return new RetrievalResult(fused, sources, lexicalResult, vectorResult, fusionTookMs);
     }
 
+    private Map<String, JsonNode> fetchCandidateSources(List<String> docIds, ExecutionPlan plan) {
+        if (docIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return docSourceCacheService.getSources(
+                docIds,
+                SourceProjection.CANDIDATE,
+                missing -> openSearchGateway.mgetSources(missing, plan.timeBudgetMs, SourceProjection.CANDIDATE)
+            );
+        } catch (RuntimeException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static boolean isConcurrencyLimited(RetrievalStageResult result) {
+        return result != null
+            && result.isError()
+            && OpenSearchConcurrencyLimitedException.REASON.equals(result.getErrorMessage());
+    }
+
     private boolean shouldPrioritizeKoreanTitles(ExecutionPlan plan) {
         if (plan == null) {
             return false;
@@ -764,6 +1059,9 @@ public class HybridSearchService {
         if (plan.lexicalQueryOverride != null && !plan.lexicalQueryOverride.isEmpty()) {
             return EnhanceOutcome.skipped(quality.getReason(), "EXPLICIT_FIELD_ROUTING");
         }
+        if (retrieval != null && isConcurrencyLimited(retrieval.lexical)) {
+            return EnhanceOutcome.skipped(quality.getReason(), "OPENSEARCH_LIMITED");
+        }
 
         String qNorm = resolveQNorm(qc, plan.queryText);
         if (isBlank(qNorm)) {
@@ -792,29 +1090,36 @@ public class HybridSearchService {
         );
         int timeoutMs = Math.min(remainingBudgetMs, queryServiceProperties.getTimeoutMs());
         EnhanceOutcome outcome = EnhanceOutcome.attempted(quality.getReason());
-        long callStarted = System.nanoTime();
-        QueryEnhanceResponse response;
-        try {
-            response = queryServiceGateway.enhance(
-                enhanceRequest,
-                timeoutMs,
-                traceId,
-                requestId,
-                traceparent
-            );
-        } catch (QueryServiceUnavailableException ex) {
-            outcome.skipReason = "QS_TIMEOUT_OR_ERROR";
+        QueryEnhanceResponse response = enhanceCacheService.get(enhanceRequest).orElse(null);
+        if (response == null) {
+            long callStarted = System.nanoTime();
+            try {
+                response = awaitEnhance(
+                    supplyCancellable(
+                        bulkheads.getEnhance(),
+                        "enhance",
+                        () -> queryServiceGateway.enhance(enhanceRequest, timeoutMs, traceId, requestId, traceparent)
+                    ),
+                    timeoutMs
+                );
+            } catch (RejectedExecutionException ex) {
+                outcome.skipReason = "ENHANCE_REJECTED";
+                return outcome;
+            } catch (QueryServiceUnavailableException ex) {
+                outcome.skipReason = "QS_TIMEOUT_OR_ERROR";
+                recordEnhanceLatency(callStarted);
+                log.info(
+                    "sr_enhance trace_id={} request_id={} reason={} strategy=NONE final_source=NONE improved=false skip_reason={}",
+                    traceId,
+                    requestId,
+                    quality.getReason(),
+                    outcome.skipReason
+                );
+                return outcome;
+            }
             recordEnhanceLatency(callStarted);
-            log.info(
-                "sr_enhance trace_id={} request_id={} reason={} strategy=NONE final_source=NONE improved=false skip_reason={}",
-                traceId,
-                requestId,
-                quality.getReason(),
-                outcome.skipReason
-            );
-            return outcome;
+            enhanceCacheService.put(enhanceRequest, response);
         }
-        recordEnhanceLatency(callStarted);
 
         if (response == null) {
             outcome.skipReason = "EMPTY_ENHANCE_RESPONSE";
@@ -985,21 +1290,30 @@ public class HybridSearchService {
         return afterTop > beforeTop;
     }
 
-    private List<RrfFusion.Candidate> fuseCandidates(
-        Map<String, Integer> lexRanks,
-        Map<String, Integer> vecRanks,
-        Map<String, Double> lexScores,
-        Map<String, Double> vecScores,
+    private FusedCandidates fuseCandidates(
+        RetrievalStageResult lexicalResult,
+        RetrievalStageResult vectorResult,
         ExecutionPlan plan,
         FusionMethod method
     ) {
         int k = plan.rrfK;
+        double lexWeight = 1.0;
+        double vecWeight = 1.0;
         if (method == FusionMethod.WEIGHTED) {
-            double lexWeight = fusionPolicy == null ? 1.0 : fusionPolicy.getLexWeight();
-            double vecWeight = fusionPolicy == null ? 1.0 : fusionPolicy.getVecWeight();
-            return WeightedFusion.fuse(lexRanks, vecRanks, k, lexWeight, vecWeight, lexScores, vecScores);
-        }
-        return RrfFusion.fuse(lexRanks, vecRanks, k, lexScores, vecScores);
+            lexWeight = fusionPolicy == null ? 1.0 : fusionPolicy.getLexWeight();
+            vecWeight = fusionPolicy == null ? 1.0 : fusionPolicy.getVecWeight();
+        }
+        // Pages and the rerank window read the first rerankTopK positions; deeper reads sort lazily.
+        return FusionEngine.fuse(
+            lexicalResult.getDocIds(),
+            vectorResult.getDocIds(),
+            k,
+            lexWeight,
+            vecWeight,
+            lexicalResult.getScoresByDocId(),
+            vectorResult.getScoresByDocId(),
+            plan.rerankTopK
+        );
     }
 
     private FusionMethod resolveFusionMethod(ExecutionPlan plan, String requestId) {
@@ -1030,12 +1344,12 @@ public class HybridSearchService {
         return resolved;
     }
 
-    private String shouldSkipRerank(ExecutionPlan plan, RetrievalResult retrieval) {
+    private String shouldSkipRerank(ExecutionPlan plan, RetrievalResult retrieval, boolean windowExtension) {
         if (plan == null) {
             return "rerank_plan_missing";
         }
         if (!plan.rerankEnabled) {
-            return "rerank_disabled";
+            return plan.loadShed ? "rerank_load_shed" : "rerank_disabled";
         }
         if (retrieval == null || retrieval.fused.isEmpty()) {
             return "rerank_no_candidates";
@@ -1051,11 +1365,12 @@ public class HybridSearchService {
                 return "rerank_skipped_isbn";
             }
             int minQueryLength = rerankPolicy.getMinQueryLength();
-            if (minQueryLength > 0 && (plan.queryText == null || plan.queryText.trim().length() < minQueryLength)) {
+            // An extension window continues a ranking the first page already passed these checks for.
+            if (!windowExtension && minQueryLength > 0 && (plan.queryText == null || plan.queryText.trim().length() < minQueryLength)) {
                 return "rerank_skipped_short_query";
             }
             int minCandidates = rerankPolicy.getMinCandidates();
-            if (minCandidates > 0 && retrieval.fused.size() < minCandidates) {
+            if (!windowExtension && minCandidates > 0 && retrieval.fused.size() < minCandidates) {
                 return "rerank_skipped_min_candidates";
             }
         }
@@ -1074,7 +1389,20 @@ public class HybridSearchService {
         String requestId,
         String traceparent
     ) {
-        String skipReason = shouldSkipRerank(plan, retrieval);
+        return applyRerank(plan, retrieval, from, size, traceId, requestId, traceparent, false);
+    }
+
+    private RerankOutcome applyRerank(
+        ExecutionPlan plan,
+        RetrievalResult retrieval,
+        int from,
+        int size,
+        String traceId,
+        String requestId,
+        String traceparent,
+        boolean windowExtension
+    ) {
+        String skipReason = shouldSkipRerank(plan, retrieval, windowExtension);
         if (skipReason != null) {
             return new RerankOutcome(
                 buildHitsFromFused(retrieval.fused, from, size, retrieval.sources),
@@ -1103,24 +1431,38 @@ public class HybridSearchService {
         int limit = Math.min(plan.rerankTopK, retrieval.fused.size());
         List<RrfFusion.Candidate> rerankSlice = retrieval.fused.subList(0, limit);
         List<RerankRequest.Candidate> rerankCandidates = buildRerankCandidates(rerankSlice, retrieval.sources);
-        Map<String, RrfFusion.Candidate> fusedById = toCandidateMap(retrieval.fused);
+        Map<String, RrfFusion.Candidate> fusedById = toCandidateMap(rerankSlice);
 
         int timeoutMs = resolveRerankTimeoutMs(plan);
         boolean rerankDebug = plan.debugEnabled || plan.explainEnabled;
 
-        CompletableFuture<RerankResponse> future = CompletableFuture.supplyAsync(
-            () -> rankingGateway.rerank(
-                plan.queryText,
-                rerankCandidates,
-                limit,
-                timeoutMs,
-                rerankDebug,
-                traceId,
-                requestId,
-                traceparent
-            ),
-            searchExecutor
-        );
+        CompletableFuture<RerankResponse> future;
+        try {
+            future = supplyCancellable(
+                bulkheads.getRerank(),
+                "rerank",
+                () -> rankingGateway.rerank(
+                    plan.queryText,
+                    rerankCandidates,
+                    limit,
+                    timeoutMs,
+                    rerankDebug,
+                    traceId,
+                    requestId,
+                    traceparent
+                )
+            );
+        } catch (RejectedExecutionException e) {
+            return new RerankOutcome(
+                buildHitsFromFused(retrieval.fused, from, size, retrieval.sources),
+                false,
+                false,
+                false,
+                0L,
+                null,
+                "rerank_rejected"
+            );
+        }
 
         long started = System.nanoTime();
         int hedgeDelayMs = Math.max(0, resilienceRegistry.getProperties().getRerankHedgeDelayMs());
@@ -1137,7 +1479,7 @@ public class HybridSearchService {
 
             long tookMs = (System.nanoTime() - started) / 1_000_000L;
             if (rerankResponse != null && rerankResponse.getHits() != null) {
-                rerankBreaker.recordSuccess();
+                rerankBreaker.recordSuccess(tookMs);
                 return new RerankOutcome(
                     buildHitsFromRanking(rerankResponse.getHits(), fusedById, from, size, retrieval.sources),
                     true,
@@ -1145,7 +1487,8 @@ public class HybridSearchService {
                     false,
                     tookMs,
                     null,
-                    null
+                    null,
+                    rerankResponse.getHits()
                 );
             }
             rerankBreaker.recordFailure();
@@ -1594,30 +1937,295 @@ public class HybridSearchService {
         if (!serpCacheService.isEnabled()) {
             return null;
         }
-        Map<String, Object> fields = serpCacheService.baseKeyFields(
-            plan.queryText,
-            plan.lexicalEnabled,
-            plan.vectorEnabled,
-            plan.lexicalTopK,
-            plan.vectorTopK,
-            plan.rrfK,
-            plan.rerankEnabled,
-            plan.rerankTopK,
-            from,
-            size,
-            plan.boost,
-            plan.lexicalOperator,
-            plan.minimumShouldMatch,
-            plan.filters,
-            plan.lexicalFields
-        );
+        CacheKeyBuilder key = planKey(plan)
+            .field("rerank_top_k", plan.rerankTopK)
+            .field("from", from)
+            .field("size", size);
+        return serpCacheService.buildKey(key);
+    }
+
+    private String buildCandidateCacheKey(ExecutionPlan plan) {
+        if (!candidateCacheService.isEnabled()) {
+            return null;
+        }
+        return candidateCacheService.buildKey(planKey(plan));
+    }
+
+    private String buildNegativeCacheKey(ExecutionPlan plan) {
+        if (!negativeResultCacheService.isEnabled()) {
+            return null;
+        }
+        return negativeResultCacheService.buildKey(planKey(plan));
+    }
+
+    /** Fields every cache keyed on the plan shares; the SERP key adds paging and the rerank window. */
+    private CacheKeyBuilder planKey(ExecutionPlan plan) {
+        CacheKeyBuilder key = CacheKeyBuilder.create()
+            .field("q", plan.queryText)
+            .field("lexical", plan.lexicalEnabled)
+            .field("vector", plan.vectorEnabled)
+            .field("lexical_top_k", plan.lexicalTopK)
+            .field("vector_top_k", plan.vectorTopK)
+            .field("rrf_k", plan.rrfK)
+            .field("rerank", plan.rerankEnabled);
+        if (plan.boost != null && !plan.boost.isEmpty()) {
+            key.field("boost", plan.boost);
+        }
+        if (plan.lexicalOperator != null) {
+            key.field("operator", plan.lexicalOperator);
+        }
+        if (plan.minimumShouldMatch != null) {
+            key.field("minimum_should_match", plan.minimumShouldMatch);
+        }
+        if (plan.filters != null && !plan.filters.isEmpty()) {
+            key.field("filters", plan.filters);
+        }
+        if (plan.lexicalFields != null && !plan.lexicalFields.isEmpty()) {
+            key.field("fields", plan.lexicalFields);
+        }
         if (plan.experimentBucket != null) {
-            fields.put("experiment_bucket", plan.experimentBucket);
+            key.field("experiment_bucket", plan.experimentBucket);
         }
         if (plan.lexicalQueryOverride != null && !plan.lexicalQueryOverride.isEmpty()) {
-            fields.put("lexical_query_override", plan.lexicalQueryOverride);
+            key.field("lexical_query_override", plan.lexicalQueryOverride);
+        }
+        return key;
+    }
+
+    private Optional<SearchResponse> maybeServeNegativeResult(
+        ExecutionPlan plan,
+        long started,
+        String traceId,
+        String requestId
+    ) {
+        if (plan.debugEnabled || plan.explainEnabled) {
+            return Optional.empty();
         }
-        return serpCacheService.buildKey(fields);
+        Optional<NegativeResultCacheService.Entry> cached = negativeResultCacheService.get(buildNegativeCacheKey(plan));
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+        SearchResponse response = buildResponse(
+            started,
+            traceId,
+            requestId,
+            List.of(),
+            0,
+            false,
+            cached.get().getStrategy(),
+            null
+        );
+        response.setExperimentBucket(plan.experimentBucket);
+        return Optional.of(response);
+    }
+
+    /**
+     * Remembers a plan that found nothing. Empty results caused by a failed or
+     * skipped stage are not stored: they may not be empty next time.
+     */
+    private void maybeStoreNegativeResult(
+        String negativeKey,
+        ExecutionPlan plan,
+        RetrievalResult retrieval,
+        EnhanceOutcome enhanceOutcome,
+        boolean degradedFallback,
+        String strategy
+    ) {
+        // After a VECTOR_ERROR/RERANK_ERROR fallback the plan no longer matches the key.
+        if (negativeKey == null || degradedFallback || plan.debugEnabled || plan.explainEnabled || plan.loadShed) {
+            return;
+        }
+        if (retrieval.fused != null && !retrieval.fused.isEmpty()) {
+            return;
+        }
+        if (isFailed(retrieval.lexical) || isFailed(retrieval.vector) || retrieval.isPartial()) {
+            return;
+        }
+        if (plan.vectorEnabled && retrieval.vector != null && retrieval.vector.isSkipped()) {
+            return;
+        }
+        if (enhanceOutcome.skipReason != null && TRANSIENT_ENHANCE_SKIPS.contains(enhanceOutcome.skipReason)) {
+            return;
+        }
+        negativeResultCacheService.put(negativeKey, strategy);
+    }
+
+    private static boolean isDegraded(RetrievalStageResult result) {
+        return result == null || result.isError() || result.isTimedOut() || result.isSkipped() || result.isPartial();
+    }
+
+    private static boolean isFailed(RetrievalStageResult result) {
+        // Skipped stages are flagged as errors too; only a real failure counts here.
+        return result != null && (result.isTimedOut() || (result.isError() && !result.isSkipped()));
+    }
+
+    /**
+     * Answers a page from the cached candidate list of the same query: only
+     * the page's sources are fetched. A page past the reranked prefix reranks
+     * the next window first; if that fails the tail is served in fused order.
+     */
+    private Optional<SearchResponse> maybeServeCandidatePage(
+        ExecutionPlan plan,
+        String candidateKey,
+        int from,
+        int size,
+        String cacheKey,
+        long started,
+        String traceId,
+        String requestId,
+        String traceparent
+    ) {
+        if (candidateKey == null || plan.debugEnabled || plan.explainEnabled || plan.loadShed) {
+            return Optional.empty();
+        }
+        Optional<CandidateCacheService.Entry> cached = candidateCacheService.get(candidateKey);
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+        CandidateCacheService.Entry entry = cached.get();
+        List<RrfFusion.Candidate> fused = entry.getFused();
+        int pageEnd = (int) Math.min((long) from + size, fused.size());
+
+        RerankOutcome rerankOutcome;
+        boolean fusedTail = false;
+        if (entry.getRanked() == null) {
+            List<String> pageDocIds = new ArrayList<>();
+            for (int i = from; i < pageEnd; i++) {
+                pageDocIds.add(fused.get(i).getDocId());
+            }
+            Map<String, JsonNode> sources = fetchCandidateSources(pageDocIds, plan);
+            rerankOutcome = new RerankOutcome(buildHitsFromFused(fused, from, size, sources), false, false, false, 0L, null, null);
+        } else {
+            long rerankTookMs = 0L;
+            int depth = entry.getRankedDepth();
+            List<RerankResponse.Hit> ranked = entry.getRanked();
+            int rankedDepth = depth;
+            int targetDepth = extendedRerankDepth(depth, pageEnd, fused.size());
+            if (targetDepth > depth) {
+                List<RrfFusion.Candidate> window = fused.subList(depth, targetDepth);
+                List<String> windowDocIds = new ArrayList<>(window.size());
+                for (RrfFusion.Candidate candidate : window) {
+                    windowDocIds.add(candidate.getDocId());
+                }
+                ExecutionPlan windowPlan = new ExecutionPlan(plan);
+                windowPlan.rerankTopK = window.size();
+                RetrievalStageResult emptyStage = RetrievalStageResult.empty();
+                RerankOutcome windowOutcome = applyRerank(
+                    windowPlan,
+                    new RetrievalResult(window, fetchCandidateSources(windowDocIds, plan), emptyStage, emptyStage, 0L),
+                    0,
+                    0,
+                    traceId,
+                    requestId,
+                    traceparent,
+                    true
+                );
+                List<RerankResponse.Hit> extended = new ArrayList<>(entry.getRanked());
+                if (windowOutcome.rankedHits != null) {
+                    extended.addAll(windowOutcome.rankedHits);
+                    entry = candidateCacheService.extend(candidateKey, entry, extended, targetDepth);
+                    rerankTookMs = windowOutcome.tookMs;
+                } else {
+                    // Serve the tail in fused order and leave the entry for the next page to retry.
+                    for (RrfFusion.Candidate candidate : window) {
+                        extended.add(fusedRankHit(candidate));
+                    }
+                    fusedTail = true;
+                }
+                ranked = extended;
+                rankedDepth = targetDepth;
+            }
+            List<String> pageDocIds = new ArrayList<>();
+            for (int i = from; i < Math.min(pageEnd, ranked.size()); i++) {
+                pageDocIds.add(ranked.get(i).getDocId());
+            }
+            Map<String, JsonNode> sources = fetchCandidateSources(pageDocIds, plan);
+            Map<String, RrfFusion.Candidate> fusedById = toCandidateMap(fused.subList(0, rankedDepth));
+            rerankOutcome = new RerankOutcome(
+                buildHitsFromRanking(ranked, fusedById, from, size, sources),
+                true,
+                false,
+                false,
+                rerankTookMs,
+                null,
+                null
+            );
+        }
+
+        List<BookHit> finalHits = maybeApplyExploration(plan, rerankOutcome.hits, from, size, requestId, null);
+        finalHits = groupingService.apply(plan.queryText, finalHits, size);
+        SearchResponse response = buildResponse(
+            started,
+            traceId,
+            requestId,
+            finalHits,
+            fused.size(),
+            rerankOutcome.rankingApplied,
+            entry.getStrategy(),
+            null
+        );
+        response.setExperimentBucket(plan.experimentBucket);
+        if (!fusedTail && shouldStoreSerpCache(plan, response, cacheKey)) {
+            serpCacheService.put(cacheKey, response);
+        }
+        return Optional.of(response);
+    }
+
+    private static RerankResponse.Hit fusedRankHit(RrfFusion.Candidate candidate) {
+        RerankResponse.Hit hit = new RerankResponse.Hit();
+        hit.setDocId(candidate.getDocId());
+        hit.setScore(candidate.getScore());
+        return hit;
+    }
+
+    /**
+     * Rerank depth needed to serve a page ending at {@code pageEnd}: at least
+     * double the current depth so deep paging reranks in few calls, capped by
+     * the rerank top-k guardrail.
+     */
+    private int extendedRerankDepth(int depth, int pageEnd, int fusedSize) {
+        if (pageEnd <= depth) {
+            return depth;
+        }
+        int target = Math.min(Math.max(pageEnd, depth * 2), fusedSize);
+        int maxTopK = rerankPolicy == null ? 0 : rerankPolicy.getMaxTopK();
+        if (maxTopK > 0) {
+            target = Math.min(target, Math.max(maxTopK, depth));
+        }
+        return target;
+    }
+
+    /**
+     * Stores the candidate list only when it is what a healthy run of the
+     * request's own plan would produce: no fallback, every enabled stage
+     * answered, and rerank either ran or was skipped by policy.
+     */
+    private void maybeStoreCandidates(
+        String candidateKey,
+        ExecutionPlan plan,
+        RetrievalResult retrieval,
+        RerankOutcome rerankOutcome,
+        String appliedFallbackId,
+        String strategy
+    ) {
+        if (candidateKey == null || plan.debugEnabled || plan.explainEnabled || plan.loadShed) {
+            return;
+        }
+        if (appliedFallbackId != null || retrieval.fused == null || retrieval.fused.isEmpty()) {
+            return;
+        }
+        if (plan.lexicalEnabled && isDegraded(retrieval.lexical)) {
+            return;
+        }
+        if (plan.vectorEnabled && isDegraded(retrieval.vector)) {
+            return;
+        }
+        if (rerankOutcome.rankedHits == null
+            && (rerankOutcome.skipReason == null || !DETERMINISTIC_RERANK_SKIPS.contains(rerankOutcome.skipReason))) {
+            return;
+        }
+        int rankedDepth = Math.min(plan.rerankTopK, retrieval.fused.size());
+        candidateCacheService.put(candidateKey, retrieval.fused, rerankOutcome.rankedHits, rankedDepth, strategy);
     }
 
     private Optional<SearchResponse> maybeServeSerpCache(
@@ -1625,9 +2233,10 @@ public class HybridSearchService {
         String traceId,
         String requestId,
         long started,
-        ExecutionPlan plan
+        ExecutionPlan plan,
+        Runnable staleRefresh
     ) {
-        return maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, false);
+        return maybeServeSerpCache(cacheKey, traceId, requestId, started, plan, false, staleRefresh);
     }
 
     private Optional<SearchResponse> maybeServeSerpCache(
@@ -1636,7 +2245,8 @@ public class HybridSearchService {
         String requestId,
         long started,
         ExecutionPlan plan,
-        boolean degradedOnly
+        boolean degradedOnly,
+        Runnable staleRefresh
     ) {
         if (!serpCacheService.isEnabled() || cacheKey == null) {
             return Optional.empty();
@@ -1649,7 +2259,16 @@ public class HybridSearchService {
             return Optional.empty();
         }
         SerpCacheService.CachedResponse entry = cached.get();
-        SearchResponse cachedResponse = copySearchResponse(entry.getResponse(), traceId, requestId, started);
+        if (entry.isStale()) {
+            if (!degradedOnly && staleRefresh != null) {
+                serpCacheService.refreshAsync(cacheKey, staleRefresh);
+            }
+            meterRegistry.counter("sr_serp_cache_stale_served_total", "degraded", Boolean.toString(degradedOnly)).increment();
+        }
+        SearchResponse cachedResponse = serpCacheService.toResponse(entry);
+        cachedResponse.setTraceId(traceId);
+        cachedResponse.setRequestId(requestId);
+        cachedResponse.setTookMs((System.nanoTime() - started) / 1_000_000L);
         SearchResponse.Debug debug = buildDebug(
             plan,
             emptyRetrieval(plan),
@@ -1664,6 +2283,7 @@ public class HybridSearchService {
             long ttlMs = Math.max(0L, entry.getExpiresAt() - entry.getCreatedAt());
             debug.getCache().setAgeMs(ageMs);
             debug.getCache().setTtlMs(ttlMs);
+            debug.getCache().setStale(entry.isStale());
         }
         cachedResponse.setDebug(debug);
         return Optional.of(cachedResponse);
@@ -1673,41 +2293,30 @@ public class HybridSearchService {
         if (!serpCacheService.isEnabled() || cacheKey == null) {
             return false;
         }
-        if (plan.debugEnabled || plan.explainEnabled) {
+        if (plan.debugEnabled || plan.explainEnabled || plan.loadShed) {
             return false;
         }
         return response != null && response.getHits() != null && !response.getHits().isEmpty();
     }
 
-    private SearchResponse stripDebug(SearchResponse response) {
-        if (response == null) {
-            return null;
-        }
-        SearchResponse stripped = new SearchResponse();
-        stripped.setTraceId(response.getTraceId());
-        stripped.setRequestId(response.getRequestId());
-        stripped.setTookMs(response.getTookMs());
-        stripped.setRankingApplied(response.isRankingApplied());
-        stripped.setStrategy(response.getStrategy());
-        stripped.setTotal(response.getTotal());
-        stripped.setHits(response.getHits());
-        stripped.setExperimentBucket(response.getExperimentBucket());
-        stripped.setDebug(null);
-        return stripped;
-    }
-
     private SearchResponse copySearchResponse(SearchResponse response, String traceId, String requestId, long started) {
-        SearchResponse copied = new SearchResponse();
+        SearchResponse copied = response == null ? new SearchResponse() : response.copyResult();
         copied.setTraceId(traceId);
         copied.setRequestId(requestId);
         copied.setTookMs((System.nanoTime() - started) / 1_000_000L);
-        if (response != null) {
-            copied.setRankingApplied(response.isRankingApplied());
-            copied.setStrategy(response.getStrategy());
-            copied.setTotal(response.getTotal());
-            copied.setHits(response.getHits());
-            copied.setExperimentBucket(response.getExperimentBucket());
+        return copied;
+    }
+
+    private String coalescingKey(ExecutionPlan plan, String cacheKey) {
+        if (cacheKey == null || plan.debugEnabled || plan.explainEnabled) {
+            return null;
         }
+        return cacheKey;
+    }
+
+    private SearchResponse copyCoalescedResponse(SearchResponse shared, String traceId, String requestId, long started) {
+        SearchResponse copied = copySearchResponse(shared, traceId, requestId, started);
+        copied.setDebug(shared.getDebug());
         return copied;
     }
 
@@ -1750,6 +2359,77 @@ public class HybridSearchService {
         }
     }
 
+    /** Submits to a bulkhead, completing with {@code rejected} when its queue is full. */
+    private <T> CompletableFuture<T> submit(Bulkhead bulkhead, String stage, Supplier<T> task, T rejected) {
+        try {
+            return supplyCancellable(bulkhead, stage, task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(rejected);
+        }
+    }
+
+    /**
+     * Runs {@code task} so that cancelling the future on timeout aborts its
+     * outbound HTTP calls; calls still in flight at that point are counted as
+     * orphaned per stage.
+     */
+    private <T> CompletableFuture<T> supplyCancellable(Bulkhead bulkhead, String stage, Supplier<T> task) {
+        return CallCancellation.supplyAsync(
+            task,
+            bulkhead,
+            orphaned -> meterRegistry.counter("sr_stage_orphaned_calls_total", "stage", stage).increment(orphaned)
+        );
+    }
+
+    private QueryEnhanceResponse awaitEnhance(CompletableFuture<QueryEnhanceResponse> future, int timeoutMs) {
+        try {
+            return timeoutMs > 0 ? future.get(timeoutMs, TimeUnit.MILLISECONDS) : future.get();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new QueryServiceUnavailableException("query service enhance timed out", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new QueryServiceUnavailableException("query service enhance failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryServiceUnavailableException("query service enhance interrupted", e);
+        }
+    }
+
+    private MultiSearchRetriever.Results awaitMultiSearch(
+        CompletableFuture<MultiSearchRetriever.Results> future,
+        Integer timeoutMs
+    ) {
+        try {
+            if (timeoutMs != null && timeoutMs > 0) {
+                return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            }
+            return future.get();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return MultiSearchRetriever.Results.of(RetrievalStageResult.timedOut(), RetrievalStageResult.timedOut());
+        } catch (ExecutionException e) {
+            RetrievalStageResult error = RetrievalStageResult.error(errorMessage(e));
+            return MultiSearchRetriever.Results.of(error, error);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            RetrievalStageResult error = RetrievalStageResult.error("interrupted");
+            return MultiSearchRetriever.Results.of(error, error);
+        }
+    }
+
+    private Integer maxBudget(Integer first, Integer second) {
+        if (first == null || first <= 0) {
+            return second;
+        }
+        if (second == null || second <= 0) {
+            return first;
+        }
+        return Math.max(first, second);
+    }
+
     private String errorMessage(Exception e) {
         if (e == null) {
             return null;
@@ -2533,6 +3213,12 @@ public class HybridSearchService {
         return value == null || value.trim().isEmpty();
     }
 
+    /** One search pipeline run under the given plan and ids. */
+    @FunctionalInterface
+    private interface RefreshExecution {
+        SearchResponse run(ExecutionPlan plan, long started, String traceId, String requestId);
+    }
+
     private static class EnhanceOutcome {
         private boolean attempted;
         private boolean applied;
@@ -2590,6 +3276,7 @@ public class HybridSearchService {
         private boolean explainEnabled;
         private String experimentBucket;
         private boolean exploreApplied;
+        private boolean loadShed;
 
         private ExecutionPlan(QueryContextV1_1 context) {
             this.context = context;
@@ -2624,6 +3311,7 @@ public class HybridSearchService {
             this.explainEnabled = other.explainEnabled;
             this.experimentBucket = other.experimentBucket;
             this.exploreApplied = other.exploreApplied;
+            this.loadShed = other.loadShed;
         }
     }
 
@@ -2647,6 +3335,11 @@ public class HybridSearchService {
             this.vector = vector;
             this.fusionTookMs = fusionTookMs;
         }
+
+        /** Either stage was cut short by the OpenSearch timeout; never cache such a result. */
+        private boolean isPartial() {
+            return (lexical != null && lexical.isPartial()) || (vector != null && vector.isPartial());
+        }
     }
 
     private static class RerankOutcome {
@@ -2657,6 +3350,7 @@ public class HybridSearchService {
         private final long tookMs;
         private final String errorMessage;
         private final String skipReason;
+        private final List<RerankResponse.Hit> rankedHits;
 
         private RerankOutcome(
             List<BookHit> hits,
@@ -2666,6 +3360,19 @@ public class HybridSearchService {
             long tookMs,
             String errorMessage,
             String skipReason
+        ) {
+            this(hits, rankingApplied, rerankError, rerankTimedOut, tookMs, errorMessage, skipReason, null);
+        }
+
+        private RerankOutcome(
+            List<BookHit> hits,
+            boolean rankingApplied,
+            boolean rerankError,
+            boolean rerankTimedOut,
+            long tookMs,
+            String errorMessage,
+            String skipReason,
+            List<RerankResponse.Hit> rankedHits
         ) {
             this.hits = hits;
             this.rankingApplied = rankingApplied;
@@ -2674,6 +3381,7 @@ public class HybridSearchService {
             this.tookMs = tookMs;
             this.errorMessage = errorMessage;
             this.skipReason = skipReason;
+            this.rankedHits = rankedHits;
         }
     }
 
@@ -2715,7 +3423,7 @@ public class HybridSearchService {
         ZERO_RESULTS
     }
 
-    private BookHit.Source mapSource(JsonNode source, String docId) {
+    BookHit.Source mapSource(JsonNode source, String docId) {
         if (source == null || source.isMissingNode()) {
             return null;
         }
@@ -2754,81 +3462,7 @@ public class HybridSearchService {
                 return nested;
             }
         }
-        return buildGeneratedCoverDataUrl(docId, title, isbn13);
-    }
-
-    private String buildGeneratedCoverDataUrl(String docId, String title, String isbn13) {
-        String seed = firstNonBlank(docId, isbn13, title, "bsl-book-cover");
-        int hash = Math.abs(seed.hashCode());
-
-        String[] tones = {
-            "#2f3d66,#5a7bb8",
-            "#3f4f4a,#6d8f7e",
-            "#5a3f2f,#a47f62",
-            "#2f4f5a,#5f96ad",
-            "#4c3d62,#7f6ab8",
-            "#2f4b5f,#5f7fa6",
-        };
-        String[] picked = tones[hash % tones.length].split(",");
-        String bgStart = picked[0];
-        String bgEnd = picked[1];
-
-        String resolvedTitle = sanitizeCoverText(firstNonBlank(title, docId, "제목 없음"), 40);
-        String shortId = sanitizeCoverText(firstNonBlank(docId, "BSL"), 12);
-        String line1 = escapeXml(cutTitleLine(resolvedTitle, 0, 12));
-        String line2 = escapeXml(cutTitleLine(resolvedTitle, 12, 24));
-        String line3 = escapeXml(cutTitleLine(resolvedTitle, 24, 36));
-        String idLabel = escapeXml(shortId);
-
-        String svg = "<svg xmlns='http://www.w3.org/2000/svg' width='360' height='520' viewBox='0 0 360 520'>"
-            + "<defs><linearGradient id='g' x1='0' y1='0' x2='1' y2='1'>"
-            + "<stop offset='0%' stop-color='" + bgStart + "'/>"
-            + "<stop offset='100%' stop-color='" + bgEnd + "'/>"
-            + "</linearGradient></defs>"
-            + "<rect width='360' height='520' fill='url(#g)'/>"
-            + "<rect x='26' y='26' width='308' height='468' rx='22' fill='rgba(255,255,255,0.08)'/>"
-            + "<text x='38' y='82' fill='rgba(255,255,255,0.9)' font-size='20' font-weight='700'>BSL BOOKS</text>"
-            + "<text x='38' y='206' fill='#ffffff' font-size='40' font-weight='700'>" + line1 + "</text>"
-            + "<text x='38' y='256' fill='#ffffff' font-size='40' font-weight='700'>" + line2 + "</text>"
-            + "<text x='38' y='306' fill='#ffffff' font-size='40' font-weight='700'>" + line3 + "</text>"
-            + "<text x='38' y='472' fill='rgba(255,255,255,0.86)' font-size='18' font-weight='600'>" + idLabel + "</text>"
-            + "</svg>";
-
-        return "data:image/svg+xml;utf8," + URLEncoder.encode(svg, StandardCharsets.UTF_8).replace("+", "%20");
-    }
-
-    private String cutTitleLine(String title, int start, int end) {
-        if (title == null || title.isBlank() || start >= title.length()) {
-            return "";
-        }
-        int safeEnd = Math.min(end, title.length());
-        return title.substring(start, safeEnd);
-    }
-
-    private String sanitizeCoverText(String value, int maxLen) {
-        if (value == null) {
-            return "";
-        }
-        String compact = value.replaceAll("\\s+", " ").trim();
-        if (compact.isBlank()) {
-            return "";
-        }
-        if (compact.length() <= maxLen) {
-            return compact;
-        }
-        return compact.substring(0, maxLen);
-    }
-
-    private String escapeXml(String value) {
-        if (value == null || value.isBlank()) {
-            return "";
-        }
-        return value
-            .replace("&", "&amp;")
-            .replace("<", "&lt;")
-            .replace(">", "&gt;")
-            .replace("\"", "&quot;")
-            .replace("'", "&apos;");
+        return coverImageService.coverUrl(docId, title, isbn13);
     }
 
     private String textOrNull(JsonNode node) {
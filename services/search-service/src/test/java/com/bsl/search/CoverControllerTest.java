@@ -0,0 +1,102 @@
+package com.bsl.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.bsl.search.api.CoverController;
+import com.bsl.search.api.dto.BookDetailResponse;
+import com.bsl.search.api.dto.BookHit;
+import com.bsl.search.cover.CoverImageService;
+import com.bsl.search.cover.CoverProperties;
+import com.bsl.search.service.BookDetailResult;
+import com.bsl.search.service.HybridSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(CoverController.class)
+@Import({CoverImageService.class, CoverProperties.class, CoverControllerTest.Metrics.class})
+class CoverControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CoverImageService coverImageService;
+
+    @MockBean
+    private HybridSearchService hybridSearchService;
+
+    @Test
+    void servesSvgWithStrongEtagAndLongCacheHeaders() throws Exception {
+        when(hybridSearchService.getBookById(eq("b1"), anyString(), anyString())).thenReturn(book("b1", "해리 포터"));
+        String coverUrl = coverImageService.coverUrl("b1", "해리 포터", "9780000000001");
+        String version = coverUrl.substring(coverUrl.indexOf("?v=") + 3);
+
+        MvcResult result = mockMvc.perform(get("/covers/b1.svg").param("v", version))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "image/svg+xml"))
+            .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+            .andReturn();
+
+        String etag = result.getResponse().getHeader("ETag");
+        assertThat(etag).isEqualTo("\"" + version + "\"");
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("해리 포터");
+
+        mockMvc.perform(get("/covers/b1.svg").param("v", version).header("If-None-Match", "\"other\", W/" + etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    void staleOrMissingVersionIsNotCachedForever() throws Exception {
+        when(hybridSearchService.getBookById(eq("b1"), anyString(), anyString())).thenReturn(book("b1", "해리 포터"));
+
+        mockMvc.perform(get("/covers/b1.svg").param("v", "0000000000000000"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, public"));
+        mockMvc.perform(get("/covers/b1.svg"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @Test
+    void missingBookReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/covers/missing.svg"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error.code").value("not_found"));
+    }
+
+    private static BookDetailResult book(String docId, String title) {
+        BookHit.Source source = new BookHit.Source();
+        source.setTitleKo(title);
+        source.setIsbn13("9780000000001");
+        BookDetailResponse response = new BookDetailResponse();
+        response.setDocId(docId);
+        response.setSource(source);
+        return new BookDetailResult(response, "etag-1", false, 0L, 60000L, 60);
+    }
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -33,7 +33,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-@SpringBootTest
+@SpringBootTest(properties = "search.cache.doc-source.enabled=false")
 @AutoConfigureMockMvc
 class SearchControllerQcV11Test {
 
@@ -56,7 +56,7 @@ class SearchControllerQcV11Test {
     void acceptsQcV11AndPropagatesIds() throws Exception {
         when(openSearchGateway.searchLexicalDetailed(eq("harry"), anyInt(), any(), any(), any(), any(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "harry", "norm", "harry", "final", "harry"),
@@ -94,7 +94,7 @@ class SearchControllerQcV11Test {
     void mapsVolumeFilterIntoLexicalQuery() throws Exception {
         when(openSearchGateway.searchLexicalDetailed(eq("harry"), anyInt(), any(), any(), any(), any(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "harry", "norm", "harry", "final", "harry"),
@@ -139,7 +139,7 @@ class SearchControllerQcV11Test {
     void allowsQuerylessSearchWithFilters() throws Exception {
         when(openSearchGateway.searchMatchAllDetailed(anyInt(), any(), any(), anyBoolean()))
             .thenReturn(new com.bsl.search.opensearch.OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "", "norm", "", "final", ""),
@@ -169,7 +169,7 @@ class SearchControllerQcV11Test {
     void prioritizesKoreanTitlesForCategoryBrowse() throws Exception {
         when(openSearchGateway.searchMatchAllDetailed(anyInt(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("hanja", "korean"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSourcesForCategoryOrdering());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSourcesForCategoryOrdering());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "", "norm", "", "final", ""),
@@ -208,7 +208,7 @@ class SearchControllerQcV11Test {
     void mapsKdcNodeFilterIntoLexicalQuery() throws Exception {
         when(openSearchGateway.searchLexicalDetailed(eq("harry"), anyInt(), any(), any(), any(), any(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "harry", "norm", "harry", "final", "harry"),
@@ -253,7 +253,7 @@ class SearchControllerQcV11Test {
     void expandsPreferredLogicalFieldsWithV2Fallbacks() throws Exception {
         when(openSearchGateway.searchLexicalDetailed(eq("문화지도"), anyInt(), any(), any(), any(), any(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "문화지도", "norm", "문화지도", "final", "문화지도"),
@@ -292,9 +292,9 @@ class SearchControllerQcV11Test {
     void appliesFallbackOnVectorError() throws Exception {
         when(openSearchGateway.searchLexicalDetailed(eq("harry"), anyInt(), any(), any(), any(), any(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.searchVectorDetailed(anyList(), anyInt(), any(), any(), anyBoolean()))
+        when(openSearchGateway.searchVectorDetailed(any(float[].class), anyInt(), any(), any(), anyBoolean()))
             .thenThrow(new OpenSearchUnavailableException("vector down", new RuntimeException("timeout")));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "harry", "norm", "harry", "final", "harry"),
@@ -325,7 +325,7 @@ class SearchControllerQcV11Test {
     void usesAuthorRoutingDslWhenUnderstandingExists() throws Exception {
         when(openSearchGateway.searchLexicalByDslDetailed(any(), anyInt(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "author:김영하 데미안", "norm", "author:김영하 데미안", "final", "데미안"),
@@ -372,7 +372,7 @@ class SearchControllerQcV11Test {
     void usesIsbnRoutingDslWithNormalizedIdentifierTerms() throws Exception {
         when(openSearchGateway.searchLexicalByDslDetailed(any(), anyInt(), any(), any(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of()));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         Map<String, Object> payload = qcV11Payload(
             Map.of("raw", "isbn:978-89-349-1829-7", "norm", "isbn:9788934918297", "final", "978-89-349-1829-7"),
@@ -454,7 +454,7 @@ class SearchControllerQcV11Test {
                 new OpenSearchQueryResult(List.of(), Map.of(), Map.of()),
                 new OpenSearchQueryResult(List.of("b1"), Map.of(), Map.of())
             );
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         QueryEnhanceResponse enhanceResponse = new QueryEnhanceResponse();
         enhanceResponse.setDecision("RUN");
@@ -1,5 +1,6 @@
 package com.bsl.search;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -13,13 +14,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.bsl.search.api.SearchController;
 import com.bsl.search.api.dto.BookHit;
+import com.bsl.search.api.dto.PreSerializedSearchResponse;
 import com.bsl.search.api.dto.SearchRequest;
 import com.bsl.search.api.dto.SearchResponse;
 import com.bsl.search.service.BookDetailResult;
 import com.bsl.search.service.HybridSearchService;
 import com.bsl.search.service.InvalidSearchRequestException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -46,6 +50,52 @@ class SearchControllerTest {
             .andExpect(jsonPath("$.status").value("ok"));
     }
 
+    @Test
+    void searchWritesPreSerializedCacheHit() throws Exception {
+        Map<String, Object> hit = new LinkedHashMap<>();
+        hit.put("doc_id", "b1");
+        hit.put("rank", 1);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ranking_applied", true);
+        body.put("strategy", "hybrid_rrf_v1");
+        body.put("total", 1);
+        body.put("hits", List.of(hit));
+        body.put("experiment_bucket", null);
+
+        PreSerializedSearchResponse response = new PreSerializedSearchResponse(
+            objectMapper.writeValueAsBytes(body),
+            objectMapper
+        );
+        response.setTraceId("trace-cached");
+        response.setRequestId("req-cached");
+        response.setTookMs(1L);
+        SearchResponse.Debug debug = new SearchResponse.Debug();
+        SearchResponse.Cache cache = new SearchResponse.Cache();
+        cache.setHit(true);
+        debug.setCache(cache);
+        response.setDebug(debug);
+
+        when(hybridSearchService.search(any(), anyString(), anyString(), any())).thenReturn(response);
+
+        SearchRequest request = new SearchRequest();
+        SearchRequest.Query query = new SearchRequest.Query();
+        query.setRaw("harry");
+        request.setQuery(query);
+
+        mockMvc.perform(post("/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.trace_id").value("trace-cached"))
+            .andExpect(jsonPath("$.request_id").value("req-cached"))
+            .andExpect(jsonPath("$.took_ms").value(1))
+            .andExpect(jsonPath("$.debug.cache.hit").value(true))
+            .andExpect(jsonPath("$.ranking_applied").value(true))
+            .andExpect(jsonPath("$.total").value(1))
+            .andExpect(jsonPath("$.hits[0].doc_id").value("b1"));
+        assertThat(response.getHits()).extracting(BookHit::getDocId).containsExactly("b1");
+    }
+
     @Test
     void searchReturnsHits() throws Exception {
         SearchResponse response = new SearchResponse();
@@ -0,0 +1,93 @@
+package com.bsl.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdmissionCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        AdmissionCache<String> cache = newCache(10_000L);
+        cache.put("k", "v", 500L);
+
+        assertThat(cache.get("k")).isPresent();
+        clock.addAndGet(501L);
+        assertThat(cache.get("k")).isEmpty();
+        assertThat(cache.estimatedSize()).isZero();
+        assertThat(cache.weightedSize()).isZero();
+    }
+
+    @Test
+    void keepsWeightWithinBudget() {
+        AdmissionCache<String> cache = newCache(1_000L);
+        for (int i = 0; i < 100; i++) {
+            cache.put("key-" + i, "v", 60_000L);
+        }
+
+        assertThat(cache.weightedSize()).isLessThanOrEqualTo(1_000L);
+        assertThat(meterRegistry.get("sr_cache_evictions_total").tag("cause", "size").counter().count())
+            .isGreaterThan(0.0d);
+    }
+
+    @Test
+    void rePuttingKeyDoesNotDoubleCountWeight() {
+        AdmissionCache<String> cache = newCache(10_000L);
+        cache.put("k", "v1", 60_000L);
+        cache.put("k", "v2", 60_000L);
+
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+        assertThat(cache.weightedSize()).isEqualTo(100L);
+        assertThat(cache.get("k")).get().extracting(CacheEntry::getValue).isEqualTo("v2");
+    }
+
+    @Test
+    void frequentKeySurvivesScanOfOneOffKeys() {
+        AdmissionCache<String> cache = newCache(1_000L);
+        cache.put("hot", "v", 60_000L);
+        for (int i = 0; i < 20; i++) {
+            cache.get("hot");
+        }
+        for (int i = 0; i < 200; i++) {
+            cache.put("scan-" + i, "v", 60_000L);
+        }
+
+        assertThat(cache.get("hot")).isPresent();
+    }
+
+    @Test
+    void rejectsValuesHeavierThanBudget() {
+        AdmissionCache<String> cache = new AdmissionCache<>(
+            "test",
+            50L,
+            (key, value) -> 100L,
+            meterRegistry,
+            clock::get
+        );
+        cache.put("k", "v", 60_000L);
+
+        assertThat(cache.get("k")).isEmpty();
+        assertThat(cache.weightedSize()).isZero();
+    }
+
+    @Test
+    void recordsHitsAndMisses() {
+        AdmissionCache<String> cache = newCache(10_000L);
+        cache.put("k", "v", 60_000L);
+        cache.get("k");
+        cache.get("missing");
+
+        assertThat(meterRegistry.get("sr_cache_requests_total").tag("result", "hit").counter().count()).isEqualTo(1.0d);
+        assertThat(meterRegistry.get("sr_cache_requests_total").tag("result", "miss").counter().count()).isEqualTo(1.0d);
+        assertThat(meterRegistry.get("sr_cache_hit_ratio").gauge().value()).isEqualTo(0.5d);
+    }
+
+    private AdmissionCache<String> newCache(long maxWeight) {
+        return new AdmissionCache<>("test", maxWeight, (key, value) -> 100L, meterRegistry, clock::get);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bsl.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class CacheKeyBuilderTest {
+
+    @Test
+    void murmurMatchesReferenceVectors() {
+        assertThat(murmur("")).isEqualTo("00000000000000000000000000000000");
+        // h1/h2 of MurmurHash3_x64_128("The quick brown fox jumps over the lazy dog", seed 0)
+        assertThat(murmur("The quick brown fox jumps over the lazy dog"))
+            .isEqualTo("e34bbc7bbc071b6c7a433ca9c49a9347");
+    }
+
+    @Test
+    void equalPlansHashEqualRegardlessOfMapOrder() {
+        Map<String, Object> filterA = new LinkedHashMap<>();
+        filterA.put("terms", Map.of("kdc_code", List.of("813", "843")));
+        filterA.put("boost", 1.5);
+        Map<String, Object> filterB = new TreeMap<>();
+        filterB.put("boost", 1.5);
+        filterB.put("terms", Map.of("kdc_code", List.of("813", "843")));
+        Map<String, Double> boostA = new HashMap<>(Map.of("title_ko", 3.0, "authors.name_ko", 2.0));
+        Map<String, Double> boostB = new TreeMap<>(boostA);
+
+        String a = CacheKeyBuilder.create()
+            .field("q", "해리 포터")
+            .field("top_k", 200)
+            .field("boost", boostA)
+            .field("filters", List.of(filterA))
+            .build();
+        String b = CacheKeyBuilder.create()
+            .field("q", "해리 포터")
+            .field("top_k", 200L)
+            .field("boost", boostB)
+            .field("filters", List.of(filterB))
+            .build();
+
+        assertThat(a).hasSize(32).isEqualTo(b);
+    }
+
+    @Test
+    void differentValuesOrBoundariesHashDifferently() {
+        String base = CacheKeyBuilder.create().field("q", "ab").field("from", 0).build();
+        assertThat(CacheKeyBuilder.create().field("q", "ab").field("from", 10).build()).isNotEqualTo(base);
+        assertThat(CacheKeyBuilder.create().field("q", "a").field("from", 0).build()).isNotEqualTo(base);
+        assertThat(CacheKeyBuilder.create().field("q", "ab").field("from", "0").build()).isNotEqualTo(base);
+        assertThat(CacheKeyBuilder.create().field("q", "ab").field("from", 0).field("size", null).build())
+            .isNotEqualTo(base);
+        assertThat(CacheKeyBuilder.create().field("q", List.of("a", "b")).build())
+            .isNotEqualTo(CacheKeyBuilder.create().field("q", List.of("ab")).build());
+    }
+
+    private static String murmur(String text) {
+        Murmur3Hasher hasher = new Murmur3Hasher();
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hasher.putByte(b);
+        }
+        hasher.finish();
+        return String.format("%016x%016x", hasher.first(), hasher.second());
+    }
+}
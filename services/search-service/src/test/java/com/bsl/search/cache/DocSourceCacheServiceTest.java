@@ -0,0 +1,114 @@
+package com.bsl.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bsl.search.opensearch.SourceProjection;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class DocSourceCacheServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DocTombstones docTombstones = new DocTombstones(new CacheInvalidationProperties());
+    private final DocSourceCacheService service = new DocSourceCacheService(
+        new DocSourceCacheProperties(),
+        docTombstones,
+        new SimpleMeterRegistry()
+    );
+
+    @Test
+    void fetchesOnlyMissingIdsAndKeepsRequestOrder() {
+        List<List<String>> requested = new ArrayList<>();
+        service.getSources(List.of("b1", "b2"), SourceProjection.SERP, ids -> {
+            requested.add(ids);
+            return sources(ids, "v1");
+        });
+
+        Map<String, JsonNode> result = service.getSources(List.of("b3", "b1", "b2"), SourceProjection.SERP, ids -> {
+            requested.add(ids);
+            return sources(ids, "v1");
+        });
+
+        assertThat(requested).containsExactly(List.of("b1", "b2"), List.of("b3"));
+        assertThat(result.keySet()).containsExactly("b3", "b1", "b2");
+    }
+
+    @Test
+    void skipsLoaderWhenEverythingIsCached() {
+        service.getSources(List.of("b1"), SourceProjection.SERP, ids -> sources(ids, "v1"));
+
+        Map<String, JsonNode> result = service.getSources(List.of("b1"), SourceProjection.SERP, ids -> {
+            throw new AssertionError("loader should not be called");
+        });
+
+        assertThat(result.get("b1").path("title_ko").asText()).isEqualTo("v1");
+    }
+
+    @Test
+    void invalidationDuringLoadDoesNotRepopulateOldSource() {
+        service.getSources(List.of("b1"), SourceProjection.SERP, ids -> {
+            service.invalidate("b1");
+            return sources(ids, "old");
+        });
+
+        Map<String, JsonNode> result = service.getSources(List.of("b1"), SourceProjection.SERP, ids -> sources(ids, "new"));
+
+        assertThat(result.get("b1").path("title_ko").asText()).isEqualTo("new");
+    }
+
+    @Test
+    void recentlyChangedDocIsNotCachedUntilTheWriteGuardPasses() {
+        docTombstones.record(List.of("b1"));
+        List<List<String>> requested = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            service.getSources(List.of("b1", "b2"), SourceProjection.SERP, ids -> {
+                requested.add(ids);
+                return sources(ids, "v1");
+            });
+        }
+
+        assertThat(requested).containsExactly(List.of("b1", "b2"), List.of("b1"));
+    }
+
+    @Test
+    void invalidateAllDropsEveryEntry() {
+        service.getSources(List.of("b1", "b2"), SourceProjection.SERP, ids -> sources(ids, "old"));
+        service.invalidateAll();
+
+        Map<String, JsonNode> result = service.getSources(List.of("b1", "b2"), SourceProjection.SERP, ids -> sources(ids, "new"));
+
+        assertThat(result.values()).extracting(node -> node.path("title_ko").asText()).containsOnly("new");
+    }
+
+    @Test
+    void projectionsAreCachedSeparatelyAndInvalidatedTogether() {
+        service.getSources(List.of("b1"), SourceProjection.SERP, ids -> sources(ids, "serp"));
+        List<List<String>> loads = new ArrayList<>();
+        Map<String, JsonNode> rerank = service.getSources(List.of("b1"), SourceProjection.RERANK, ids -> {
+            loads.add(ids);
+            return sources(ids, "rerank");
+        });
+        assertThat(loads).containsExactly(List.of("b1"));
+        assertThat(rerank.get("b1").path("title_ko").asText()).isEqualTo("rerank");
+
+        service.invalidate("b1");
+
+        Map<String, JsonNode> serp = service.getSources(List.of("b1"), SourceProjection.SERP, ids -> sources(ids, "fresh"));
+        assertThat(serp.get("b1").path("title_ko").asText()).isEqualTo("fresh");
+    }
+
+    private Map<String, JsonNode> sources(List<String> ids, String title) {
+        Map<String, JsonNode> sources = new LinkedHashMap<>();
+        for (String id : ids) {
+            sources.put(id, objectMapper.createObjectNode().put("doc_id", id).put("title_ko", title));
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,31 @@
+package com.bsl.search.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MaterialInvalidationListenerTest {
+
+    @Test
+    void invalidatesMaterialIdsFromUpsertAndDeleteEventsInOneBatch() {
+        CacheInvalidationService invalidationService = mock(CacheInvalidationService.class);
+        MaterialInvalidationListener listener = new MaterialInvalidationListener(
+            new ObjectMapper(),
+            invalidationService,
+            new SimpleMeterRegistry()
+        );
+
+        listener.consume(List.of(
+            "{\"event_type\":\"material.upsert_requested\",\"aggregate_id\":\"m1\",\"payload\":{\"material_id\":\"m1\"}}",
+            "{\"event_type\":\"material.delete_requested\",\"aggregate_id\":\"m2\",\"payload\":{}}",
+            "{\"event_type\":\"search_click\",\"payload\":{\"doc_id\":\"m3\"}}",
+            "not json"
+        ));
+
+        verify(invalidationService).invalidateDocs(List.of("m1", "m2"));
+    }
+}
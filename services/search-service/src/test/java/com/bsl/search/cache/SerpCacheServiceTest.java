@@ -0,0 +1,213 @@
+package com.bsl.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bsl.search.api.dto.BookHit;
+import com.bsl.search.api.dto.PreSerializedSearchResponse;
+import com.bsl.search.api.dto.SearchResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SerpCacheServiceTest {
+
+    @Test
+    void servesStaleEntryInsideGraceWindow() throws Exception {
+        SerpCacheProperties properties = new SerpCacheProperties();
+        properties.setTtlMs(1L);
+        properties.setStaleWhileRevalidateMs(60_000L);
+        SerpCacheService service = new SerpCacheService(
+            properties,
+            new ObjectMapper(),
+            tombstones(),
+            SerpL2Cache.disabled(),
+            new SimpleMeterRegistry()
+        );
+        try {
+            service.put("serp:k", response());
+            Thread.sleep(5L);
+
+            SerpCacheService.CachedResponse cached = service.get("serp:k").orElseThrow();
+            assertThat(cached.isStale()).isTrue();
+            assertThat(cached.getExpiresAt() - cached.getCreatedAt()).isEqualTo(1L);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void runsOnlyOneRefreshPerKey() throws Exception {
+        SerpCacheService service = new SerpCacheService(
+            new SerpCacheProperties(),
+            new ObjectMapper(),
+            tombstones(),
+            SerpL2Cache.disabled(),
+            new SimpleMeterRegistry()
+        );
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            boolean first = service.refreshAsync("serp:k", () -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+            boolean second = service.refreshAsync("serp:k", () -> { });
+            release.countDown();
+
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void invalidatingADocDropsSerpsListingItAndGuardsRewrites() {
+        DocTombstones tombstones = tombstones();
+        SerpCacheService service = new SerpCacheService(
+            new SerpCacheProperties(),
+            new ObjectMapper(),
+            tombstones,
+            SerpL2Cache.disabled(),
+            new SimpleMeterRegistry()
+        );
+        try {
+            service.put("serp:a", response("b1", "b2"));
+            service.put("serp:b", response("b3"));
+
+            tombstones.record(Set.of("b2"));
+            assertThat(service.invalidateDocs(Set.of("b2"))).isEqualTo(1);
+            service.put("serp:a", response("b1", "b2"));
+
+            assertThat(service.get("serp:a")).isEmpty();
+            assertThat(service.get("serp:b")).isPresent();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void localMissIsServedFromSharedTierWithItsOriginalAge() {
+        SerpL2Cache l2 = mock(SerpL2Cache.class);
+        long createdAt = System.currentTimeMillis() - 1_500L;
+        SerializedSerp shared = new SerializedSerp(new byte[] {'{', '}'}, true, "hybrid", 1, null, List.of("b1"));
+        when(l2.isEnabled()).thenReturn(true);
+        when(l2.get("serp:k")).thenReturn(Optional.of(new SerpL2Cache.Entry(shared, createdAt)));
+        SerpCacheService service = new SerpCacheService(
+            new SerpCacheProperties(),
+            new ObjectMapper(),
+            tombstones(),
+            l2,
+            new SimpleMeterRegistry()
+        );
+        try {
+            SerpCacheService.CachedResponse first = service.get("serp:k").orElseThrow();
+            SerpCacheService.CachedResponse second = service.get("serp:k").orElseThrow();
+
+            assertThat(first.getCreatedAt()).isEqualTo(createdAt);
+            assertThat(second.getCreatedAt()).isEqualTo(createdAt);
+            verify(l2, times(1)).get("serp:k");
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void sharedEntryListingTombstonedDocIsNotRefilled() {
+        SerpL2Cache l2 = mock(SerpL2Cache.class);
+        SerializedSerp shared = new SerializedSerp(new byte[] {'{', '}'}, true, "hybrid", 1, null, List.of("b1"));
+        when(l2.isEnabled()).thenReturn(true);
+        when(l2.get("serp:k")).thenReturn(Optional.of(new SerpL2Cache.Entry(shared, System.currentTimeMillis())));
+        DocTombstones tombstones = tombstones();
+        tombstones.record(Set.of("b1"));
+        SerpCacheService service = new SerpCacheService(
+            new SerpCacheProperties(),
+            new ObjectMapper(),
+            tombstones,
+            l2,
+            new SimpleMeterRegistry()
+        );
+        try {
+            assertThat(service.get("serp:k")).isEmpty();
+            assertThat(service.get("serp:k")).isEmpty();
+            verify(l2, times(2)).get("serp:k");
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void cachedBodyHoldsOnlyTheRequestIndependentResult() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SerpCacheService service = new SerpCacheService(
+            new SerpCacheProperties(),
+            objectMapper,
+            tombstones(),
+            SerpL2Cache.disabled(),
+            new SimpleMeterRegistry()
+        );
+        try {
+            SearchResponse response = response("b1", "b2");
+            response.setTraceId("trace-1");
+            response.setRequestId("req-1");
+            response.setTookMs(42L);
+            response.setDebug(new SearchResponse.Debug());
+            response.setStrategy("hybrid_rrf");
+            response.setExperimentBucket("B");
+            service.put("serp:k", response);
+
+            PreSerializedSearchResponse cached = service.toResponse(service.get("serp:k").orElseThrow());
+            JsonNode body = objectMapper.readTree(cached.getSerializedBody());
+            assertThat(body.has("trace_id")).isFalse();
+            assertThat(body.has("request_id")).isFalse();
+            assertThat(body.has("took_ms")).isFalse();
+            assertThat(body.has("debug")).isFalse();
+            assertThat(body.get("strategy").asText()).isEqualTo("hybrid_rrf");
+            assertThat(body.get("experiment_bucket").asText()).isEqualTo("B");
+            assertThat(cached.getTotal()).isEqualTo(2);
+            assertThat(cached.getHits()).extracting(BookHit::getDocId).containsExactly("b1", "b2");
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static DocTombstones tombstones() {
+        return new DocTombstones(new CacheInvalidationProperties());
+    }
+
+    private SearchResponse response(String... docIds) {
+        List<BookHit> hits = new ArrayList<>();
+        for (String docId : docIds) {
+            BookHit hit = new BookHit();
+            hit.setDocId(docId);
+            hits.add(hit);
+        }
+        SearchResponse response = new SearchResponse();
+        response.setHits(hits);
+        response.setTotal(hits.size());
+        return response;
+    }
+
+    private SearchResponse response() {
+        SearchResponse response = new SearchResponse();
+        response.setHits(List.of());
+        response.setTotal(0);
+        return response;
+    }
+}
@@ -0,0 +1,31 @@
+package com.bsl.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SerpL2CacheTest {
+
+    @Test
+    void binaryEncodingRoundTrips() {
+        byte[] body = "{\"hits\":[{\"doc_id\":\"b1\"}]}".getBytes(StandardCharsets.UTF_8);
+        SerializedSerp serp = new SerializedSerp(body, true, "hybrid_rrf_v1", null, "B", List.of("b1", "b2"));
+
+        SerpL2Cache.Entry decoded = SerpL2Cache.decode(SerpL2Cache.encode(serp, 1234L));
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(1234L);
+        assertThat(decoded.getPayload().getBody()).isEqualTo(body);
+        assertThat(decoded.getPayload().isRankingApplied()).isTrue();
+        assertThat(decoded.getPayload().getStrategy()).isEqualTo("hybrid_rrf_v1");
+        assertThat(decoded.getPayload().getTotal()).isNull();
+        assertThat(decoded.getPayload().getExperimentBucket()).isEqualTo("B");
+        assertThat(decoded.getPayload().getDocIds()).containsExactly("b1", "b2");
+    }
+
+    @Test
+    void unknownFormatIsAMiss() {
+        assertThat(SerpL2Cache.decode(new byte[] {9, 0, 0})).isNull();
+    }
+}
@@ -0,0 +1,91 @@
+package com.bsl.search.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("k", 5_000L, () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "value";
+            }, shared -> "copy:" + shared));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> follower = executor.submit(() -> singleFlight.execute("k", 5_000L, () -> {
+                loads.incrementAndGet();
+                return "own";
+            }, shared -> "copy:" + shared));
+            while (singleFlight.inFlightCount() == 0) {
+                Thread.onSpinWait();
+            }
+            Thread.sleep(50L);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("copy:value");
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void followerComputesOwnValueWhenLeaderIsTooSlow() throws Exception {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> singleFlight.execute("k", 0L, () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "value";
+            }, shared -> shared));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            String result = singleFlight.execute("k", 10L, () -> "own", shared -> "copy:" + shared);
+
+            assertThat(result).isEqualTo("own");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void leaderFailureIsPropagated() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> singleFlight.execute("k", 10L, () -> {
+            throw new IllegalStateException("boom");
+        }, shared -> shared)).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.bsl.search.embed;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class EmbeddingBatcherTest {
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private EmbeddingBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentTextsShareOneCallAndGetTheirOwnVectors() throws Exception {
+        RecordingGateway gateway = new RecordingGateway(null);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        batcher = new EmbeddingBatcher(gateway, properties(8, 200), meterRegistry);
+
+        List<String> texts = List.of("해리 포터", "토지", "해리 포터", "데미안", "코스모스", "토지");
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<float[]>> futures = new ArrayList<>();
+        for (String text : texts) {
+            futures.add(callers.submit(() -> {
+                start.await();
+                return batcher.embed(text, 1000, "trace-" + text, "request-" + text);
+            }));
+        }
+        start.countDown();
+
+        for (int i = 0; i < texts.size(); i++) {
+            assertArrayEquals(RecordingGateway.vectorFor(texts.get(i)), futures.get(i).get());
+        }
+        assertEquals(1, gateway.batches.size());
+        assertEquals(4, gateway.batches.get(0).size());
+        assertEquals(Set.copyOf(texts), Set.copyOf(gateway.batches.get(0)));
+        assertEquals(4, gateway.traceIds.get(0).size());
+        assertTrue(gateway.traceIds.get(0).contains("trace-데미안"));
+        assertEquals(4, gateway.requestIds.get(0).size());
+        assertEquals(6.0d, meterRegistry.get("sr_embed_batch_size").summary().totalAmount());
+        assertEquals(6L, meterRegistry.get("sr_embed_batch_wait_ms").timer().count());
+    }
+
+    @Test
+    void batchFailureReachesEveryCaller() throws Exception {
+        RecordingGateway gateway = new RecordingGateway(new EmbeddingUnavailableException("embed_http_503"));
+        batcher = new EmbeddingBatcher(gateway, properties(4, 50), new SimpleMeterRegistry());
+
+        Future<float[]> first = callers.submit(() -> batcher.embed("토지", 1000, null, null));
+        Future<float[]> second = callers.submit(() -> batcher.embed("데미안", 1000, null, null));
+
+        for (Future<float[]> future : List.of(first, second)) {
+            Exception error = assertThrows(Exception.class, future::get);
+            assertTrue(error.getCause() instanceof EmbeddingUnavailableException);
+            assertEquals("embed_http_503", error.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void fullSenderPoolFailsTheBatchInsteadOfBlockingTheDispatcher() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingGateway gateway = new RecordingGateway(null, release);
+        EmbeddingProperties properties = properties(1, 0);
+        properties.getBatch().setMaxInFlight(1);
+        batcher = new EmbeddingBatcher(gateway, properties, new SimpleMeterRegistry());
+
+        // One batch is sending, one waits in the hand-off queue, the third is rejected.
+        Future<float[]> sending = callers.submit(() -> batcher.embed("토지", 5000, null, null));
+        gateway.started.await(1, TimeUnit.SECONDS);
+        Future<float[]> queued = callers.submit(() -> batcher.embed("데미안", 5000, null, null));
+        Thread.sleep(50);
+        Future<float[]> rejected = callers.submit(() -> batcher.embed("코스모스", 5000, null, null));
+
+        Exception error = assertThrows(Exception.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof EmbeddingUnavailableException);
+        assertEquals("embed_rejected", error.getCause().getMessage());
+
+        release.countDown();
+        assertArrayEquals(RecordingGateway.vectorFor("토지"), sending.get(1, TimeUnit.SECONDS));
+        assertArrayEquals(RecordingGateway.vectorFor("데미안"), queued.get(1, TimeUnit.SECONDS));
+    }
+
+    private static EmbeddingProperties properties(int maxBatchSize, int maxWaitMs) {
+        EmbeddingProperties properties = new EmbeddingProperties();
+        properties.setBaseUrl("http://localhost:8005");
+        properties.getBatch().setEnabled(true);
+        properties.getBatch().setMaxBatchSize(maxBatchSize);
+        properties.getBatch().setMaxWaitMs(maxWaitMs);
+        return properties;
+    }
+
+    private static final class RecordingGateway extends EmbeddingGateway {
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private final List<List<String>> traceIds = new CopyOnWriteArrayList<>();
+        private final List<List<String>> requestIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final RuntimeException failure;
+        private final CountDownLatch release;
+
+        private RecordingGateway(RuntimeException failure) {
+            this(failure, null);
+        }
+
+        private RecordingGateway(RuntimeException failure, CountDownLatch release) {
+            super(new RestTemplate(), new EmbeddingProperties());
+            this.failure = failure;
+            this.release = release;
+        }
+
+        @Override
+        public List<float[]> embedBatch(
+            List<String> texts,
+            Integer timeBudgetMs,
+            List<String> traceIds,
+            List<String> requestIds
+        ) {
+            batches.add(List.copyOf(texts));
+            this.traceIds.add(List.copyOf(traceIds));
+            this.requestIds.add(List.copyOf(requestIds));
+            started.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return texts.stream().map(RecordingGateway::vectorFor).toList();
+        }
+
+        private static float[] vectorFor(String text) {
+            return new float[] {text.length(), text.hashCode()};
+        }
+    }
+}
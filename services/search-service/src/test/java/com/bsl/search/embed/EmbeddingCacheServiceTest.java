@@ -1,9 +1,10 @@
 package com.bsl.search.embed;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.List;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingCacheServiceTest {
@@ -16,8 +17,8 @@ class EmbeddingCacheServiceTest {
         cache.setNormalize(true);
         props.setCache(cache);
 
-        EmbeddingCacheService service = new EmbeddingCacheService(props);
-        service.put("Hello", List.of(0.1));
+        EmbeddingCacheService service = new EmbeddingCacheService(props, new SimpleMeterRegistry());
+        service.put("Hello", new float[] {0.1f});
         assertTrue(service.get("hello").isPresent());
 
         EmbeddingProperties propsNoNorm = new EmbeddingProperties();
@@ -26,8 +27,30 @@ class EmbeddingCacheServiceTest {
         cacheNoNorm.setNormalize(false);
         propsNoNorm.setCache(cacheNoNorm);
 
-        EmbeddingCacheService noNormService = new EmbeddingCacheService(propsNoNorm);
-        noNormService.put("Hello", List.of(0.2));
+        EmbeddingCacheService noNormService = new EmbeddingCacheService(propsNoNorm, new SimpleMeterRegistry());
+        noNormService.put("Hello", new float[] {0.2f});
         assertFalse(noNormService.get("hello").isPresent());
     }
+
+    @Test
+    void int8QuantizedEntriesRoundTripWithinOneStep() {
+        EmbeddingProperties props = new EmbeddingProperties();
+        props.getCache().setEnabled(true);
+        props.getCache().setQuantization(EmbeddingQuantization.INT8);
+        EmbeddingCacheService service = new EmbeddingCacheService(props, new SimpleMeterRegistry());
+
+        float[] vector = new ToyEmbedder().embed("해리 포터");
+        service.put("해리 포터", vector);
+        float[] cached = service.get("해리 포터").orElseThrow();
+
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float step = maxAbs / 127f;
+        assertEquals(vector.length, cached.length);
+        for (int i = 0; i < vector.length; i++) {
+            assertEquals(vector[i], cached[i], step / 2 + 1e-6f);
+        }
+    }
 }
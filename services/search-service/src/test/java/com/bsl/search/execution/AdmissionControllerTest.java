@@ -0,0 +1,84 @@
+package com.bsl.search.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControllerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SearchBulkheads bulkheads;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (bulkheads != null) {
+            bulkheads.shutdown();
+        }
+    }
+
+    @Test
+    void degradesThenShedsAsRetrievalQueueFills() throws Exception {
+        SearchExecutionProperties properties = new SearchExecutionProperties();
+        properties.setRetrieval(new SearchExecutionProperties.Pool(1, 2));
+        bulkheads = new SearchBulkheads(properties, meterRegistry);
+        AdmissionController controller = new AdmissionController(properties, bulkheads, meterRegistry);
+        Bulkhead retrieval = bulkheads.getRetrieval();
+
+        CountDownLatch running = new CountDownLatch(1);
+        retrieval.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        assertDecision(controller, AdmissionController.Decision.FULL);
+
+        retrieval.execute(() -> await(release));
+        assertDecision(controller, AdmissionController.Decision.LEXICAL_ONLY);
+
+        retrieval.execute(() -> await(release));
+        assertDecision(controller, AdmissionController.Decision.SHED);
+
+        assertThatThrownBy(() -> retrieval.execute(() -> { }))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("sr_executor_rejected_total").tag("pool", "retrieval").counter().count())
+            .isEqualTo(1.0d);
+        assertThat(meterRegistry.get("sr_executor_queue_depth").tag("pool", "retrieval").gauge().value())
+            .isEqualTo(2.0d);
+    }
+
+    @Test
+    void shedsAboveMaxInFlightAndReleasesOnClose() {
+        SearchExecutionProperties properties = new SearchExecutionProperties();
+        properties.getAdmission().setMaxInFlight(1);
+        bulkheads = new SearchBulkheads(properties, meterRegistry);
+        AdmissionController controller = new AdmissionController(properties, bulkheads, meterRegistry);
+
+        try (AdmissionController.Permit first = controller.admit()) {
+            assertThat(first.getDecision()).isEqualTo(AdmissionController.Decision.FULL);
+            assertDecision(controller, AdmissionController.Decision.SHED);
+        }
+        assertDecision(controller, AdmissionController.Decision.FULL);
+        assertThat(meterRegistry.get("sr_search_in_flight").gauge().value()).isZero();
+    }
+
+    private static void assertDecision(AdmissionController controller, AdmissionController.Decision expected) {
+        try (AdmissionController.Permit permit = controller.admit()) {
+            assertThat(permit.getDecision()).isEqualTo(expected);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
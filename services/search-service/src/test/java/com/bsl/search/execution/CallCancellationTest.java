@@ -0,0 +1,101 @@
+package com.bsl.search.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CallCancellationTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void cancelAbortsInFlightCallAndReportsOrphan() throws Exception {
+        CountDownLatch attached = new CountDownLatch(1);
+        CountDownLatch aborted = new CountDownLatch(1);
+        AtomicInteger orphaned = new AtomicInteger();
+
+        CompletableFuture<String> future = CallCancellation.supplyAsync(() -> {
+            try (CallCancellation.Call call = CallCancellation.begin()) {
+                CallCancellation.attach(aborted::countDown);
+                attached.countDown();
+                aborted.await(5, TimeUnit.SECONDS);
+                return "done";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "interrupted";
+            }
+        }, executor, orphaned::addAndGet);
+
+        assertThat(attached.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(true)).isTrue();
+
+        assertThat(aborted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(orphaned.get()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledTaskIsSkippedAndLateCallsAbortAtOnce() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AtomicBoolean ran = new AtomicBoolean();
+        CompletableFuture<String> queued = CallCancellation.supplyAsync(() -> {
+            ran.set(true);
+            return "x";
+        }, executor, null);
+
+        assertThat(queued.cancel(true)).isTrue();
+        blocker.countDown();
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        assertThat(ran).isFalse();
+
+        AtomicBoolean lateAbort = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CallCancellation.supplyAsync(() -> {
+            started.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try (CallCancellation.Call call = CallCancellation.begin()) {
+                CallCancellation.attach(() -> lateAbort.set(true));
+            }
+            return lateAbort.get();
+        }, executor, null);
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        running.cancel(true);
+        proceed.countDown();
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        assertThat(lateAbort).isTrue();
+    }
+
+    @Test
+    void beginOutsideStageIsNoOp() {
+        try (CallCancellation.Call call = CallCancellation.begin()) {
+            CallCancellation.attach(() -> {
+                throw new AssertionError("should not abort");
+            });
+        }
+    }
+}
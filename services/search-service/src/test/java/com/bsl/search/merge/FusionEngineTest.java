@@ -0,0 +1,132 @@
+package com.bsl.search.merge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FusionEngineTest {
+
+    @Test
+    void matchesMapAndSortFusionIncludingTieBreaks() {
+        Random random = new Random(3);
+        for (int round = 0; round < 50; round++) {
+            int count = 1 + random.nextInt(120);
+            List<String> lex = randomDocIds(random, count);
+            List<String> vec = randomDocIds(random, count);
+            Map<String, Double> lexScores = Map.of(lex.get(0), 12.5);
+            Map<String, Double> vecScores = Map.of(vec.get(0), 0.8);
+            double lexWeight = round % 2 == 0 ? 1.0 : 0.7;
+            double vecWeight = round % 2 == 0 ? 1.0 : 1.3;
+
+            List<RrfFusion.Candidate> expected = reference(lex, vec, 60, lexWeight, vecWeight, lexScores, vecScores);
+            List<RrfFusion.Candidate> actual = FusionEngine.fuse(
+                lex,
+                vec,
+                60,
+                lexWeight,
+                vecWeight,
+                lexScores,
+                vecScores,
+                random.nextInt(count + 1)
+            );
+
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                RrfFusion.Candidate want = expected.get(i);
+                RrfFusion.Candidate got = actual.get(i);
+                assertThat(got.getDocId()).isEqualTo(want.getDocId());
+                assertThat(got.getScore()).isEqualTo(want.getScore());
+                assertThat(got.getLexRank()).isEqualTo(want.getLexRank());
+                assertThat(got.getVecRank()).isEqualTo(want.getVecRank());
+                assertThat(got.getFusedRank()).isEqualTo(want.getFusedRank());
+                assertThat(got.getBm25Score()).isEqualTo(want.getBm25Score());
+                assertThat(got.getVecScore()).isEqualTo(want.getVecScore());
+            }
+        }
+    }
+
+    @Test
+    void docIdsListsHeadInOrderWithoutSortingTail() {
+        FusedCandidates fused = FusionEngine.fuse(
+            List.of("c", "a", "b", "d"),
+            List.of("b", "e"),
+            60,
+            1.0,
+            1.0,
+            Map.of(),
+            Map.of(),
+            2
+        );
+
+        assertThat(fused).hasSize(5);
+        assertThat(fused.docIds()).hasSize(5).startsWith("b", "c");
+        assertThat(fused.docIds()).containsExactlyInAnyOrder("a", "b", "c", "d", "e");
+        assertThat(fused.get(4).getDocId()).isEqualTo("d");
+        assertThat(fused.docIds()).containsExactly("b", "c", "a", "e", "d");
+    }
+
+    private static List<String> randomDocIds(Random random, int count) {
+        List<String> docIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            docIds.add("b" + random.nextInt(count * 2));
+        }
+        return docIds;
+    }
+
+    /** Previous implementation: first-occurrence rank maps, a candidate map and a full sort. */
+    private static List<RrfFusion.Candidate> reference(
+        List<String> lex,
+        List<String> vec,
+        int k,
+        double lexWeight,
+        double vecWeight,
+        Map<String, Double> lexScores,
+        Map<String, Double> vecScores
+    ) {
+        Map<String, Object[]> byId = new HashMap<>();
+        Map<String, Integer> lexRanks = new HashMap<>();
+        for (int i = 0; i < lex.size(); i++) {
+            lexRanks.putIfAbsent(lex.get(i), i + 1);
+        }
+        Map<String, Integer> vecRanks = new HashMap<>();
+        for (int i = 0; i < vec.size(); i++) {
+            vecRanks.putIfAbsent(vec.get(i), i + 1);
+        }
+        for (Map.Entry<String, Integer> entry : lexRanks.entrySet()) {
+            Object[] row = byId.computeIfAbsent(entry.getKey(), key -> new Object[] {key, 0.0d, null, null});
+            row[1] = (double) row[1] + lexWeight * (1.0 / (k + entry.getValue()));
+            row[2] = entry.getValue();
+        }
+        for (Map.Entry<String, Integer> entry : vecRanks.entrySet()) {
+            Object[] row = byId.computeIfAbsent(entry.getKey(), key -> new Object[] {key, 0.0d, null, null});
+            row[1] = (double) row[1] + vecWeight * (1.0 / (k + entry.getValue()));
+            row[3] = entry.getValue();
+        }
+        List<Object[]> rows = new ArrayList<>(byId.values());
+        rows.sort(
+            Comparator.comparingDouble((Object[] row) -> (double) row[1]).reversed()
+                .thenComparing(row -> (String) row[0])
+        );
+        List<RrfFusion.Candidate> fused = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            String docId = (String) row[0];
+            fused.add(new RrfFusion.Candidate(
+                docId,
+                (double) row[1],
+                (Integer) row[2],
+                (Integer) row[3],
+                i + 1,
+                row[2] == null ? null : lexScores.get(docId),
+                row[3] == null ? null : vecScores.get(docId)
+            ));
+        }
+        return fused;
+    }
+}
@@ -0,0 +1,69 @@
+package com.bsl.search.opensearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bsl.search.execution.CallCancellation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class OpenSearchConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsOverLimitAndBacksOffOnDroppedCalls() {
+        OpenSearchConcurrencyLimiter limiter = new OpenSearchConcurrencyLimiter(properties(2), meterRegistry);
+        CallCancellation.Call call = CallCancellation.begin();
+
+        OpenSearchConcurrencyLimiter.Permit first = limiter.acquire(call);
+        OpenSearchConcurrencyLimiter.Permit second = limiter.acquire(call);
+        assertThatThrownBy(() -> limiter.acquire(call))
+            .isInstanceOf(OpenSearchConcurrencyLimitedException.class)
+            .hasMessage(OpenSearchConcurrencyLimitedException.REASON);
+
+        first.close();
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThatThrownBy(() -> limiter.acquire(call)).isInstanceOf(OpenSearchConcurrencyLimitedException.class);
+        second.answered(false);
+        second.close();
+        assertThat(meterRegistry.counter("sr_opensearch_limited_total").count()).isEqualTo(2.0d);
+    }
+
+    @Test
+    void growsWhileTheLimitIsInUseAndLatencyIsSteady() {
+        OpenSearchConcurrencyLimiter limiter = new OpenSearchConcurrencyLimiter(properties(4), meterRegistry);
+        CallCancellation.Call call = CallCancellation.begin();
+        OpenSearchConcurrencyLimiter.Permit held1 = limiter.acquire(call);
+        OpenSearchConcurrencyLimiter.Permit held2 = limiter.acquire(call);
+
+        for (int i = 0; i < 20; i++) {
+            try (OpenSearchConcurrencyLimiter.Permit permit = limiter.acquire(call)) {
+                permit.answered(false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+        held1.answered(false);
+        held1.close();
+        held2.answered(false);
+        held2.close();
+    }
+
+    @Test
+    void disabledLimiterNeverRejects() {
+        OpenSearchConcurrencyLimiter limiter = OpenSearchConcurrencyLimiter.disabled();
+        CallCancellation.Call call = CallCancellation.begin();
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(call);
+        }
+    }
+
+    private static OpenSearchProperties properties(int initialLimit) {
+        OpenSearchProperties properties = new OpenSearchProperties();
+        properties.setConcurrencyLimitInitial(initialLimit);
+        properties.setConcurrencyLimitMin(1);
+        properties.setConcurrencyLimitMax(32);
+        return properties;
+    }
+}
@@ -6,8 +6,10 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
+import com.bsl.search.execution.CallCancellation;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +27,7 @@ class OpenSearchGatewayTest {
     void lexicalQueryUsesV2FieldsAndVisibilityFilter() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
         MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
-        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
 
         server.expect(requestTo("http://localhost:9200/books_doc_read/_search"))
             .andExpect(method(POST))
@@ -35,6 +37,7 @@ class OpenSearchGatewayTest {
                 JsonNode boolNode = root.path("query").path("bool");
 
                 assertThat(root.path("track_total_hits").asBoolean()).isFalse();
+                assertThat(root.path("_source").toString()).isEqualTo("[\"doc_id\"]");
                 assertThat(boolNode.path("minimum_should_match").asInt()).isEqualTo(1);
 
                 JsonNode filter = boolNode.path("filter");
@@ -87,7 +90,7 @@ class OpenSearchGatewayTest {
     void singleCharacterHangulKeepsKoreanLanguageHardFilter() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
         MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
-        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
 
         server.expect(requestTo("http://localhost:9200/books_doc_read/_search"))
             .andExpect(method(POST))
@@ -108,7 +111,7 @@ class OpenSearchGatewayTest {
     void singleTokenHangulNameDoesNotForceKoreanLanguageFilter() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
         MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
-        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
 
         server.expect(requestTo("http://localhost:9200/books_doc_read/_search"))
             .andExpect(method(POST))
@@ -133,7 +136,7 @@ class OpenSearchGatewayTest {
     void lexicalByDslAddsGlobalFilterContract() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
         MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
-        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
 
         server.expect(requestTo("http://localhost:9200/books_doc_read/_search"))
             .andExpect(method(POST))
@@ -165,7 +168,7 @@ class OpenSearchGatewayTest {
     void authorFallbackUsesV2AuthorFieldsWithoutWildcard() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
         MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
-        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
 
         server.expect(requestTo("http://localhost:9200/books_doc_read/_search"))
             .andExpect(method(POST))
@@ -198,11 +201,80 @@ class OpenSearchGatewayTest {
         server.verify();
     }
 
+    @Test
+    void mgetSendsProjectionAsSourceIncludes() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
+
+        server.expect(requestTo(
+                "http://localhost:9200/books_doc_read/_mget?_source_includes="
+                    + SourceProjection.RERANK.getIncludesParam()
+            ))
+            .andExpect(method(POST))
+            .andRespond(withSuccess(
+                "{\"docs\":[{\"_id\":\"b1\",\"found\":true,\"_source\":{\"doc_id\":\"b1\",\"title_ko\":\"책\"}},"
+                    + "{\"_id\":\"b2\",\"found\":false}]}",
+                MediaType.APPLICATION_JSON
+            ));
+
+        Map<String, JsonNode> sources = gateway.mgetSources(List.of("b1", "b2"), null, SourceProjection.RERANK);
+
+        assertThat(sources).containsOnlyKeys("b1");
+        assertThat(sources.get("b1").path("title_ko").asText()).isEqualTo("책");
+        server.verify();
+    }
+
+    @Test
+    void multiSearchSendsNdjsonAndKeepsItemOrder() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
+
+        server.expect(requestTo("http://localhost:9200/_msearch"))
+            .andExpect(method(POST))
+            .andExpect(request -> {
+                assertThat(request.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+                String body = ((MockClientHttpRequest) request).getBodyAsString(StandardCharsets.UTF_8);
+                String[] lines = body.split("\n");
+                assertThat(lines).hasSize(4);
+                assertThat(lines[0]).isEqualTo("{\"index\":\"books_doc_read\"}");
+                assertThat(objectMapper.readTree(lines[1]).path("query").has("bool")).isTrue();
+                assertThat(lines[2]).isEqualTo("{\"index\":\"books_vec_read\"}");
+                assertThat(objectMapper.readTree(lines[3]).path("query").has("knn")).isTrue();
+                assertThat(body).endsWith("\n");
+            })
+            .andRespond(withSuccess(
+                "{\"took\":4,\"responses\":["
+                    + "{\"hits\":{\"hits\":[{\"_id\":\"b1\",\"_score\":3.0}]},\"status\":200},"
+                    + "{\"error\":{\"type\":\"search_phase_execution_exception\",\"reason\":\"x\"},\"status\":400}"
+                    + "]}",
+                MediaType.APPLICATION_JSON
+            ));
+
+        List<OpenSearchMultiSearchItem> items = gateway.multiSearch(
+            List.of(
+                gateway.buildMatchAllRequest(10, List.of(), false),
+                gateway.buildVectorRequest(new float[] {0.1f, 0.2f}, 10, List.of(), false)
+            ),
+            null
+        );
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).isFailed()).isFalse();
+        assertThat(items.get(0).getResult().getDocIds()).containsExactly("b1");
+        assertThat(items.get(0).getResult().getScoresByDocId()).containsEntry("b1", 3.0d);
+        assertThat(items.get(1).isFailed()).isTrue();
+        assertThat(items.get(1).getStatus()).isEqualTo(400);
+        assertThat(items.get(1).getError()).isEqualTo("search_phase_execution_exception");
+        server.verify();
+    }
+
     @Test
     void vectorQueryAddsVisibilityFilterAndDocIdSource() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
         MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
-        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
 
         server.expect(requestTo("http://localhost:9200/books_vec_read/_search"))
             .andExpect(method(POST))
@@ -219,7 +291,7 @@ class OpenSearchGatewayTest {
             .andRespond(withSuccess("{\"hits\":{\"hits\":[]}}", MediaType.APPLICATION_JSON));
 
         gateway.searchVectorDetailed(
-            List.of(0.1d, 0.2d),
+            new float[] {0.1f, 0.2f},
             10,
             null,
             List.of(Map.of("term", Map.of("kdc_code", "800"))),
@@ -232,7 +304,7 @@ class OpenSearchGatewayTest {
     void chunkVectorQueryKeepsProvidedFiltersOnly() throws Exception {
         RestTemplate restTemplate = new RestTemplate();
         MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
-        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties(), OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
 
         server.expect(requestTo("http://localhost:9200/book_chunks_v1/_search"))
             .andExpect(method(POST))
@@ -246,7 +318,7 @@ class OpenSearchGatewayTest {
             .andRespond(withSuccess("{\"hits\":{\"hits\":[]}}", MediaType.APPLICATION_JSON));
 
         gateway.searchChunkVectorDetailed(
-            List.of(0.1d, 0.2d),
+            new float[] {0.1f, 0.2f},
             10,
             null,
             List.of(Map.of("term", Map.of("language_code", "ko"))),
@@ -255,6 +327,51 @@ class OpenSearchGatewayTest {
         server.verify();
     }
 
+    @Test
+    void searchCarriesBudgetLessMarginAsServerTimeout() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        OpenSearchProperties properties = properties();
+        properties.setTerminateAfter(5000);
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties, OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
+
+        server.expect(requestTo("http://localhost:9200/books_doc_read/_search"))
+            .andExpect(method(POST))
+            .andExpect(request -> {
+                String body = ((MockClientHttpRequest) request).getBodyAsString(StandardCharsets.UTF_8);
+                JsonNode root = objectMapper.readTree(body);
+                assertThat(root.path("timeout").asText()).isEqualTo("130ms");
+                assertThat(root.path("terminate_after").asInt()).isEqualTo(5000);
+                assertThat(root.path("query").path("bool").has("must")).isTrue();
+            })
+            .andRespond(withSuccess("{\"hits\":{\"hits\":[]}}", MediaType.APPLICATION_JSON));
+
+        gateway.searchMatchAllDetailed(10, 150, List.of(), false);
+        server.verify();
+    }
+
+    @Test
+    void vectorIndexScanBypassesTheConcurrencyLimit() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        OpenSearchProperties properties = properties();
+        properties.setConcurrencyLimitInitial(1);
+        properties.setConcurrencyLimitMin(1);
+        OpenSearchConcurrencyLimiter limiter = new OpenSearchConcurrencyLimiter(properties, new SimpleMeterRegistry());
+        OpenSearchGateway gateway = new OpenSearchGateway(restTemplate, objectMapper, properties, OpenSearchHedger.disabled(), limiter);
+
+        server.expect(requestTo("http://localhost:9200/books_vec_read/_search"))
+            .andRespond(withSuccess("{\"hits\":{\"hits\":[{\"_id\":\"b1\"}]}}", MediaType.APPLICATION_JSON));
+
+        try (OpenSearchConcurrencyLimiter.Permit held = limiter.acquire(CallCancellation.begin())) {
+            held.answered(false);
+            JsonNode page = gateway.scanVectorIndex(null, 10, List.of("doc_id"), 1000);
+            assertThat(page.get(0).path("_id").asText()).isEqualTo("b1");
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        server.verify();
+    }
+
     private OpenSearchProperties properties() {
         OpenSearchProperties properties = new OpenSearchProperties();
         properties.setBaseUrl("http://localhost:9200");
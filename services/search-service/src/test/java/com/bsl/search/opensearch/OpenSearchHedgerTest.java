@@ -0,0 +1,107 @@
+package com.bsl.search.opensearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bsl.search.execution.CallCancellation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OpenSearchHedgerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowPrimaryIsHedgedWithPreferenceAndAborted() throws Exception {
+        OpenSearchHedger hedger = new OpenSearchHedger(properties(1.0d), executor, meterRegistry);
+        warmUp(hedger);
+        CountDownLatch primaryAborted = new CountDownLatch(1);
+
+        String result = hedger.call("lexical", 2000, (preference, budgetMs) -> {
+            if (preference == null) {
+                return blockUntilAborted(primaryAborted);
+            }
+            assertThat(budgetMs).isLessThan(2000);
+            return "hedge:" + preference;
+        });
+
+        assertThat(result).startsWith("hedge:hedge-");
+        assertThat(primaryAborted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.counter("sr_opensearch_hedge_total", "operation", "lexical", "outcome", "hedge_won").count())
+            .isEqualTo(1.0d);
+    }
+
+    @Test
+    void exhaustedBudgetWaitsForPrimaryWithoutHedging() {
+        OpenSearchHedger hedger = new OpenSearchHedger(properties(0.0d), executor, meterRegistry);
+        warmUp(hedger);
+        for (int i = 0; i < 10; i++) {
+            hedger.call("mget", 2000, (preference, budgetMs) -> preference == null ? slow(40, "primary") : "hedge");
+        }
+
+        String result = hedger.call("mget", 2000, (preference, budgetMs) -> {
+            assertThat(preference).isNull();
+            return slow(40, "primary");
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.counter("sr_opensearch_hedge_total", "operation", "mget", "outcome", "budget_exhausted").count())
+            .isEqualTo(1.0d);
+    }
+
+    @Test
+    void disabledHedgerRunsOnCallerThread() {
+        Thread caller = Thread.currentThread();
+        String result = OpenSearchHedger.disabled().call("lexical", 100, (preference, budgetMs) -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return "direct";
+        });
+        assertThat(result).isEqualTo("direct");
+    }
+
+    private static void warmUp(OpenSearchHedger hedger) {
+        for (String operation : new String[] {"lexical", "mget"}) {
+            for (int i = 0; i < 4; i++) {
+                hedger.call(operation, 2000, (preference, budgetMs) -> "warm");
+            }
+        }
+    }
+
+    private static String blockUntilAborted(CountDownLatch aborted) {
+        try (CallCancellation.Call call = CallCancellation.begin()) {
+            CallCancellation.attach(aborted::countDown);
+            aborted.await(5, TimeUnit.SECONDS);
+            return "primary";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+
+    private static String slow(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static OpenSearchProperties properties(double budgetRatio) {
+        OpenSearchProperties properties = new OpenSearchProperties();
+        properties.setHedgeMinSamples(4);
+        properties.setHedgeMinDelayMs(10);
+        properties.setHedgeBudgetRatio(budgetRatio);
+        return properties;
+    }
+}
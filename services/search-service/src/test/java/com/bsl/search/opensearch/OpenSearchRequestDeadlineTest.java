@@ -0,0 +1,44 @@
+package com.bsl.search.opensearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+class OpenSearchRequestDeadlineTest {
+
+    private static final URI SEARCH_URI = URI.create("http://localhost:9200/books_doc_read/_search");
+
+    @Test
+    void noContextOutsideScope() {
+        assertThat(OpenSearchRequestDeadline.remainingMs()).isNull();
+        assertThat(OpenSearchRequestDeadline.httpContext(HttpMethod.POST, SEARCH_URI)).isNull();
+    }
+
+    @Test
+    void scopeAppliesRemainingBudgetAsResponseTimeout() {
+        try (OpenSearchRequestDeadline.Scope ignored = OpenSearchRequestDeadline.start(150)) {
+            HttpContext context = OpenSearchRequestDeadline.httpContext(HttpMethod.POST, SEARCH_URI);
+
+            assertThat(context).isInstanceOf(HttpClientContext.class);
+            long responseTimeoutMs = ((HttpClientContext) context).getRequestConfig()
+                .getResponseTimeout()
+                .toMilliseconds();
+            assertThat(responseTimeoutMs).isBetween(1L, 150L);
+        }
+        assertThat(OpenSearchRequestDeadline.remainingMs()).isNull();
+    }
+
+    @Test
+    void nestedScopeRestoresOuterDeadline() {
+        try (OpenSearchRequestDeadline.Scope outer = OpenSearchRequestDeadline.start(5000)) {
+            try (OpenSearchRequestDeadline.Scope inner = OpenSearchRequestDeadline.start(null)) {
+                assertThat(OpenSearchRequestDeadline.remainingMs()).isNull();
+            }
+            assertThat(OpenSearchRequestDeadline.remainingMs()).isGreaterThan(1000L);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bsl.search.opensearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OpenSearchResponseParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void searchHitsReadIdsAndScoresInOnePass() throws Exception {
+        String json = "{\"took\":3,\"timed_out\":false,\"hits\":{\"total\":{\"value\":3},\"max_score\":2.5,\"hits\":["
+            + "{\"_index\":\"books\",\"_source\":{\"title_ko\":\"x\",\"doc_id\":\"b1\"},\"_id\":\"os-1\",\"_score\":2.5,"
+            + "\"_explanation\":{\"value\":2.5,\"details\":[{\"value\":1.0}]}},"
+            + "{\"_id\":\"b2\",\"_score\":null},"
+            + "{\"_id\":\"b3\",\"_score\":1,\"_source\":{\"doc_id\":\"\"}}"
+            + "]}}";
+
+        OpenSearchResponseParser.Hits hits;
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            hits = OpenSearchResponseParser.parseSearchHits(parser);
+        }
+
+        assertThat(hits.getDocIds()).containsExactly("b1", "b2", "b3");
+        assertThat(hits.getScoresByDocId()).containsExactly(Map.entry("b1", 2.5d), Map.entry("b3", 1.0d));
+        assertThat(hits.isPartial()).isFalse();
+    }
+
+    @Test
+    void timedOutOrTerminatedEarlyMarksHitsPartial() throws Exception {
+        String timedOut = "{\"timed_out\":true,\"hits\":{\"hits\":[{\"_id\":\"b1\"}]}}";
+        String terminated = "{\"responses\":[{\"terminated_early\":true,\"hits\":{\"hits\":[]},\"status\":200}]}";
+
+        try (JsonParser parser = objectMapper.createParser(timedOut)) {
+            OpenSearchResponseParser.Hits hits = OpenSearchResponseParser.parseSearchHits(parser);
+            assertThat(hits.getDocIds()).containsExactly("b1");
+            assertThat(hits.isPartial()).isTrue();
+        }
+        try (JsonParser parser = objectMapper.createParser(terminated)) {
+            assertThat(OpenSearchResponseParser.parseMultiSearch(parser).get(0).getHits().isPartial()).isTrue();
+        }
+    }
+
+    @Test
+    void mgetKeepsFoundSourcesOnly() throws Exception {
+        String json = "{\"docs\":["
+            + "{\"_index\":\"books\",\"_id\":\"os-1\",\"found\":true,\"_source\":{\"doc_id\":\"b1\",\"authors\":[{\"name_ko\":\"가\"}]}},"
+            + "{\"_index\":\"books\",\"_id\":\"b2\",\"found\":false},"
+            + "{\"_id\":\"b3\",\"_source\":{\"title_ko\":\"셋\"},\"found\":true}"
+            + "]}";
+
+        Map<String, JsonNode> sources;
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            sources = OpenSearchResponseParser.parseMgetSources(parser);
+        }
+
+        assertThat(sources).containsOnlyKeys("b1", "b3");
+        assertThat(sources.get("b1").path("authors").get(0).path("name_ko").asText()).isEqualTo("가");
+        assertThat(sources.get("b3").path("title_ko").asText()).isEqualTo("셋");
+    }
+}
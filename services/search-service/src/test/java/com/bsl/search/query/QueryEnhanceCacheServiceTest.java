@@ -0,0 +1,117 @@
+package com.bsl.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bsl.search.execution.SearchBulkheads;
+import com.bsl.search.execution.SearchExecutionProperties;
+import com.bsl.search.query.dto.QueryEnhanceRequest;
+import com.bsl.search.query.dto.QueryEnhanceResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class QueryEnhanceCacheServiceTest {
+    private final SearchBulkheads bulkheads = new SearchBulkheads(
+        new SearchExecutionProperties(),
+        new SimpleMeterRegistry()
+    );
+
+    @AfterEach
+    void tearDown() {
+        bulkheads.shutdown();
+    }
+
+    @Test
+    void servesCachedAnswerPerQueryLocaleAndReason() {
+        QueryServiceGateway gateway = mock(QueryServiceGateway.class);
+        QueryEnhanceCacheService service = new QueryEnhanceCacheService(
+            new QueryServiceProperties(),
+            gateway,
+            bulkheads,
+            new SimpleMeterRegistry()
+        );
+        QueryEnhanceResponse response = response("해리 포터");
+        service.put(request("해리포터", "LOW_RESULTS"), response);
+
+        assertThat(service.get(request("해리포터", "LOW_RESULTS"))).containsSame(response);
+        assertThat(service.get(request("해리포터", "LOW_SCORE"))).isEmpty();
+        assertThat(service.get(request("해리", "LOW_RESULTS"))).isEmpty();
+    }
+
+    @Test
+    void dueEntryIsServedWhileOneBackgroundCallReplacesIt() throws Exception {
+        QueryServiceProperties properties = new QueryServiceProperties();
+        properties.getCache().setRefreshAfterMs(1L);
+        QueryServiceGateway gateway = mock(QueryServiceGateway.class);
+        QueryEnhanceResponse refreshed = response("해리 포터와 마법사의 돌");
+        when(gateway.enhance(any(), anyInt(), anyString(), anyString(), any())).thenReturn(refreshed);
+        QueryEnhanceCacheService service = new QueryEnhanceCacheService(
+            properties,
+            gateway,
+            bulkheads,
+            new SimpleMeterRegistry()
+        );
+        QueryEnhanceResponse original = response("해리 포터");
+        service.put(request("해리포터", "LOW_RESULTS"), original);
+        Thread.sleep(5L);
+
+        assertThat(service.get(request("해리포터", "LOW_RESULTS"))).containsSame(original);
+        ArgumentCaptor<QueryEnhanceRequest> sent = ArgumentCaptor.forClass(QueryEnhanceRequest.class);
+        ArgumentCaptor<String> traceId = ArgumentCaptor.forClass(String.class);
+        verify(gateway, timeout(1000)).enhance(
+            sent.capture(),
+            eq(properties.getTimeoutMs()),
+            traceId.capture(),
+            anyString(),
+            any()
+        );
+        // The refresh outlives the triggering request: its own ids and its own budget.
+        assertThat(traceId.getValue()).isNotEqualTo("trace-1").isEqualTo(sent.getValue().getTraceId());
+        assertThat(sent.getValue().getRequestId()).isNotEqualTo("req-1");
+        assertThat(sent.getValue().getSignals()).containsEntry("latency_budget_ms", properties.getTimeoutMs());
+        assertThat(sent.getValue().getSignals()).containsEntry("hits", 0);
+
+        long deadline = System.currentTimeMillis() + 1000L;
+        while (service.get(request("해리포터", "LOW_RESULTS")).orElseThrow() != refreshed
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5L);
+        }
+        assertThat(service.get(request("해리포터", "LOW_RESULTS"))).containsSame(refreshed);
+    }
+
+    private static QueryEnhanceRequest request(String qNorm, String reason) {
+        QueryEnhanceRequest request = new QueryEnhanceRequest();
+        request.setTraceId("trace-1");
+        request.setRequestId("req-1");
+        request.setQNorm(qNorm);
+        request.setReason(reason);
+        request.setLocale("ko-KR");
+        Map<String, Object> signals = new HashMap<>();
+        signals.put("hits", 0);
+        signals.put("latency_budget_ms", 7);
+        request.setSignals(signals);
+        return request;
+    }
+
+    private static QueryEnhanceResponse response(String finalText) {
+        QueryEnhanceResponse.FinalQuery finalQuery = new QueryEnhanceResponse.FinalQuery();
+        finalQuery.setText(finalText);
+        finalQuery.setSource("spell");
+        QueryEnhanceResponse response = new QueryEnhanceResponse();
+        response.setDecision("RUN");
+        response.setStrategy("SPELL_ONLY");
+        response.setFinalQuery(finalQuery);
+        return response;
+    }
+}
@@ -0,0 +1,81 @@
+package com.bsl.search.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void opensOnFailureRateAndClosesAfterProbesSucceed() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 5; i++) {
+            breaker.recordSuccess(10);
+        }
+        for (int i = 0; i < 4; i++) {
+            breaker.recordFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+
+        now.addAndGet(1_000L);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.recordSuccess(10);
+        breaker.recordSuccess(10);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(meterRegistry.counter(
+            "sr_circuit_breaker_transitions_total", "breaker", "vector", "from", "half_open", "to", "closed"
+        ).count()).isEqualTo(1.0d);
+    }
+
+    @Test
+    void slowCallsTripAndFailedProbeReopens() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 8; i++) {
+            breaker.recordSuccess(500);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        now.addAndGet(1_000L);
+        assertThat(breaker.allowRequest()).isTrue();
+        breaker.recordSuccess(500);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    void unreportedProbesAreReissuedAfterAnotherInterval() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 10; i++) {
+            breaker.recordFailure();
+        }
+        now.addAndGet(1_000L);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isFalse();
+
+        now.addAndGet(1_000L);
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    private CircuitBreaker breaker() {
+        SearchResilienceProperties.Breaker settings = new SearchResilienceProperties.Breaker(200);
+        settings.setWindowSize(10);
+        settings.setMinimumCalls(8);
+        settings.setOpenMs(1_000L);
+        settings.setHalfOpenProbes(2);
+        return new CircuitBreaker("vector", settings, meterRegistry, now::get);
+    }
+}
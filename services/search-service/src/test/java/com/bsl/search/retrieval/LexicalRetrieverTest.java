@@ -12,13 +12,19 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.bsl.search.cache.CacheInvalidationProperties;
+import com.bsl.search.cache.DocSourceCacheProperties;
+import com.bsl.search.cache.DocSourceCacheService;
+import com.bsl.search.cache.DocTombstones;
 import com.bsl.search.opensearch.OpenSearchGateway;
 import com.bsl.search.opensearch.OpenSearchQueryResult;
+import com.bsl.search.opensearch.SourceProjection;
 import java.util.List;
 import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,9 +35,20 @@ class LexicalRetrieverTest {
     @Mock
     private OpenSearchGateway openSearchGateway;
 
-    @InjectMocks
     private LexicalRetriever lexicalRetriever;
 
+    @BeforeEach
+    void setUp() {
+        lexicalRetriever = new LexicalRetriever(
+            openSearchGateway,
+            new DocSourceCacheService(
+                new DocSourceCacheProperties(),
+                new DocTombstones(new CacheInvalidationProperties()),
+                new SimpleMeterRegistry()
+            )
+        );
+    }
+
     @Test
     void fallsBackToAuthorContainsWhenSingleTokenHangulReturnsNoLexicalHits() {
         when(
@@ -71,7 +88,7 @@ class LexicalRetrieverTest {
         assertThat(result.isError()).isFalse();
         assertThat(result.getDocIds()).containsExactly("nlk:CDM200700007");
         assertThat(result.getQueryDsl()).isEqualTo(Map.of("query", "author_contains"));
-        verify(openSearchGateway, never()).mgetSources(anyList(), any());
+        verify(openSearchGateway, never()).mgetSources(anyList(), any(), any());
         verify(openSearchGateway).searchAuthorContainsFallbackDetailed("혜경", 10, 200, List.of(), false);
     }
 
@@ -91,7 +108,7 @@ class LexicalRetrieverTest {
             )
         ).thenReturn(new OpenSearchQueryResult(List.of("doc-1"), Map.of("query", "lex"), Map.of("doc-1", 1.0d)));
 
-        when(openSearchGateway.mgetSources(List.of("doc-1"), 200))
+        when(openSearchGateway.mgetSources(List.of("doc-1"), 200, SourceProjection.AUTHOR_PROBE))
             .thenReturn(Map.of("doc-1", sourceWithTitle("해리포터와 마법사의 돌")));
 
         RetrievalStageContext context = new RetrievalStageContext(
@@ -133,7 +150,7 @@ class LexicalRetrieverTest {
                 anyBoolean()
             )
         ).thenReturn(new OpenSearchQueryResult(List.of("doc-x"), Map.of("query", "lex"), Map.of("doc-x", 1.0d)));
-        when(openSearchGateway.mgetSources(List.of("doc-x"), 200))
+        when(openSearchGateway.mgetSources(List.of("doc-x"), 200, SourceProjection.AUTHOR_PROBE))
             .thenReturn(Map.of("doc-x", sourceWithAuthor("호춘혜")));
         when(openSearchGateway.searchAuthorContainsFallbackDetailed(anyString(), anyInt(), any(), anyList(), anyBoolean()))
             .thenReturn(new OpenSearchQueryResult(List.of("nlk:CDM200700007"), Map.of("query", "author_contains"), Map.of()));
@@ -158,7 +175,7 @@ class LexicalRetrieverTest {
 
         assertThat(result.isError()).isFalse();
         assertThat(result.getDocIds()).containsExactly("nlk:CDM200700007");
-        verify(openSearchGateway).mgetSources(List.of("doc-x"), 200);
+        verify(openSearchGateway).mgetSources(List.of("doc-x"), 200, SourceProjection.AUTHOR_PROBE);
         verify(openSearchGateway).searchAuthorContainsFallbackDetailed("혜경", 10, 200, List.of(), false);
     }
 
@@ -0,0 +1,138 @@
+package com.bsl.search.retrieval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import com.bsl.search.opensearch.OpenSearchGateway;
+import com.bsl.search.opensearch.OpenSearchQueryResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LocalVectorIndexServiceTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private OpenSearchGateway openSearchGateway;
+
+    @Test
+    void graphSearchRecallsExactNeighbours() {
+        Random random = new Random(7);
+        List<LocalVectorIndex.Document> documents = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            documents.add(new LocalVectorIndex.Document("b" + i, randomVector(random, 32), false, Map.of()));
+        }
+        LocalVectorIndex index = LocalVectorIndex.build(documents, 16, 128);
+        BitSet all = index.accept(List.of());
+
+        int found = 0;
+        for (int q = 0; q < 20; q++) {
+            float[] query = randomVector(random, 32);
+            Set<String> exact = new HashSet<>(index.search(query, 10, 64, all, Integer.MAX_VALUE).getDocIds());
+            for (String docId : index.search(query, 10, 64, all, 0).getDocIds()) {
+                if (exact.contains(docId)) {
+                    found++;
+                }
+            }
+        }
+        assertThat(found / 200.0d).isGreaterThanOrEqualTo(0.9d);
+    }
+
+    @Test
+    void pushesDownVisibilityAndKdcFilters() {
+        when(openSearchGateway.scanVectorIndex(isNull(), eq(2), anyList(), anyInt()))
+            .thenReturn(page(
+                hit("b1", new float[] {1f, 0f}, false, "813"),
+                hit("b2", new float[] {0.9f, 0.1f}, true, "813")
+            ));
+        when(openSearchGateway.scanVectorIndex(eq("b2"), eq(2), anyList(), anyInt()))
+            .thenReturn(page(hit("b3", new float[] {0.8f, 0.2f}, false, "005")));
+
+        LocalVectorIndexService service = service();
+        service.refresh();
+
+        assertThat(service.size()).isEqualTo(3);
+        OpenSearchQueryResult unfiltered = service.search(new float[] {1f, 0f}, 10, List.of());
+        assertThat(unfiltered.getDocIds()).containsExactly("b1", "b3");
+        assertThat(unfiltered.getScoresByDocId().get("b1")).isEqualTo(1.0d, offset(1e-6));
+
+        OpenSearchQueryResult kdc = service.search(
+            new float[] {1f, 0f},
+            10,
+            List.of(Map.of("terms", Map.of("kdc_code", List.of("005", "004"))))
+        );
+        assertThat(kdc.getDocIds()).containsExactly("b3");
+    }
+
+    @Test
+    void unsupportedFilterOrMissingSnapshotFallsBack() {
+        LocalVectorIndexService service = service();
+        assertThat(service.search(new float[] {1f, 0f}, 10, List.of())).isNull();
+
+        when(openSearchGateway.scanVectorIndex(isNull(), eq(2), anyList(), anyInt()))
+            .thenReturn(page(hit("b1", new float[] {1f, 0f}, false, "813")));
+        service.refresh();
+
+        assertThat(service.search(new float[] {1f, 0f}, 10, List.of())).isNotNull();
+        assertThat(service.search(
+            new float[] {1f, 0f},
+            10,
+            List.of(Map.of("range", Map.of("issued_year", Map.of("gte", 2000))))
+        )).isNull();
+    }
+
+    private LocalVectorIndexService service() {
+        VectorSearchProperties properties = new VectorSearchProperties();
+        properties.getLocalHnsw().setPageSize(2);
+        return new LocalVectorIndexService(openSearchGateway, properties, new SimpleMeterRegistry());
+    }
+
+    private static ArrayNode page(ObjectNode... hits) {
+        ArrayNode page = OBJECT_MAPPER.createArrayNode();
+        for (ObjectNode hit : hits) {
+            page.add(hit);
+        }
+        return page;
+    }
+
+    private static ObjectNode hit(String docId, float[] vector, boolean hidden, String kdcCode) {
+        ObjectNode hit = OBJECT_MAPPER.createObjectNode();
+        hit.put("_id", docId);
+        ObjectNode source = hit.putObject("_source");
+        source.put("doc_id", docId);
+        source.put("is_hidden", hidden);
+        source.put("kdc_code", kdcCode);
+        ArrayNode embedding = source.putArray("embedding");
+        for (float value : vector) {
+            embedding.add(value);
+        }
+        hit.putArray("sort").add(docId);
+        return hit;
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
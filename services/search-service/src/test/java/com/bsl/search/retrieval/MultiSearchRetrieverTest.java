@@ -0,0 +1,194 @@
+package com.bsl.search.retrieval;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.bsl.search.cache.CacheInvalidationProperties;
+import com.bsl.search.cache.DocSourceCacheProperties;
+import com.bsl.search.cache.DocSourceCacheService;
+import com.bsl.search.cache.DocTombstones;
+import com.bsl.search.embed.EmbeddingProvider;
+import com.bsl.search.execution.SearchBulkheads;
+import com.bsl.search.execution.SearchExecutionProperties;
+import com.bsl.search.opensearch.OpenSearchConcurrencyLimiter;
+import com.bsl.search.opensearch.OpenSearchGateway;
+import com.bsl.search.opensearch.OpenSearchHedger;
+import com.bsl.search.opensearch.OpenSearchProperties;
+import com.bsl.search.opensearch.SourceProjection;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class MultiSearchRetrieverTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockRestServiceServer server;
+    private OpenSearchGateway gateway;
+    private SearchBulkheads bulkheads;
+    private MultiSearchRetriever retriever;
+
+    @BeforeEach
+    void setUp() {
+        bulkheads = new SearchBulkheads(new SearchExecutionProperties(), new SimpleMeterRegistry());
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        OpenSearchProperties openSearchProperties = new OpenSearchProperties();
+        openSearchProperties.setBaseUrl("http://localhost:9200");
+        openSearchProperties.setDocIndex("books_doc_read");
+        openSearchProperties.setVecIndex("books_vec_read");
+        gateway = new OpenSearchGateway(restTemplate, objectMapper, openSearchProperties, OpenSearchHedger.disabled(), OpenSearchConcurrencyLimiter.disabled());
+        retriever = retriever((text, timeBudgetMs) -> new float[] {0.1f, 0.2f});
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkheads.shutdown();
+    }
+
+    private MultiSearchRetriever retriever(EmbeddingProvider embeddingProvider) {
+        VectorSearchProperties vectorProperties = new VectorSearchProperties();
+        LexicalRetriever lexicalRetriever = new LexicalRetriever(
+            gateway,
+            new DocSourceCacheService(
+                new DocSourceCacheProperties(),
+                new DocTombstones(new CacheInvalidationProperties()),
+                new SimpleMeterRegistry()
+            )
+        );
+        VectorRetriever vectorRetriever = new VectorRetriever(
+            gateway,
+            embeddingProvider,
+            vectorProperties,
+            new VectorResultCacheService(
+                vectorProperties,
+                new DocTombstones(new CacheInvalidationProperties()),
+                new SimpleMeterRegistry()
+            ),
+            new VectorDocPromoter(vectorProperties),
+            new LocalVectorIndexService(gateway, vectorProperties, new SimpleMeterRegistry())
+        );
+        MultiSearchProperties properties = new MultiSearchProperties();
+        properties.setEnabled(true);
+        properties.setEmbedWaitMs(30);
+        return new MultiSearchRetriever(gateway, lexicalRetriever, vectorRetriever, properties, bulkheads);
+    }
+
+    @Test
+    void packsLexicalFallbackAndVectorIntoOneMsearch() {
+        server.expect(requestTo("http://localhost:9200/_msearch"))
+            .andExpect(method(POST))
+            .andExpect(request -> {
+                String body = ((MockClientHttpRequest) request).getBodyAsString(StandardCharsets.UTF_8);
+                assertThat(body.split("\n")).hasSize(6);
+            })
+            .andRespond(withSuccess(
+                "{\"responses\":["
+                    + hits("b1") + ","
+                    + hits("b9") + ","
+                    + hits("b5")
+                    + "]}",
+                MediaType.APPLICATION_JSON
+            ));
+        server.expect(requestTo(
+                "http://localhost:9200/books_doc_read/_mget?_source_includes="
+                    + SourceProjection.AUTHOR_PROBE.getIncludesParam()
+            ))
+            .andRespond(withSuccess(
+                "{\"docs\":[{\"_id\":\"b1\",\"found\":true,\"_source\":{\"doc_id\":\"b1\",\"title_ko\":\"다른 책\"}}]}",
+                MediaType.APPLICATION_JSON
+            ));
+
+        MultiSearchRetriever.Results results = retriever.retrieve(context("혜경"), context("혜경"), 200);
+
+        assertThat(results.getLexical().isError()).isFalse();
+        assertThat(results.getLexical().getDocIds()).containsExactly("b9");
+        assertThat(results.getVector().getDocIds()).containsExactly("b5");
+        server.verify();
+    }
+
+    @Test
+    void failedItemOnlyFailsItsOwnStage() {
+        server.expect(requestTo("http://localhost:9200/_msearch"))
+            .andExpect(request -> {
+                String body = ((MockClientHttpRequest) request).getBodyAsString(StandardCharsets.UTF_8);
+                assertThat(body.split("\n")).hasSize(4);
+            })
+            .andRespond(withSuccess(
+                "{\"responses\":["
+                    + hits("b1") + ","
+                    + "{\"error\":{\"type\":\"query_shard_exception\"},\"status\":400}"
+                    + "]}",
+                MediaType.APPLICATION_JSON
+            ));
+
+        MultiSearchRetriever.Results results = retriever.retrieve(context("해리 포터"), context("해리 포터"), 200);
+
+        assertThat(results.getLexical().getDocIds()).containsExactly("b1");
+        assertThat(results.getVector().isError()).isTrue();
+        assertThat(results.getVector().getErrorMessage()).contains("query_shard_exception");
+        server.verify();
+    }
+
+    @Test
+    void slowEmbeddingSendsLexicalOnlyMsearch() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        MultiSearchRetriever slow = retriever((text, timeBudgetMs) -> {
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new float[] {0.1f, 0.2f};
+        });
+        server.expect(requestTo("http://localhost:9200/_msearch"))
+            .andExpect(request -> {
+                String body = ((MockClientHttpRequest) request).getBodyAsString(StandardCharsets.UTF_8);
+                assertThat(body.split("\n")).hasSize(2);
+            })
+            .andRespond(withSuccess("{\"responses\":[" + hits("b1") + "]}", MediaType.APPLICATION_JSON));
+
+        MultiSearchRetriever.Results results = slow.retrieve(context("해리 포터"), context("해리 포터"), 200);
+        release.countDown();
+
+        assertThat(results.getLexical().getDocIds()).containsExactly("b1");
+        assertThat(results.getVector().isSkipped()).isTrue();
+        assertThat(results.getVector().getErrorMessage()).isEqualTo("vector_embed_timeout");
+        server.verify();
+    }
+
+    private static String hits(String docId) {
+        return "{\"hits\":{\"hits\":[{\"_id\":\"" + docId + "\",\"_score\":1.0}]},\"status\":200}";
+    }
+
+    private static RetrievalStageContext context(String query) {
+        return new RetrievalStageContext(
+            query,
+            10,
+            null,
+            200,
+            null,
+            null,
+            List.of(),
+            null,
+            null,
+            false,
+            false,
+            "trace",
+            "request"
+        );
+    }
+}
@@ -2,6 +2,8 @@ package com.bsl.search.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -9,24 +11,48 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.bsl.search.api.dto.Options;
+import com.bsl.search.api.dto.PreSerializedSearchResponse;
+import com.bsl.search.api.dto.PreSerializedSearchResponse;
 import com.bsl.search.api.dto.SearchRequest;
 import com.bsl.search.api.dto.SearchResponse;
 import com.bsl.search.cache.BookDetailCacheService;
+import com.bsl.search.cache.CacheInvalidationProperties;
+import com.bsl.search.cache.CandidateCacheProperties;
+import com.bsl.search.cache.CandidateCacheService;
+import com.bsl.search.cache.DocSourceCacheProperties;
+import com.bsl.search.cache.DocSourceCacheService;
+import com.bsl.search.cache.DocTombstones;
+import com.bsl.search.cache.NegativeResultCacheProperties;
+import com.bsl.search.cache.NegativeResultCacheService;
 import com.bsl.search.cache.SerpCacheService;
+import com.bsl.search.cover.CoverImageService;
+import com.bsl.search.cover.CoverProperties;
+import com.bsl.search.execution.AdmissionController;
+import com.bsl.search.execution.SearchBulkheads;
+import com.bsl.search.execution.SearchExecutionProperties;
 import com.bsl.search.opensearch.OpenSearchGateway;
+import com.bsl.search.query.QueryEnhanceCacheService;
 import com.bsl.search.query.QueryServiceGateway;
 import com.bsl.search.query.QueryServiceProperties;
 import com.bsl.search.retrieval.FusionPolicyProperties;
 import com.bsl.search.retrieval.LexicalRetriever;
+import com.bsl.search.retrieval.MultiSearchProperties;
+import com.bsl.search.retrieval.MultiSearchRetriever;
+import com.bsl.search.retrieval.RetrievalStageContext;
 import com.bsl.search.retrieval.RetrievalStageResult;
 import com.bsl.search.retrieval.VectorRetriever;
 import com.bsl.search.resilience.SearchResilienceProperties;
 import com.bsl.search.resilience.SearchResilienceRegistry;
 import com.bsl.search.ranking.RankingGateway;
 import com.bsl.search.ranking.RankingUnavailableException;
+import com.bsl.search.ranking.dto.RerankRequest;
 import com.bsl.search.ranking.dto.RerankResponse;
 import com.bsl.search.service.grouping.MaterialGroupingProperties;
 import com.bsl.search.service.grouping.MaterialGroupingService;
@@ -34,15 +60,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -72,13 +100,15 @@ class HybridSearchServiceRankingTest {
 
     private HybridSearchService service;
     private ObjectMapper objectMapper;
-    private ExecutorService executorService;
+    private SearchBulkheads bulkheads;
+    private SearchExecutionProperties executionProperties;
 
     @BeforeEach
     void setUp() {
-        executorService = Executors.newSingleThreadExecutor();
+        executionProperties = new SearchExecutionProperties();
+        bulkheads = new SearchBulkheads(executionProperties, new SimpleMeterRegistry());
         SearchResilienceProperties properties = new SearchResilienceProperties();
-        SearchResilienceRegistry resilienceRegistry = new SearchResilienceRegistry(properties);
+        SearchResilienceRegistry resilienceRegistry = new SearchResilienceRegistry(properties, new SimpleMeterRegistry());
         FusionPolicyProperties fusionPolicy = new FusionPolicyProperties();
         MaterialGroupingProperties groupingProperties = new MaterialGroupingProperties();
         groupingProperties.setEnabled(false);
@@ -94,12 +124,25 @@ class HybridSearchServiceRankingTest {
             openSearchGateway,
             lexicalRetriever,
             vectorRetriever,
+            new MultiSearchRetriever(openSearchGateway, lexicalRetriever, vectorRetriever, new MultiSearchProperties(), bulkheads),
             fusionPolicy,
             rankingGateway,
             resilienceRegistry,
             serpCacheService,
             bookDetailCacheService,
-            executorService,
+            new DocSourceCacheService(
+                new DocSourceCacheProperties(),
+                new DocTombstones(new CacheInvalidationProperties()),
+                new SimpleMeterRegistry()
+            ),
+            new CandidateCacheService(
+                new CandidateCacheProperties(),
+                new DocTombstones(new CacheInvalidationProperties()),
+                new SimpleMeterRegistry()
+            ),
+            new NegativeResultCacheService(new NegativeResultCacheProperties(), new SimpleMeterRegistry()),
+            bulkheads,
+            new AdmissionController(executionProperties, bulkheads, new SimpleMeterRegistry()),
             new com.bsl.search.experiment.SearchExperimentProperties(),
             groupingService,
             rerankPolicy,
@@ -107,6 +150,8 @@ class HybridSearchServiceRankingTest {
             qualityEvaluator,
             queryServiceGateway,
             queryServiceProperties,
+            new QueryEnhanceCacheService(queryServiceProperties, queryServiceGateway, bulkheads, new SimpleMeterRegistry()),
+            new CoverImageService(new CoverProperties(), new SimpleMeterRegistry()),
             new SimpleMeterRegistry()
         );
         objectMapper = new ObjectMapper();
@@ -115,7 +160,7 @@ class HybridSearchServiceRankingTest {
 
     @AfterEach
     void tearDown() {
-        executorService.shutdownNow();
+        bulkheads.shutdown();
     }
 
     @Test
@@ -123,7 +168,7 @@ class HybridSearchServiceRankingTest {
         SearchRequest request = buildRequest("harry");
         when(lexicalRetriever.retrieve(any()))
             .thenReturn(RetrievalStageResult.success(List.of("b1", "b2"), Map.of(), null, 5L));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
 
         RerankResponse rerankResponse = new RerankResponse();
         RerankResponse.Hit hit1 = new RerankResponse.Hit();
@@ -146,16 +191,115 @@ class HybridSearchServiceRankingTest {
         assertEquals("b2", response.getHits().get(0).getDocId());
         assertEquals("b1", response.getHits().get(1).getDocId());
         assertEquals(0.9, response.getHits().get(0).getDebug().getRankingScore());
-        assertTrue(response.getHits().get(0).getSource().getCoverUrl().startsWith("data:image/svg+xml;utf8,"));
+        assertTrue(response.getHits().get(0).getSource().getCoverUrl().startsWith("/covers/b2.svg?v="));
         assertEquals("https://cdn.example.com/covers/b1.jpg", response.getHits().get(1).getSource().getCoverUrl());
     }
 
+    @Test
+    void nextPageIsSlicedFromCachedCandidatesAndExtendsRerankWindow() {
+        List<String> docIds = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            docIds.add("b" + i);
+        }
+        when(lexicalRetriever.retrieve(any()))
+            .thenReturn(RetrievalStageResult.success(docIds, Map.of(), null, 5L));
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
+        when(rankingGateway.rerank(eq("harry"), anyList(), anyInt(), anyInt(), anyBoolean(), anyString(), anyString(), any()))
+            .thenAnswer(invocation -> reversedRanking(invocation.getArgument(1)));
+
+        SearchResponse first = service.search(buildRequest("harry", 0, 5), "trace-1", "req-1", null);
+        SearchResponse second = service.search(buildRequest("harry", 5, 5), "trace-2", "req-2", null);
+        SearchResponse third = service.search(buildRequest("harry", 10, 5), "trace-3", "req-3", null);
+
+        assertEquals(List.of("b10", "b9", "b8", "b7", "b6"), docIds(first));
+        assertEquals(List.of("b5", "b4", "b3", "b2", "b1"), docIds(second));
+        assertEquals(List.of("b12", "b11"), docIds(third));
+        assertEquals(11, third.getHits().get(0).getRank());
+        assertTrue(third.isRankingApplied());
+        assertEquals(12, third.getTotal());
+        verify(lexicalRetriever, times(1)).retrieve(any());
+        verify(rankingGateway, times(2)).rerank(eq("harry"), anyList(), anyInt(), anyInt(), anyBoolean(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void failedRerankWindowServesTailInFusedOrderWithoutResearching() {
+        List<String> docIds = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            docIds.add("b" + i);
+        }
+        when(lexicalRetriever.retrieve(any()))
+            .thenReturn(RetrievalStageResult.success(docIds, Map.of(), null, 5L));
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
+        when(rankingGateway.rerank(eq("harry"), anyList(), anyInt(), anyInt(), anyBoolean(), anyString(), anyString(), any()))
+            .thenAnswer(invocation -> reversedRanking(invocation.getArgument(1)))
+            .thenThrow(new RankingUnavailableException("down", new RuntimeException("timeout")));
+
+        service.search(buildRequest("harry", 0, 10), "trace-1", "req-1", null);
+        SearchResponse tail = service.search(buildRequest("harry", 10, 5), "trace-2", "req-2", null);
+
+        assertEquals(List.of("b11", "b12"), docIds(tail));
+        assertEquals(11, tail.getHits().get(0).getRank());
+        verify(lexicalRetriever, times(1)).retrieve(any());
+    }
+
+    @Test
+    void staleSerpRefreshRunsUnderFreshIdsAndIsShedUnderOverload() {
+        SerpCacheService.CachedResponse stale = mock(SerpCacheService.CachedResponse.class);
+        when(stale.isStale()).thenReturn(true);
+        when(serpCacheService.isEnabled()).thenReturn(true);
+        when(serpCacheService.buildKey(any())).thenReturn("serp:harry");
+        when(serpCacheService.get("serp:harry")).thenReturn(Optional.of(stale));
+        when(serpCacheService.toResponse(stale))
+            .thenReturn(new PreSerializedSearchResponse("{}".getBytes(StandardCharsets.UTF_8), objectMapper));
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        when(serpCacheService.refreshAsync(eq("serp:harry"), refresh.capture())).thenReturn(true);
+
+        service.search(buildRequest("harry"), "trace-1", "req-1", null);
+
+        executionProperties.getAdmission().setShedQueueRatio(0.0d);
+        refresh.getValue().run();
+        verify(lexicalRetriever, never()).retrieve(any());
+
+        executionProperties.getAdmission().setShedQueueRatio(0.9d);
+        when(lexicalRetriever.retrieve(any())).thenReturn(RetrievalStageResult.success(List.of(), Map.of(), null, 5L));
+        refresh.getValue().run();
+        ArgumentCaptor<RetrievalStageContext> context = ArgumentCaptor.forClass(RetrievalStageContext.class);
+        verify(lexicalRetriever).retrieve(context.capture());
+        assertNotEquals("trace-1", context.getValue().getTraceId());
+        assertNotEquals("req-1", context.getValue().getRequestId());
+    }
+
+    @Test
+    void repeatedZeroResultQueryIsAnsweredFromNegativeCache() {
+        when(lexicalRetriever.retrieve(any()))
+            .thenReturn(RetrievalStageResult.success(List.of(), Map.of(), null, 5L));
+
+        SearchResponse first = service.search(buildRequest("qwzx"), "trace-1", "req-1", null);
+        SearchResponse second = service.search(buildRequest("qwzx", 20, 10), "trace-2", "req-2", null);
+
+        assertTrue(first.getHits().isEmpty());
+        assertTrue(second.getHits().isEmpty());
+        assertEquals(0, second.getTotal());
+        assertEquals("trace-2", second.getTraceId());
+        verify(lexicalRetriever, times(1)).retrieve(any());
+    }
+
+    @Test
+    void emptyResultFromFailedRetrievalIsNotNegativelyCached() {
+        when(lexicalRetriever.retrieve(any())).thenReturn(RetrievalStageResult.error("lexical_error"));
+
+        service.search(buildRequest("qwzx"), "trace-1", "req-1", null);
+        service.search(buildRequest("qwzx"), "trace-2", "req-2", null);
+
+        verify(lexicalRetriever, times(2)).retrieve(any());
+    }
+
     @Test
     void searchFallsBackToRrfWhenRankingUnavailable() {
         SearchRequest request = buildRequest("harry");
         when(lexicalRetriever.retrieve(any()))
             .thenReturn(RetrievalStageResult.success(List.of("b1", "b2"), Map.of(), null, 5L));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildSources());
         when(rankingGateway.rerank(eq("harry"), anyList(), anyInt(), anyInt(), anyBoolean(), anyString(), anyString(), any()))
             .thenThrow(new RankingUnavailableException("down", new RuntimeException("timeout")));
 
@@ -174,7 +318,7 @@ class HybridSearchServiceRankingTest {
             .thenReturn(RetrievalStageResult.success(List.of("cjk-1", "ko-1"), Map.of(), null, 5L));
         when(vectorRetriever.retrieve(any()))
             .thenReturn(RetrievalStageResult.success(List.of("cjk-1", "ko-1"), Map.of(), null, 5L));
-        when(openSearchGateway.mgetSources(anyList(), any())).thenReturn(buildMixedLanguageSources());
+        when(openSearchGateway.mgetSources(anyList(), any(), any())).thenReturn(buildMixedLanguageSources());
         when(rankingGateway.rerank(eq("문화"), anyList(), anyInt(), anyInt(), anyBoolean(), anyString(), anyString(), any()))
             .thenThrow(new RankingUnavailableException("down", new RuntimeException("timeout")));
 
@@ -190,6 +334,31 @@ class HybridSearchServiceRankingTest {
         return buildRequest(raw, false);
     }
 
+    private SearchRequest buildRequest(String raw, int from, int size) {
+        SearchRequest request = buildRequest(raw, false);
+        request.getOptions().setFrom(from);
+        request.getOptions().setSize(size);
+        return request;
+    }
+
+    private static RerankResponse reversedRanking(List<RerankRequest.Candidate> candidates) {
+        List<RerankResponse.Hit> hits = new ArrayList<>();
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            RerankResponse.Hit hit = new RerankResponse.Hit();
+            hit.setDocId(candidates.get(i).getDocId());
+            hit.setScore(1.0 - hits.size() * 0.01);
+            hit.setRank(hits.size() + 1);
+            hits.add(hit);
+        }
+        RerankResponse response = new RerankResponse();
+        response.setHits(hits);
+        return response;
+    }
+
+    private static List<String> docIds(SearchResponse response) {
+        return response.getHits().stream().map(hit -> hit.getDocId()).toList();
+    }
+
     private SearchRequest buildRequest(String raw, boolean enableVector) {
         SearchRequest request = new SearchRequest();
         SearchRequest.Query query = new SearchRequest.Query();